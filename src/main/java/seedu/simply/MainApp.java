@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -14,6 +15,8 @@ import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.simply.commons.core.Config;
+import seedu.simply.commons.core.DispatchOn;
+import seedu.simply.commons.core.DispatchOn.Policy;
 import seedu.simply.commons.core.EventsCenter;
 import seedu.simply.commons.core.LogsCenter;
 import seedu.simply.commons.core.Version;
@@ -28,8 +31,11 @@ import seedu.simply.model.ModelManager;
 import seedu.simply.model.ReadOnlyTaskBook;
 import seedu.simply.model.TaskBook;
 import seedu.simply.model.UserPrefs;
+import seedu.simply.storage.JournaledTaskBookStorage;
+import seedu.simply.storage.JsonUserPrefsStorage;
 import seedu.simply.storage.Storage;
 import seedu.simply.storage.StorageManager;
+import seedu.simply.storage.TaskBookStorage;
 import seedu.simply.ui.Ui;
 import seedu.simply.ui.UiManager;
 
@@ -40,6 +46,7 @@ import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
  */
 public class MainApp extends Application {
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
+    private static final long STOP_TIMEOUT_MILLIS = 10000;
 
     public static final Version VERSION = new Version(1, 0, 0, true);
 
@@ -58,7 +65,10 @@ public class MainApp extends Application {
         super.init();
 
         config = initConfig(getApplicationParameter("config"));
-        storage = new StorageManager(config.getTaskBookFilePath(), config.getUserPrefsFilePath());
+        storage = new StorageManager(initTaskBookStorage(config),
+                new JsonUserPrefsStorage(config.getUserPrefsFilePath()),
+                config.getSaveDebounceMillis(), config.getSaveMaxLatencyMillis());
+        storage.start();
 
         userPrefs = initPrefs(config);
 
@@ -78,6 +88,14 @@ public class MainApp extends Application {
         return applicationParameters.get(parameterName);
     }
 
+    private TaskBookStorage initTaskBookStorage(Config config) {
+        TaskBookStorage taskBookStorage = StorageManager.detectTaskBookStorage(config.getTaskBookFilePath());
+        if (config.isJournaledStorage()) {
+            return new JournaledTaskBookStorage(taskBookStorage);
+        }
+        return taskBookStorage;
+    }
+
     private Model initModelManager(Storage storage, UserPrefs userPrefs, Config config) {
         Optional<ReadOnlyTaskBook> taskBookOptional;
         ReadOnlyTaskBook initialData;
@@ -186,7 +204,12 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping Task Book ] =============================");
         ui.stop();
-        
+
+        // the last changes may still be on their way to storage
+        if (!EventsCenter.getInstance().awaitBackground(STOP_TIMEOUT_MILLIS)) {
+            logger.warning("Gave up waiting for event handlers to finish");
+        }
+        boolean isSaved = stopStorage();
         saveUserPreferences();
 
         Path sourceFilePath = getSourceFilePath();        
@@ -195,7 +218,13 @@ public class MainApp extends Application {
         assert sourceFilePath != null;
         assert targetFilePath != null;
 
-        moveFileToSpecifiedFolder(sourceFilePath, targetFilePath);
+        if (isSaved) {
+            moveFileToSpecifiedFolder(sourceFilePath, targetFilePath);
+        } else {
+            // the data file alone may not hold the latest changes, which a journal left behind still does
+            logger.warning("Not moving the task book to " + targetFilePath + " as it was not fully saved at "
+                    + sourceFilePath);
+        }
 
         Platform.exit();
         System.exit(0);
@@ -205,11 +234,35 @@ public class MainApp extends Application {
     private void moveFileToSpecifiedFolder(Path sourceFilePath, Path targetFilePath) {
         try {
             Files.move(sourceFilePath, targetFilePath, REPLACE_EXISTING);
+            List<Path> sourceJournals = JournaledTaskBookStorage.journalPathsOf(sourceFilePath);
+            List<Path> targetJournals = JournaledTaskBookStorage.journalPathsOf(targetFilePath);
+            for (int i = 0; i < sourceJournals.size(); i++) {
+                if (Files.exists(sourceJournals.get(i))) {
+                    Files.move(sourceJournals.get(i), targetJournals.get(i), REPLACE_EXISTING);
+                }
+            }
         } catch (IOException e) {
             logger.warning("Failed to move file. Please check if file paths are valid.");
         }
     }
     
+    //@@author
+    /**
+     * Saves the last changes and stops storage, telling the user and waiting for them if that fails.
+     * @return false if the data file could not be brought up to date.
+     */
+    private boolean stopStorage() {
+        try {
+            storage.stop();
+            return true;
+        } catch (IOException e) {
+            logger.severe("Failed to save the task book before exiting " + StringUtil.getDetails(e));
+            // the app exits straight after, so the alert must be shown here rather than through an event
+            ui.showExitSavingFailureAndWait(e);
+            return false;
+        }
+    }
+
     //@@author A0147890U
     private void saveUserPreferences() {
         try {
@@ -235,9 +288,12 @@ public class MainApp extends Application {
 
     //@@author
     @Subscribe
+    @DispatchOn(Policy.FX_THREAD)
     public void handleExitAppRequestEvent(ExitAppRequestEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        this.stop();
+        // runs on the FX thread, even when the exit command raised the event on the command executor's thread,
+        // so stop() can wait there for the command executor to finish
+        stop();
     }
 
     public static void main(String[] args) {
@@ -9,6 +9,9 @@ import java.util.logging.Level;
 public class Config {
 
     public static final String DEFAULT_CONFIG_FILE = "config.json";
+    public static final long DEFAULT_SAVE_DEBOUNCE_MILLIS = 200;
+    public static final long DEFAULT_SAVE_MAX_LATENCY_MILLIS = 2000;
+    public static final int DEFAULT_UNDO_LIMIT = 100;
 
     // Config values customizable through config file
     private String appTitle = "Simply";
@@ -16,6 +19,10 @@ public class Config {
     private String userPrefsFilePath = "preferences.json";
     private String taskBookFilePath = "data/taskbook.xml";
     private String taskBookName = "MyTaskBook";
+    private long saveDebounceMillis = DEFAULT_SAVE_DEBOUNCE_MILLIS;
+    private long saveMaxLatencyMillis = DEFAULT_SAVE_MAX_LATENCY_MILLIS;
+    private boolean journaledStorage = true;
+    private int undoLimit = DEFAULT_UNDO_LIMIT;
 
 
     public Config() {
@@ -27,6 +34,10 @@ public class Config {
         this.userPrefsFilePath = config.getUserPrefsFilePath();
         this.taskBookFilePath = config.getTaskBookFilePath();
         this.taskBookName = config.getTaskBookName();
+        this.saveDebounceMillis = config.getSaveDebounceMillis();
+        this.saveMaxLatencyMillis = config.getSaveMaxLatencyMillis();
+        this.journaledStorage = config.isJournaledStorage();
+        this.undoLimit = config.getUndoLimit();
     }
 
     public String getAppTitle() {
@@ -69,6 +80,42 @@ public class Config {
         this.taskBookName = taskBookName;
     }
 
+    /** How long to wait for further changes before saving the task book. */
+    public long getSaveDebounceMillis() {
+        return saveDebounceMillis;
+    }
+
+    public void setSaveDebounceMillis(long saveDebounceMillis) {
+        this.saveDebounceMillis = saveDebounceMillis;
+    }
+
+    /** The longest a change to the task book may wait to be saved while further changes keep coming. */
+    public long getSaveMaxLatencyMillis() {
+        return saveMaxLatencyMillis;
+    }
+
+    public void setSaveMaxLatencyMillis(long saveMaxLatencyMillis) {
+        this.saveMaxLatencyMillis = saveMaxLatencyMillis;
+    }
+
+    /** Whether changes to the task book are appended to a journal instead of rewriting the whole file. */
+    public boolean isJournaledStorage() {
+        return journaledStorage;
+    }
+
+    public void setJournaledStorage(boolean journaledStorage) {
+        this.journaledStorage = journaledStorage;
+    }
+
+    /** The number of commands that can be undone; older ones are forgotten. */
+    public int getUndoLimit() {
+        return undoLimit;
+    }
+
+    public void setUndoLimit(int undoLimit) {
+        this.undoLimit = undoLimit;
+    }
+
 
     @Override
     public boolean equals(Object other) {
@@ -85,12 +132,17 @@ public class Config {
                 && Objects.equals(logLevel, o.logLevel)
                 && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
                 && Objects.equals(taskBookFilePath, o.taskBookFilePath)
-                && Objects.equals(taskBookName, o.taskBookName);
+                && Objects.equals(taskBookName, o.taskBookName)
+                && saveDebounceMillis == o.saveDebounceMillis
+                && saveMaxLatencyMillis == o.saveMaxLatencyMillis
+                && journaledStorage == o.journaledStorage
+                && undoLimit == o.undoLimit;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(appTitle, logLevel, userPrefsFilePath, taskBookFilePath, taskBookName);
+        return Objects.hash(appTitle, logLevel, userPrefsFilePath, taskBookFilePath, taskBookName,
+                saveDebounceMillis, saveMaxLatencyMillis, journaledStorage, undoLimit);
     }
 
     @Override
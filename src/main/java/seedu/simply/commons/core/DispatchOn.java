@@ -0,0 +1,27 @@
+package seedu.simply.commons.core;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares which thread {@link EventsCenter} runs an event handler on.
+ * Handlers without it are run on the thread posting the event.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface DispatchOn {
+
+    /** The threads an event handler can be run on. */
+    enum Policy {
+        /** The thread posting the event, before {@code post} returns. */
+        INLINE,
+        /** The event dispatcher's own thread, one handler at a time in the order the events were posted. */
+        BACKGROUND,
+        /** The JavaFX application thread. */
+        FX_THREAD
+    }
+
+    Policy value();
+}
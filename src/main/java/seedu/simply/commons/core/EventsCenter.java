@@ -1,19 +1,64 @@
 package seedu.simply.commons.core;
 
-import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
 
+import javafx.application.Platform;
+import seedu.simply.commons.core.DispatchOn.Policy;
 import seedu.simply.commons.events.BaseEvent;
+import seedu.simply.commons.events.CoalescibleEvent;
+import seedu.simply.commons.util.StringUtil;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 /**
  * Manages the event dispatching of the app.
+ *
+ * Event handlers are the methods of registered objects annotated with {@link Subscribe}, and are given every
+ * posted event of the type they take, including its subtypes. Each handler runs on the thread its
+ * {@link DispatchOn} annotation asks for, or on the posting thread if it has none; events posted by a handler
+ * run inline wait until the event being handled has been given to every handler. A handler run off the
+ * posting thread that has not yet been given a {@link CoalescibleEvent} is only given the latest one of its
+ * type, so a burst of such events costs it one run.
  */
 public class EventsCenter {
     private static final Logger logger = LogsCenter.getLogger(EventsCenter.class);
-    private final EventBus eventBus;
     private static EventsCenter instance;
 
+    /** Runs the handlers dispatched in the background, for every instance, one at a time. */
+    private static final ThreadPoolExecutor BACKGROUND = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "event-dispatcher");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final Map<Class<?>, CopyOnWriteArrayList<Handler>> handlersByType = new ConcurrentHashMap<>();
+    /** Each event class with its superclasses and interfaces, the types of event its handlers take. */
+    private final Map<Class<?>, List<Class<?>>> typesByEventClass = new ConcurrentHashMap<>();
+    private final Executor background;
+    private final Consumer<Runnable> fxPublisher;
+    /** Events posted on each thread and not yet given to their inline handlers. */
+    private final ThreadLocal<Queue<BaseEvent>> inlineQueue = ThreadLocal.withInitial(ArrayDeque::new);
+    private final ThreadLocal<Boolean> isDispatchingInline = ThreadLocal.withInitial(() -> false);
+
     public static EventsCenter getInstance() {
         if (instance == null) {
             instance = new EventsCenter();
@@ -26,11 +71,45 @@ public class EventsCenter {
     }
 
     private EventsCenter() {
-        eventBus = new EventBus();
+        this(BACKGROUND, Platform::runLater);
+    }
+
+    /**
+     * @param background runs the handlers dispatched in the background, one at a time.
+     * @param fxPublisher runs the given action on the JavaFX application thread.
+     */
+    EventsCenter(Executor background, Consumer<Runnable> fxPublisher) {
+        this.background = background;
+        this.fxPublisher = fxPublisher;
     }
 
     public EventsCenter registerHandler(Object handler) {
-        eventBus.register(handler);
+        for (Class<?> clazz = handler.getClass(); clazz != null; clazz = clazz.getSuperclass()) {
+            for (Method method : clazz.getDeclaredMethods()) {
+                if (!method.isAnnotationPresent(Subscribe.class)) {
+                    continue;
+                }
+                if (method.getParameterCount() != 1) {
+                    throw new IllegalArgumentException("Event handler " + method + " must take exactly one event");
+                }
+                method.setAccessible(true);
+                DispatchOn dispatchOn = method.getAnnotation(DispatchOn.class);
+                Policy policy = dispatchOn == null ? Policy.INLINE : dispatchOn.value();
+                handlersByType.computeIfAbsent(method.getParameterTypes()[0], type -> new CopyOnWriteArrayList<>())
+                        .addIfAbsent(new Handler(handler, method, policy));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Removes every event handler of the given object, so it is given no more events and can be garbage
+     * collected. Events already on their way to another thread may still reach it.
+     */
+    public EventsCenter unregisterHandler(Object handler) {
+        for (CopyOnWriteArrayList<Handler> handlers : handlersByType.values()) {
+            handlers.removeIf(registered -> registered.target == handler);
+        }
         return this;
     }
 
@@ -38,9 +117,145 @@ public class EventsCenter {
      * Posts an event to the event bus.
      */
     public <E extends BaseEvent> EventsCenter post(E event) {
-        logger.info("------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
-        eventBus.post(event);
+        logger.info(() -> "------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event);
+        Queue<BaseEvent> queue = inlineQueue.get();
+        queue.add(event);
+        if (isDispatchingInline.get()) {
+            return this;
+        }
+        isDispatchingInline.set(true);
+        try {
+            for (BaseEvent next = queue.poll(); next != null; next = queue.poll()) {
+                dispatch(next);
+            }
+        } finally {
+            isDispatchingInline.remove();
+            inlineQueue.remove();
+        }
         return this;
     }
 
+    /**
+     * Waits up to {@code timeoutMillis} for the handlers dispatched in the background so far to finish.
+     * @return true if they all finished.
+     */
+    public boolean awaitBackground(long timeoutMillis) {
+        CountDownLatch done = new CountDownLatch(1);
+        background.execute(done::countDown);
+        try {
+            return done.await(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void dispatch(BaseEvent event) {
+        for (Class<?> type : typesOf(event.getClass())) {
+            List<Handler> handlers = handlersByType.get(type);
+            if (handlers == null) {
+                continue;
+            }
+            for (Handler handler : handlers) {
+                handler.dispatch(event);
+            }
+        }
+    }
+
+    private List<Class<?>> typesOf(Class<?> eventClass) {
+        return typesByEventClass.computeIfAbsent(eventClass, clazz -> {
+            Set<Class<?>> types = new LinkedHashSet<>();
+            Queue<Class<?>> toVisit = new ArrayDeque<>();
+            toVisit.add(clazz);
+            while (!toVisit.isEmpty()) {
+                Class<?> type = toVisit.poll();
+                if (types.add(type)) {
+                    if (type.getSuperclass() != null) {
+                        toVisit.add(type.getSuperclass());
+                    }
+                    for (Class<?> implemented : type.getInterfaces()) {
+                        toVisit.add(implemented);
+                    }
+                }
+            }
+            return new ArrayList<>(types);
+        });
+    }
+
+    /** An event handler method of a registered object, with the thread it runs on. */
+    private final class Handler {
+        private final Object target;
+        private final Method method;
+        private final Policy policy;
+        /** The latest coalescible event of each type waiting to be handled, guarded by itself. */
+        private final Map<Class<?>, BaseEvent> pendingByType = new HashMap<>();
+
+        Handler(Object target, Method method, Policy policy) {
+            this.target = target;
+            this.method = method;
+            this.policy = policy;
+        }
+
+        void dispatch(BaseEvent event) {
+            switch (policy) {
+            case BACKGROUND:
+                enqueue(event, background::execute);
+                break;
+            case FX_THREAD:
+                enqueue(event, fxPublisher);
+                break;
+            default:
+                handle(event);
+            }
+        }
+
+        /** Asks {@code runner} to handle the event, unless an event it supersedes is still waiting. */
+        private void enqueue(BaseEvent event, Consumer<Runnable> runner) {
+            if (!(event instanceof CoalescibleEvent)) {
+                runner.accept(() -> handle(event));
+                return;
+            }
+            Class<?> type = event.getClass();
+            boolean isWaiting;
+            synchronized (pendingByType) {
+                isWaiting = pendingByType.put(type, event) != null;
+            }
+            if (isWaiting) {
+                return;
+            }
+            runner.accept(() -> {
+                BaseEvent latest;
+                synchronized (pendingByType) {
+                    latest = pendingByType.remove(type);
+                }
+                handle(latest);
+            });
+        }
+
+        /** Runs the handler, one event at a time. */
+        private synchronized void handle(BaseEvent event) {
+            try {
+                method.invoke(target, event);
+            } catch (InvocationTargetException ite) {
+                logger.severe("Event handler " + method + " failed on " + event + ": "
+                        + StringUtil.getDetails(ite.getCause()));
+            } catch (IllegalAccessException iae) {
+                throw new AssertionError("Event handler made accessible when registered", iae);
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof Handler
+                    && target == ((Handler) other).target
+                    && method.equals(((Handler) other).method));
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(target) + method.hashCode();
+        }
+    }
+
 }
@@ -0,0 +1,113 @@
+package seedu.simply.commons.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * A read-only copy of an observable list, kept up to date on one thread with the changes made to the list on
+ * another, such as the task lists changed by commands and shown on the JavaFX application thread.
+ *
+ * Each change to the source is recorded, on the thread making it, as the items removed and added at each
+ * position. The first change recorded after the copy was last brought up to date asks {@code publisher} to
+ * bring it up to date; every change recorded by the time that runs is applied to the copy at once, and
+ * listeners hear of them all as a single change.
+ *
+ * The copy must be created while nothing is changing the source.
+ */
+public class ListMirror<E> extends ObservableListBase<E> {
+
+    /** The items removed and added at one position of the source, in the order they were changed. */
+    private static class Delta<E> {
+        final int from;
+        final int removedSize;
+        final List<E> added;
+
+        Delta(int from, int removedSize, List<E> added) {
+            this.from = from;
+            this.removedSize = removedSize;
+            this.added = added;
+        }
+    }
+
+    private final List<E> items;
+    private final Consumer<Runnable> publisher;
+    /** Changes recorded and not yet applied to the copy, guarded by itself. */
+    private final List<Delta<E>> pending = new ArrayList<>();
+
+    /**
+     * @param publisher runs the given action on the thread the copy is used on.
+     */
+    public ListMirror(ObservableList<? extends E> source, Consumer<Runnable> publisher) {
+        this.items = new ArrayList<>(source);
+        this.publisher = publisher;
+        source.addListener(this::sourceChanged);
+    }
+
+    @Override
+    public E get(int index) {
+        return items.get(index);
+    }
+
+    @Override
+    public int size() {
+        return items.size();
+    }
+
+    private void sourceChanged(ListChangeListener.Change<? extends E> change) {
+        List<Delta<E>> deltas = new ArrayList<>();
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                // the items in the range are the same ones, but moved or changed: replace them all
+                int size = change.getTo() - change.getFrom();
+                deltas.add(new Delta<>(change.getFrom(), size,
+                        new ArrayList<>(change.getList().subList(change.getFrom(), change.getTo()))));
+            } else {
+                deltas.add(new Delta<>(change.getFrom(), change.getRemovedSize(),
+                        new ArrayList<>(change.getAddedSubList())));
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        boolean isPublishNeeded;
+        synchronized (pending) {
+            isPublishNeeded = pending.isEmpty();
+            pending.addAll(deltas);
+        }
+        if (isPublishNeeded) {
+            publisher.accept(this::publish);
+        }
+    }
+
+    /**
+     * Applies every change recorded so far to the copy, as a single change.
+     */
+    private void publish() {
+        List<Delta<E>> deltas;
+        synchronized (pending) {
+            deltas = new ArrayList<>(pending);
+            pending.clear();
+        }
+
+        beginChange();
+        for (Delta<E> delta : deltas) {
+            if (delta.removedSize > 0) {
+                List<E> removedRange = items.subList(delta.from, delta.from + delta.removedSize);
+                List<E> removed = new ArrayList<>(removedRange);
+                removedRange.clear();
+                nextRemove(delta.from, removed);
+            }
+            if (!delta.added.isEmpty()) {
+                items.addAll(delta.from, delta.added);
+                nextAdd(delta.from, delta.from + delta.added.size());
+            }
+        }
+        endChange();
+    }
+}
@@ -8,6 +8,9 @@ public class Messages {
     public static final String MESSAGE_UNKNOWN_COMMAND = "Unknown command";
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_TASK_DISPLAYED_INDEX = "The task index provided is invalid";
+    public static final String MESSAGE_EVENT_CLASHES = "\nWarning: clashes with %1$s";
+    public static final String MESSAGE_COMMAND_FAILED = "Could not run the command: %1$s";
+    public static final String MESSAGE_COMMANDS_BUSY = "Still working on earlier commands, please try again";
     public static final String MESSAGE_TASKS_LISTED_OVERVIEW = "Found %1$d Events! \nFound %2$d Deadlines!\nFound %3$d Todo!";
 
 }
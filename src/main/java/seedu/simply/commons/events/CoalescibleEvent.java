@@ -0,0 +1,8 @@
+package seedu.simply.commons.events;
+
+/**
+ * Marks an event that supersedes any earlier event of the same type, so that a handler run off the posting
+ * thread that has not yet been given the earlier one is only given the latest.
+ */
+public interface CoalescibleEvent {
+}
@@ -1,14 +1,16 @@
 package seedu.simply.commons.events.model;
 
 import seedu.simply.commons.events.BaseEvent;
-import seedu.simply.model.ReadOnlyTaskBook;
+import seedu.simply.commons.events.CoalescibleEvent;
+import seedu.simply.model.TaskBookSnapshot;
 
 /** Indicates the TaskBook in the model has changed*/
-public class TaskBookChangedEvent extends BaseEvent {
+public class TaskBookChangedEvent extends BaseEvent implements CoalescibleEvent {
 
-    public final ReadOnlyTaskBook data;
+    /** The task book after the change; it never changes, so handlers may keep it without copying. */
+    public final TaskBookSnapshot data;
 
-    public TaskBookChangedEvent(ReadOnlyTaskBook data){
+    public TaskBookChangedEvent(TaskBookSnapshot data){
         this.data = data;
     }
 
@@ -1,9 +1,10 @@
 package seedu.simply.commons.events.ui;
 
 import seedu.simply.commons.events.BaseEvent;
+import seedu.simply.commons.events.CoalescibleEvent;
 
 //@@author A0147890U
-public class OverdueChangedEvent extends BaseEvent {
+public class OverdueChangedEvent extends BaseEvent implements CoalescibleEvent {
     
     @Override
     public String toString() {
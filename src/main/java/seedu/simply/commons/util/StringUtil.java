@@ -2,17 +2,23 @@ package seedu.simply.commons.util;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.util.Arrays;
-import java.util.List;
 
 /**
  * Helper functions for handling strings.
  */
 public class StringUtil {
+    /**
+     * Returns true if {@code source} contains {@code query}, ignoring case.
+     * Compares the strings in place, so unlike lower-casing them first it allocates nothing.
+     */
     public static boolean containsIgnoreCase(String source, String query) {
-        String[] split = {source};
-        List<String> strings = Arrays.asList(split);
-        return strings.stream().filter(s -> s.contains(query.toLowerCase()) ).count() > 0;
+        int last = source.length() - query.length();
+        for (int i = 0; i <= last; i++) {
+            if (source.regionMatches(true, i, query, 0, query.length())) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
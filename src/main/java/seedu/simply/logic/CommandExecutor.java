@@ -0,0 +1,105 @@
+package seedu.simply.logic;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.simply.commons.core.LogsCenter;
+import seedu.simply.commons.core.Messages;
+import seedu.simply.commons.util.StringUtil;
+import seedu.simply.logic.commands.CommandResult;
+
+/**
+ * Runs commands one at a time on a thread of its own, so that the UI stays responsive while they run.
+ *
+ * That thread is the only one running commands, so commands never change the model at the same time.
+ * Commands wait their turn in a bounded queue; once it is full, {@link #submit} turns further commands
+ * away rather than letting them pile up. Each result is handed to {@code publisher}, which in the app
+ * runs it on the JavaFX application thread.
+ */
+public class CommandExecutor {
+
+    public static final int QUEUE_CAPACITY = 16;
+
+    private static final Logger logger = LogsCenter.getLogger(CommandExecutor.class);
+
+    private final Logic logic;
+    private final Consumer<Runnable> publisher;
+    private final ThreadPoolExecutor executor;
+    /** The text of the command being run, or null if none is. */
+    private volatile String runningCommand;
+
+    public CommandExecutor(Logic logic, Consumer<Runnable> publisher) {
+        this(logic, publisher, QUEUE_CAPACITY);
+    }
+
+    /**
+     * @param publisher runs the given action on the thread results are used on.
+     * @param capacity the number of commands that may wait while one runs.
+     */
+    public CommandExecutor(Logic logic, Consumer<Runnable> publisher, int capacity) {
+        this.logic = logic;
+        this.publisher = publisher;
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacity), runnable -> {
+                    Thread thread = new Thread(runnable, "command-executor");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Queues the command to be run after those already queued. Its result is handed to {@code onResult}
+     * through the publisher.
+     * @return false if the command was turned away because the queue is full or the executor has stopped.
+     */
+    public boolean submit(String commandText, Consumer<CommandResult> onResult) {
+        try {
+            executor.execute(() -> {
+                CommandResult result = run(commandText);
+                publisher.accept(() -> onResult.accept(result));
+            });
+            return true;
+        } catch (RejectedExecutionException ree) {
+            logger.info("Command turned away, " + executor.getQueue().size() + " waiting: " + commandText);
+            return false;
+        }
+    }
+
+    private CommandResult run(String commandText) {
+        runningCommand = commandText;
+        try {
+            return logic.execute(commandText);
+        } catch (RuntimeException re) {
+            logger.severe("Command failed: " + commandText + " " + StringUtil.getDetails(re));
+            return new CommandResult(String.format(Messages.MESSAGE_COMMAND_FAILED, re.getMessage()));
+        } finally {
+            runningCommand = null;
+        }
+    }
+
+    /**
+     * Returns the text of the command being run, or null if none is.
+     * Handlers of the events a command raises run while it runs, so they can find out which command it is.
+     */
+    public String getRunningCommand() {
+        return runningCommand;
+    }
+
+    /**
+     * Stops taking commands, and waits up to {@code timeoutMillis} for those queued to be run.
+     * @return true if every queued command was run.
+     */
+    public boolean stop(long timeoutMillis) {
+        executor.shutdown();
+        try {
+            return executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
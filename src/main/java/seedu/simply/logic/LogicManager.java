@@ -1,6 +1,5 @@
 package seedu.simply.logic;
 
-import java.util.Stack;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -11,7 +10,6 @@ import seedu.simply.logic.commands.Command;
 import seedu.simply.logic.commands.CommandResult;
 import seedu.simply.logic.parser.Parser;
 import seedu.simply.model.Model;
-import seedu.simply.model.SaveState;
 import seedu.simply.model.TaskBook;
 import seedu.simply.model.task.ReadOnlyTask;
 import seedu.simply.storage.Storage;
@@ -25,15 +23,11 @@ public class LogicManager extends ComponentManager implements Logic {
     private final Model model;
     private final Parser parser;
     //private final Config config;
-    //private final Stack<SaveState> undoStack;
-    //private final Stack<SaveState> redoStack;
 
     public LogicManager(Model model) /*, Storage storage, Config config)*/ {
         this.model = model;
         this.parser = new Parser();
         //this.config = config;
-        //this.undoStack = new Stack<SaveState>();
-        //this.redoStack = new Stack<SaveState>();
         model.overdueTask();
     }
 
@@ -42,7 +36,14 @@ public class LogicManager extends ComponentManager implements Logic {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
         Command command = parser.parseCommand(commandText);
         command.setData(model); //, undoStack, redoStack, config);
-        return command.execute();
+        // commands read the filtered lists between changes, which the overdue scheduler must not change meanwhile
+        synchronized (model) {
+            try {
+                return command.execute();
+            } finally {
+                model.endUndoStep();
+            }
+        }
     }
 
     @Override
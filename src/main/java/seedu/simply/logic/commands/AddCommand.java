@@ -151,7 +151,7 @@ public class AddCommand extends Command {
     private CommandResult addAndSelectTaskToCorrectLIst(Task toAdd) {
         if (toAdd.getTaskCategory() == 1){
             selectEvent(toAdd);
-            return new CommandResult(String.format(EVENT_SUCCESS, toAdd));
+            return new CommandResult(String.format(EVENT_SUCCESS, toAdd) + getClashWarning(toAdd));
         } else if (toAdd.getTaskCategory() == 2){
         	selectDeadline(toAdd);
             return new CommandResult(String.format(DEADLINE_SUCCESS, toAdd));
@@ -196,7 +196,7 @@ public class AddCommand extends Command {
     private void dumpRedoStack() {
         ArrayList<String> history = model.getCommandHistory();
         if ((history.size() != 0) && (history.get(history.size() - 1)).equals("undo")) {
-            model.getRedoStack().clear();
+            model.clearRedoStack();
         }
     }
 
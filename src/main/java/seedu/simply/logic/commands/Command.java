@@ -1,14 +1,14 @@
 package seedu.simply.logic.commands;
 
-import java.util.Stack;
+import java.util.List;
 
 import seedu.simply.commons.core.Config;
 import seedu.simply.commons.core.EventsCenter;
 import seedu.simply.commons.core.Messages;
 import seedu.simply.commons.events.ui.IncorrectCommandAttemptedEvent;
 import seedu.simply.model.Model;
-import seedu.simply.model.SaveState;
 import seedu.simply.model.TaskBook;
+import seedu.simply.model.task.ReadOnlyTask;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
@@ -44,6 +44,25 @@ public abstract class Command {
         this.model = model;
     }
 
+    /**
+     * Returns a warning naming the events whose time overlaps that of the given task, or an empty string
+     * if there are none or the task is not an event.
+     */
+    protected String getClashWarning(ReadOnlyTask task) {
+        List<ReadOnlyTask> clashes = model.getClashingEvents(task);
+        if (clashes.isEmpty()) {
+            return "";
+        }
+        StringBuilder names = new StringBuilder();
+        for (ReadOnlyTask clash : clashes) {
+            if (names.length() > 0) {
+                names.append(", ");
+            }
+            names.append(clash.getName().taskDetails);
+        }
+        return String.format(Messages.MESSAGE_EVENT_CLASHES, names);
+    }
+
     /**
      * Raises an event to indicate an attempt to execute an incorrect command
      */
@@ -3,12 +3,13 @@ package seedu.simply.logic.commands;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 
 import seedu.simply.commons.core.Messages;
 import seedu.simply.commons.core.UnmodifiableObservableList;
 import seedu.simply.commons.exceptions.IllegalValueException;
 import seedu.simply.model.task.ReadOnlyTask;
-import seedu.simply.model.task.UniqueTaskList.TaskNotFoundException;
 
 /**
  * Deletes a task identified using it's last displayed index from the task book.
@@ -70,66 +71,44 @@ public class DeleteCommand extends Command {
     //@@author A0139430L
     @Override
     public CommandResult execute() {
-        UnmodifiableObservableList<ReadOnlyTask> lastShownEventList = model.getFilteredEventList();
-        UnmodifiableObservableList<ReadOnlyTask> lastShownDeadlineList = model.getFilteredDeadlineList();
-        UnmodifiableObservableList<ReadOnlyTask> lastShownTodoList = model.getFilteredTodoList();
         ArrayList<ReadOnlyTask> tasksToDeleteList = new ArrayList<ReadOnlyTask>();
-        
-        if (targetIndexesE.size()>0) {
-            for (int i=0; i<targetIndexesE.size();i++) {    
-                Integer idx = targetIndexesE.get(i); 
-                if (lastShownEventList.size() < idx) {
-                    indicateAttemptToExecuteIncorrectCommand();
-                    return new CommandResult(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
-                }              
-                ReadOnlyTask taskToDelete = lastShownEventList.get(idx-1);  
-                if (model.checkTask(taskToDelete)) {
-                    tasksToDeleteList.add(taskToDelete);
-                } else {
-                    return new CommandResult(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
-                }
-            }
-        }
-        
-        if(targetIndexesD.size()>0){
-            for (int i=0; i<targetIndexesD.size();i++) {    
-                Integer idx = targetIndexesD.get(i); 
-                if (lastShownDeadlineList.size() < idx) {
-                    indicateAttemptToExecuteIncorrectCommand();
-                    return new CommandResult(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
-                }              
-                ReadOnlyTask taskToDelete = lastShownDeadlineList.get(idx-1);  
-                if (model.checkTask(taskToDelete)) {
-                    tasksToDeleteList.add(taskToDelete);
-                } else {
-                    return new CommandResult(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
-                }
-            }
+        Set<Long> idsToDelete = new HashSet<Long>();
+        if (!addTargets(model.getFilteredEventList(), targetIndexesE, tasksToDeleteList, idsToDelete)
+                || !addTargets(model.getFilteredDeadlineList(), targetIndexesD, tasksToDeleteList, idsToDelete)
+                || !addTargets(model.getFilteredTodoList(), targetIndexesT, tasksToDeleteList, idsToDelete)) {
+            return new CommandResult(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
         }
-        
-        if(targetIndexesT.size()>0){
-            for (int i=0; i<targetIndexesT.size();i++) {    
-                Integer idx = targetIndexesT.get(i); 
-                if (lastShownTodoList.size() < idx) {
-                    indicateAttemptToExecuteIncorrectCommand();
-                    return new CommandResult(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
-                }              
-                ReadOnlyTask taskToDelete = lastShownTodoList.get(idx-1);  
-                if (model.checkTask(taskToDelete)) {
-                    tasksToDeleteList.add(taskToDelete);
-                } else {
-                    return new CommandResult(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
-                }
-            }
-        }
-        
-        model.addToUndoStack();
-        for (int i=0; i<tasksToDeleteList.size(); i++) {   
+
+        model.beginTransaction();
+        for (int i=0; i<tasksToDeleteList.size(); i++) {
             model.deleteTask(tasksToDeleteList.get(i));
         }
+        model.commitTransaction();
         return new CommandResult(String.format(MESSAGE_DELETE_TASK_SUCCESS, pass));
     }
 
+    /**
+     * Adds the tasks at the given indexes of the last shown list to {@code tasksToDelete}, skipping tasks
+     * whose ids are already in {@code idsToDelete}. Returns false if any index is not in the list.
+     */
+    private boolean addTargets(UnmodifiableObservableList<ReadOnlyTask> lastShownList, ArrayList<Integer> indexes,
+            ArrayList<ReadOnlyTask> tasksToDelete, Set<Long> idsToDelete) {
+        for (Integer idx : indexes) {
+            if (idx < 1 || lastShownList.size() < idx) {
+                indicateAttemptToExecuteIncorrectCommand();
+                return false;
+            }
+            ReadOnlyTask taskToDelete = lastShownList.get(idx-1);
+            if (!model.checkTask(taskToDelete)) {
+                return false;
+            }
+            if (idsToDelete.add(taskToDelete.getId())) {
+                tasksToDelete.add(taskToDelete);
+            }
+        }
+        return true;
+    }
+
     private void sortAndReverse(ArrayList<Integer> list) {
         Collections.sort(list);
         Collections.reverse(list);
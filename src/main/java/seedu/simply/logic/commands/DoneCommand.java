@@ -1,7 +1,8 @@
 package seedu.simply.logic.commands;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 
 import seedu.simply.commons.core.Messages;
 import seedu.simply.commons.core.UnmodifiableObservableList;
@@ -40,85 +41,51 @@ public class DoneCommand extends Command {
     public CommandResult execute() {
         
         ArrayList<String> pass = new ArrayList<String>(targetIndexes);
-//        Collections.sort(targetIndexes);
-//        Collections.reverse(targetIndexes);
         
         UnmodifiableObservableList<ReadOnlyTask> lastShownEventList = model.getFilteredEventList();
         UnmodifiableObservableList<ReadOnlyTask> lastShownDeadlineList = model.getFilteredDeadlineList();
         UnmodifiableObservableList<ReadOnlyTask> lastShownTodoList = model.getFilteredTodoList();
         
-        
-        ArrayList<Integer> intIndex = new ArrayList<Integer>();
-        for(int i = 0; i < targetIndexes.size(); i++) {
-            Integer index = Integer.valueOf(targetIndexes.get(i).substring(1));
-            intIndex.add(index);
-        }
-        
-        Collections.sort(intIndex);
-        Collections.reverse(intIndex);
-        
-        model.addToUndoStack();
-        
+        ArrayList<ReadOnlyTask> tasksDone = new ArrayList<ReadOnlyTask>();
+        Set<Long> idsDone = new HashSet<Long>();
         for(int i = 0; i < targetIndexes.size(); i++) {
-            if(Character.toUpperCase(targetIndexes.get(i).charAt(0)) == 'E') {
-                if(lastShownEventList.size() < intIndex.get(i)) {
-                    model.getUndoStack().pop();
-                    indicateAttemptToExecuteIncorrectCommand();
-                    return new CommandResult(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
-                }
-                
-                ReadOnlyTask taskDone = lastShownEventList.get(intIndex.get(i) - 1);
-                
-                try {
-                    //model.addToUndoStack();
-                    model.markDone(taskDone);
-                    model.getCommandHistory().add("done");
-                } catch (TaskNotFoundException e) {
-                    model.getUndoStack().pop();
-                    indicateAttemptToExecuteIncorrectCommand();
-                    return new CommandResult(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
-                }
+            char category = Character.toUpperCase(targetIndexes.get(i).charAt(0));
+            int index = Integer.valueOf(targetIndexes.get(i).substring(1));
+            UnmodifiableObservableList<ReadOnlyTask> lastShownList;
+            if (category == 'E') {
+                lastShownList = lastShownEventList;
+            } else if (category == 'D') {
+                lastShownList = lastShownDeadlineList;
+            } else if (category == 'T') {
+                lastShownList = lastShownTodoList;
+            } else {
+                Command command = new IncorrectCommand(
+                        String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
+                return command.execute();
             }
-
-            else if (Character.toUpperCase(targetIndexes.get(i).charAt(0)) == 'D') {
-                if (lastShownDeadlineList.size() < intIndex.get(i)) {
-                    model.getUndoStack().pop();
-                    indicateAttemptToExecuteIncorrectCommand();
-                    return new CommandResult(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
-                }
-                
-                ReadOnlyTask taskDone = lastShownDeadlineList.get(intIndex.get(i) - 1);
-                
-                try {
-                    //model.addToUndoStack();
-                    model.markDone(taskDone);
-                    model.getCommandHistory().add("done");
-                } catch (TaskNotFoundException e) {
-                    model.getUndoStack().pop();
-                    indicateAttemptToExecuteIncorrectCommand();
-                    return new CommandResult(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
-                }
+            if (index < 1 || lastShownList.size() < index) {
+                indicateAttemptToExecuteIncorrectCommand();
+                return new CommandResult(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
+            }
+            ReadOnlyTask taskDone = lastShownList.get(index - 1);
+            if (idsDone.add(taskDone.getId())) {
+                tasksDone.add(taskDone);
             }
+        }
         
-            else if(Character.toUpperCase(targetIndexes.get(i).charAt(0)) == 'T') {
-                if (lastShownTodoList.size() < intIndex.get(i)) {
-                    model.getUndoStack().pop();
-                    indicateAttemptToExecuteIncorrectCommand();
-                    return new CommandResult(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
-                }
-                
-                ReadOnlyTask taskDone = lastShownTodoList.get(intIndex.get(i) - 1);
-
-                try {
-                    //model.addToUndoStack();
-                    model.markDone(taskDone);
-                    model.getCommandHistory().add("done");
-                } catch (TaskNotFoundException e) {
-                    model.getUndoStack().pop();
-                    indicateAttemptToExecuteIncorrectCommand();
-                    return new CommandResult(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
-                }
+        model.beginTransaction();
+        try {
+            for (ReadOnlyTask taskDone : tasksDone) {
+                model.markDone(taskDone);
             }
+        } catch (TaskNotFoundException e) {
+            model.rollbackTransaction();
+            indicateAttemptToExecuteIncorrectCommand();
+            return new CommandResult(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
+        }
+        model.commitTransaction();
+        for (int i = 0; i < tasksDone.size(); i++) {
+            model.getCommandHistory().add("done");
         }
         
         return new CommandResult(String.format(MESSAGE_MARK_DONE_SUCCESS, pass));
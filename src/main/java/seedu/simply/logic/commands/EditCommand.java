@@ -64,23 +64,29 @@ public class EditCommand extends Command{
             }
 
             ReadOnlyTask eventToEdit = lastShownEventList.get(targetIndex - 1);
+            Task edited;
 
+            // the edit and the move to the list of its new category are saved together
+            model.beginTransaction();
             try {
-                model.addToUndoStack();
                 model.getCommandHistory().add("edit");
-                Task edited = model.editTask(eventToEdit, editArgs, category);
+                edited = model.editTask(eventToEdit, editArgs, category);
                 lastShownEventList = model.getFilteredEventList();
                 EventsCenter.getInstance().post(new JumpToListRequestEvent(lastShownEventList.indexOf(edited), category));
+                model.changeTaskCategory();
             } catch (TaskNotFoundException ive) {
+                model.rollbackTransaction();
                 indicateAttemptToExecuteIncorrectCommand();
                 return new CommandResult(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
             } catch (IllegalValueException ive) {
+                model.rollbackTransaction();
                 indicateAttemptToExecuteIncorrectCommand();
                 Command command = new IncorrectCommand(ive.getMessage());
                 return command.execute();
             }
-            model.changeTaskCategory();
-            return new CommandResult(String.format(MESSAGE_EDIT_TASK_SUCCESS, category, targetIndex, editArgs));
+            model.commitTransaction();
+            return new CommandResult(String.format(MESSAGE_EDIT_TASK_SUCCESS, category, targetIndex, editArgs)
+                    + getClashWarning(edited));
         }
 
         else if(category == 'D'){
@@ -90,23 +96,29 @@ public class EditCommand extends Command{
             }
 
             ReadOnlyTask deadlineToEdit = lastShownDeadlineList.get(targetIndex - 1);
+            Task edited;
 
+            // the edit and the move to the list of its new category are saved together
+            model.beginTransaction();
             try {
-                model.addToUndoStack();
                 model.getCommandHistory().add("edit");
-                Task edited = model.editTask(deadlineToEdit, editArgs, category);
+                edited = model.editTask(deadlineToEdit, editArgs, category);
                 lastShownDeadlineList = model.getFilteredDeadlineList();
                 EventsCenter.getInstance().post(new JumpToListRequestEvent(lastShownDeadlineList.indexOf(edited), category));
+                model.changeTaskCategory();
             } catch (TaskNotFoundException ive) {
+                model.rollbackTransaction();
                 indicateAttemptToExecuteIncorrectCommand();
                 return new CommandResult(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
             } catch (IllegalValueException ive) {
+                model.rollbackTransaction();
                 indicateAttemptToExecuteIncorrectCommand();
                 Command command = new IncorrectCommand(ive.getMessage());
                 return command.execute();
             }
-            model.changeTaskCategory();
-            return new CommandResult(String.format(MESSAGE_EDIT_TASK_SUCCESS, category, targetIndex, editArgs));
+            model.commitTransaction();
+            return new CommandResult(String.format(MESSAGE_EDIT_TASK_SUCCESS, category, targetIndex, editArgs)
+                    + getClashWarning(edited));
         }
 
         else if(category == 'T'){
@@ -116,23 +128,29 @@ public class EditCommand extends Command{
             }
 
             ReadOnlyTask todoToEdit = lastShownTodoList.get(targetIndex - 1);
+            Task edited;
 
+            // the edit and the move to the list of its new category are saved together
+            model.beginTransaction();
             try {
-                model.addToUndoStack();
                 model.getCommandHistory().add("edit");
-                Task edited = model.editTask(todoToEdit, editArgs, category);
+                edited = model.editTask(todoToEdit, editArgs, category);
                 lastShownTodoList = model.getFilteredTodoList();
                 EventsCenter.getInstance().post(new JumpToListRequestEvent(lastShownTodoList.indexOf(edited), category));
+                model.changeTaskCategory();
             } catch (TaskNotFoundException ive) {
+                model.rollbackTransaction();
                 indicateAttemptToExecuteIncorrectCommand();
                 return new CommandResult(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
             } catch (IllegalValueException ive) {
+                model.rollbackTransaction();
                 indicateAttemptToExecuteIncorrectCommand();
                 Command command = new IncorrectCommand(ive.getMessage());
                 return command.execute();
             }
-            model.changeTaskCategory();
-            return new CommandResult(String.format(MESSAGE_EDIT_TASK_SUCCESS, category, targetIndex, editArgs));
+            model.commitTransaction();
+            return new CommandResult(String.format(MESSAGE_EDIT_TASK_SUCCESS, category, targetIndex, editArgs)
+                    + getClashWarning(edited));
         }
         return new CommandResult(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
     }
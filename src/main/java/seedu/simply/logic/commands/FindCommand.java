@@ -1,31 +1,31 @@
 package seedu.simply.logic.commands;
 
-import java.util.Set;
+import seedu.simply.model.query.Query;
 
 /**
- * Finds and lists all tasks in task book whose name contains any of the argument keywords.
- * Keyword matching is case sensitive.
+ * Finds and lists all tasks in task book matching a query, as compiled by
+ * {@link seedu.simply.model.query.QueryParser}. Keyword matching is not case sensitive.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all task description that contain all of "
-            + "the specified keywords (case-sensitive) and displays them as a list with index numbers.\n"
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all tasks that contain all of "
+            + "the specified keywords (not case-sensitive) and displays them as a list with index numbers.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " important meeting boss";
+            + "Keywords can be joined with AND, OR and NOT, grouped with brackets, and scoped with "
+            + "name:, tag:, date:, date<, date>, is:done or is:pending. Start a keyword with ~ to allow for typos.\n"
+            + "Example: " + COMMAND_WORD + " ~meetng (tag:work OR date<311216) NOT boss";
 
-    private final Set<String> keywords;
+    private final Query query;
 
-    public FindCommand(Set<String> keywords) {
-        this.keywords = keywords;
+    public FindCommand(Query query) {
+        this.query = query;
     }
     //@@author A0139430L
     @Override
     public CommandResult execute() {
-        model.updateFilteredEventList(keywords);
-        model.updateFilteredDeadlineList(keywords);
-        model.updateFilteredTodoList(keywords);
+        model.updateFilteredListToShowQuery(query);
         return new CommandResult(getMessageForTaskListShownSummary(model.getFilteredEventList().size(), model.getFilteredDeadlineList().size(), model.getFilteredTodoList().size()));
     }
 
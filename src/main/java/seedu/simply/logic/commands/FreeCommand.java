@@ -0,0 +1,89 @@
+package seedu.simply.logic.commands;
+
+import static seedu.simply.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.simply.commons.exceptions.IllegalValueException;
+import seedu.simply.model.task.Date;
+import seedu.simply.model.task.EventIntervalTree.Interval;
+import seedu.simply.model.task.TaskDateIndex;
+
+/**
+ * Finds the gaps between the uncompleted events of a range of days that are long enough for a new event.
+ */
+public class FreeCommand extends Command {
+
+    public static final String COMMAND_WORD = "free";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds free time of at least the given minutes "
+            + "between your events, today or in a range of days.\n"
+            + "Parameters: MINUTES [from DATE to DATE]\n"
+            + "Example: " + COMMAND_WORD + " 60 from 010117 to 070117";
+
+    public static final String MESSAGE_SUCCESS = "Found %1$d free slots of at least %2$d minutes:%3$s";
+    public static final String MESSAGE_NONE_FREE = "No free slots of at least %1$d minutes found";
+
+    private static final Pattern ARGS_FORMAT =
+            Pattern.compile("(?<minutes>\\d+)(\\s+from\\s+(?<from>\\S+)\\s+to\\s+(?<to>\\S+))?");
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yy");
+
+    private final String args;
+
+    public FreeCommand(String args) {
+        this.args = args.trim();
+    }
+
+    @Override
+    public CommandResult execute() {
+        Matcher matcher = ARGS_FORMAT.matcher(args);
+        if (!matcher.matches()) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE)).execute();
+        }
+        int minutes;
+        try {
+            minutes = Integer.parseInt(matcher.group("minutes"));
+        } catch (NumberFormatException nfe) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE)).execute();
+        }
+        if (minutes <= 0) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE)).execute();
+        }
+
+        LocalDate fromDay = LocalDate.now();
+        LocalDate toDay = fromDay;
+        if (matcher.group("from") != null) {
+            try {
+                fromDay = new Date(matcher.group("from")).toLocalDate();
+                toDay = new Date(matcher.group("to")).toLocalDate();
+            } catch (IllegalValueException | DateTimeException e) {
+                return new IncorrectCommand(Date.MESSAGE_DATE_CONSTRAINTS).execute();
+            }
+            if (fromDay == null || toDay == null || toDay.isBefore(fromDay)) {
+                return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE)).execute();
+            }
+        }
+
+        List<Interval> slots = model.getFreeSlots(fromDay, toDay, minutes);
+        if (slots.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NONE_FREE, minutes));
+        }
+        StringBuilder listing = new StringBuilder();
+        for (Interval slot : slots) {
+            listing.append("\n").append(formatMinute(slot.start)).append(" to ").append(formatMinute(slot.end));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, slots.size(), minutes, listing));
+    }
+
+    /** Formats a minute counted from 1970-01-01 00:00 the way dates and times are shown in the task lists. */
+    private static String formatMinute(long epochMinute) {
+        LocalDate day = LocalDate.ofEpochDay(Math.floorDiv(epochMinute, TaskDateIndex.MINUTES_PER_DAY));
+        long minuteOfDay = Math.floorMod(epochMinute, TaskDateIndex.MINUTES_PER_DAY);
+        return day.format(DAY_FORMAT) + " " + String.format("%02d%02d", minuteOfDay / 60, minuteOfDay % 60);
+    }
+}
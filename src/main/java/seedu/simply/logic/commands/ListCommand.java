@@ -2,10 +2,19 @@ package seedu.simply.logic.commands;
 
 import static seedu.simply.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.simply.commons.exceptions.IllegalValueException;
+import seedu.simply.model.task.Date;
+
 //@@author A0147890U
 /**
  * Lists all tasks in the task book to the user.
- * Either lists all tasks or lists all completed tasks.
+ * Either lists all tasks, all completed tasks, or the events and deadlines of a range of days,
+ * of today or already past.
  */
 public class ListCommand extends Command {
 
@@ -13,13 +22,23 @@ public class ListCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "Listed all tasks";
     public static final String MESSAGE_DONE_SUCCESS = "Listed all completed tasks";
+    public static final String MESSAGE_TODAY_SUCCESS = "Listed all tasks due today";
+    public static final String MESSAGE_OVERDUE_SUCCESS = "Listed all overdue tasks";
+    public static final String MESSAGE_RANGE_SUCCESS = "Listed all tasks from %1$s to %2$s";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": List Task in Simply\n"
             + "To show completed Task :        Example: " + COMMAND_WORD + " done\n"
-            + "To show incompleted Task :     Example: " + COMMAND_WORD + "\n";
+            + "To show incompleted Task :     Example: " + COMMAND_WORD + "\n"
+            + "To show Task due in a range :   Example: " + COMMAND_WORD + " from 010117 to 310117\n"
+            + "To show Task due today or overdue :   Example: " + COMMAND_WORD + " today, "
+            + COMMAND_WORD + " overdue\n";
+
+    //@@author
+    private static final Pattern RANGE_FORMAT = Pattern.compile("from\\s+(?<from>\\S+)\\s+to\\s+(?<to>\\S+)");
 
     private final String keyword;
 
+    //@@author A0147890U
     public ListCommand(String args) {
         this.keyword = args.trim();
     }
@@ -32,9 +51,39 @@ public class ListCommand extends Command {
         } else if (keyword.equals("done")) {
             model.updateFilteredListToShowAllCompleted();
             return new CommandResult(MESSAGE_DONE_SUCCESS);
+        } else if (keyword.equals("today")) {
+            model.updateFilteredListToShowToday();
+            return new CommandResult(MESSAGE_TODAY_SUCCESS);
+        } else if (keyword.equals("overdue")) {
+            model.updateFilteredListToShowOverdue();
+            return new CommandResult(MESSAGE_OVERDUE_SUCCESS);
+        } else if (RANGE_FORMAT.matcher(keyword).matches()) {
+            return listRange();
         } else {
             Command command = new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
             return command.execute();
         }
     }
+
+    //@@author
+    /**
+     * Lists the events and deadlines from the first to the second date of the keyword, both inclusive.
+     */
+    private CommandResult listRange() {
+        Matcher matcher = RANGE_FORMAT.matcher(keyword);
+        matcher.matches();
+        try {
+            Date from = new Date(matcher.group("from"));
+            Date to = new Date(matcher.group("to"));
+            LocalDate fromDay = from.toLocalDate();
+            LocalDate toDay = to.toLocalDate();
+            if (fromDay == null || toDay == null || toDay.isBefore(fromDay)) {
+                return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE)).execute();
+            }
+            model.updateFilteredListToShowDueBetween(fromDay, toDay);
+            return new CommandResult(String.format(MESSAGE_RANGE_SUCCESS, from, to));
+        } catch (IllegalValueException | DateTimeException e) {
+            return new IncorrectCommand(Date.MESSAGE_DATE_CONSTRAINTS).execute();
+        }
+    }
 }
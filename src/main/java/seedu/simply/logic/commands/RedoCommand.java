@@ -6,8 +6,6 @@ import java.util.logging.Logger;
 import seedu.simply.commons.core.Config;
 import seedu.simply.commons.core.LogsCenter;
 import seedu.simply.commons.util.ConfigUtil;
-import seedu.simply.model.SaveState;
-import seedu.simply.model.TaskBook;
 
 //@@author A0147890U
 /**
@@ -35,32 +33,24 @@ public class RedoCommand extends Command {
     public CommandResult execute() {
         assert model != null;
         
-        if (numTimes > model.getRedoStack().size()) {
+        if (numTimes > model.getRedoStackSize()) {
             Command command = new IncorrectCommand("There are not so many tasks available to be redo.");
             return command.execute();
         }
         
+        Config currentConfig = new Config(model.getConfig());
+        model.redo(numTimes);
         for (int i = 0; i < numTimes; i++) {
-            TaskBook currentTaskBook = new TaskBook(model.getTaskBook());
-            
-            
-            SaveState saveToResetTo = model.getRedoStack().pop();
-            TaskBook taskToResetTo = saveToResetTo.getSaveStateTaskBook();
-            model.resetData(taskToResetTo);
-            
-            Config currentConfig = new Config(model.getConfig());
-            Config config = saveToResetTo.getSaveStateConfig();
-            model.setConfig(config);
-            
+            model.getCommandHistory().add("redo");
+        }
+
+        Config config = model.getConfig();
+        if (!config.equals(currentConfig)) {
             try {
                 ConfigUtil.saveConfig(config, Config.DEFAULT_CONFIG_FILE);
             } catch (IOException e) {
                 logger.warning("config file could not be saved to");
             }
-           
-            SaveState saveToBeAdded = new SaveState(currentTaskBook, currentConfig);
-            model.getCommandHistory().add("redo");
-            model.getUndoStack().push(saveToBeAdded);
         }
         return new CommandResult(MESSAGE_REDO_TASK_SUCCESS);
     }
@@ -0,0 +1,47 @@
+package seedu.simply.logic.commands;
+
+import seedu.simply.model.tag.Tag;
+
+/**
+ * Lists the uncompleted tasks with a tag, or renames a tag on every task that has it.
+ */
+public class TagCommand extends Command {
+
+    public static final String COMMAND_WORD = "tag";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all uncompleted tasks with a tag, "
+            + "or renames the tag on every task.\n"
+            + "Parameters: TAG [> NEW_TAG]\n"
+            + "Example: " + COMMAND_WORD + " #work\t\t"
+            + "Example: " + COMMAND_WORD + " #work > #office";
+
+    public static final String MESSAGE_RENAME_TAG_SUCCESS = "Renamed tag %1$s to %2$s on %3$d tasks";
+
+    private final Tag tag;
+    private final Tag newTag;
+
+    /** Creates a command listing the tasks with the given tag. */
+    public TagCommand(Tag tag) {
+        this(tag, null);
+    }
+
+    /** Creates a command renaming {@code tag} to {@code newTag} on every task. */
+    public TagCommand(Tag tag, Tag newTag) {
+        this.tag = tag;
+        this.newTag = newTag;
+    }
+
+    @Override
+    public CommandResult execute() {
+        if (newTag == null) {
+            model.updateFilteredListToShowTag(tag);
+            return new CommandResult(getMessageForTaskListShownSummary(model.getFilteredEventList().size(),
+                    model.getFilteredDeadlineList().size(), model.getFilteredTodoList().size()));
+        }
+        model.beginTransaction();
+        int renamed = model.renameTag(tag, newTag);
+        model.commitTransaction();
+        model.getCommandHistory().add(COMMAND_WORD);
+        return new CommandResult(String.format(MESSAGE_RENAME_TAG_SUCCESS, tag, newTag, renamed));
+    }
+}
@@ -7,8 +7,6 @@ import seedu.simply.MainApp;
 import seedu.simply.commons.core.Config;
 import seedu.simply.commons.core.LogsCenter;
 import seedu.simply.commons.util.ConfigUtil;
-import seedu.simply.model.SaveState;
-import seedu.simply.model.TaskBook;
 
 
 //@@author A0147890U
@@ -38,31 +36,24 @@ public class UndoCommand extends Command {
     public CommandResult execute() {
         assert model != null;
         
-        if (numTimes > model.getUndoStack().size()) {
+        if (numTimes > model.getUndoStackSize()) {
             Command command = new IncorrectCommand("There are not so many tasks available to be undone.");
             return command.execute();
         }
         
+        Config currentConfig = new Config(model.getConfig());
+        model.undo(numTimes);
         for (int i = 0; i < numTimes; i++) {
-            TaskBook currentTaskBook = new TaskBook(model.getTaskBook());
-            
-            SaveState saveToResetTo = model.getUndoStack().pop();
-            TaskBook taskToResetTo = saveToResetTo.getSaveStateTaskBook();
-            model.resetData(taskToResetTo);
-            
-            Config currentConfig = new Config(model.getConfig());
-            Config config = saveToResetTo.getSaveStateConfig();
-            model.setConfig(config);
-            
+            model.getCommandHistory().add("undo");
+        }
+
+        Config config = model.getConfig();
+        if (!config.equals(currentConfig)) {
             try {
                 ConfigUtil.saveConfig(config, Config.DEFAULT_CONFIG_FILE);
             } catch (IOException e) {
                 logger.warning("config file could not be saved to");
             }
-            
-            SaveState saveToBeAdded = new SaveState(currentTaskBook, currentConfig);
-            model.getCommandHistory().add("undo");
-            model.getRedoStack().push(saveToBeAdded);
         }
         return new CommandResult(MESSAGE_UNDO_TASK_SUCCESS);
     }
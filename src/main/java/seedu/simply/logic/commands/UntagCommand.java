@@ -0,0 +1,32 @@
+package seedu.simply.logic.commands;
+
+import seedu.simply.model.tag.Tag;
+
+/**
+ * Removes a tag from every task that has it.
+ */
+public class UntagCommand extends Command {
+
+    public static final String COMMAND_WORD = "untag";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Removes a tag from every task that has it.\n"
+            + "Parameters: TAG\n"
+            + "Example: " + COMMAND_WORD + " #work";
+
+    public static final String MESSAGE_REMOVE_TAG_SUCCESS = "Removed tag %1$s from %2$d tasks";
+
+    private final Tag tag;
+
+    public UntagCommand(Tag tag) {
+        this.tag = tag;
+    }
+
+    @Override
+    public CommandResult execute() {
+        model.beginTransaction();
+        int removed = model.removeTag(tag);
+        model.commitTransaction();
+        model.getCommandHistory().add(COMMAND_WORD);
+        return new CommandResult(String.format(MESSAGE_REMOVE_TAG_SUCCESS, tag, removed));
+    }
+}
@@ -27,13 +27,18 @@ import seedu.simply.logic.commands.DoneCommand;
 import seedu.simply.logic.commands.EditCommand;
 import seedu.simply.logic.commands.ExitCommand;
 import seedu.simply.logic.commands.FindCommand;
+import seedu.simply.logic.commands.FreeCommand;
 import seedu.simply.logic.commands.HelpCommand;
 import seedu.simply.logic.commands.IncorrectCommand;
 import seedu.simply.logic.commands.ListCommand;
 import seedu.simply.logic.commands.RedoCommand;
 import seedu.simply.logic.commands.SelectCommand;
 import seedu.simply.logic.commands.SpecifyStorageCommand;
+import seedu.simply.logic.commands.TagCommand;
 import seedu.simply.logic.commands.UndoCommand;
+import seedu.simply.logic.commands.UntagCommand;
+import seedu.simply.model.query.QueryParser;
+import seedu.simply.model.tag.Tag;
 
 /**
  * Parses user input.
@@ -91,6 +96,9 @@ public class Parser {
     private static final Pattern ARGS_FORMAT_SELECT = 
             Pattern.compile("[E|D|T]\\d+");
 
+    private static final Pattern ARGS_FORMAT_TAG = // an optional '#' may precede each tag
+            Pattern.compile("#?(?<tag>[^\\s>#]+)(?:\\s*>\\s*#?(?<newTag>[^\\s>#]+))?");
+
     public Parser() {}
 
     /**
@@ -139,9 +147,18 @@ public class Parser {
         case FindCommand.COMMAND_WORD :
             return prepareFind(arguments);
 
+        case TagCommand.COMMAND_WORD :
+            return prepareTag(arguments);
+
+        case UntagCommand.COMMAND_WORD :
+            return prepareUntag(arguments);
+
         case ListCommand.COMMAND_WORD :
             return new ListCommand(arguments);
 
+        case FreeCommand.COMMAND_WORD :
+            return new FreeCommand(arguments);
+
         case ExitCommand.COMMAND_WORD :
             return new ExitCommand();
 
@@ -566,11 +583,46 @@ public class Parser {
                     FindCommand.MESSAGE_USAGE));
         }
 
-        // keywords delimited by whitespace
-        //  final String[] keywords = matcher.group("keywords").split("\\s+");
-        final String[] keywords = {args.trim()};
-        final Set<String> keywordSet = new HashSet<>(Arrays.asList(keywords));
-        return new FindCommand(keywordSet);
+        try {
+            return new FindCommand(QueryParser.parse(args));
+        } catch (IllegalValueException ive) {
+            return new IncorrectCommand(ive.getMessage());
+        }
+    }
+
+    /**
+     * Parses arguments in the context of the tag command: a tag to list the tasks of,
+     * optionally followed by {@code > NEW_TAG} to rename it.
+     */
+    private Command prepareTag(String args) {
+        final Matcher matcher = ARGS_FORMAT_TAG.matcher(args.trim());
+        if (!matcher.matches()) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, TagCommand.MESSAGE_USAGE));
+        }
+        try {
+            Tag tag = new Tag(matcher.group("tag"));
+            if (matcher.group("newTag") == null) {
+                return new TagCommand(tag);
+            }
+            return new TagCommand(tag, new Tag(matcher.group("newTag")));
+        } catch (IllegalValueException ive) {
+            return new IncorrectCommand(ive.getMessage());
+        }
+    }
+
+    /**
+     * Parses arguments in the context of the untag command.
+     */
+    private Command prepareUntag(String args) {
+        final Matcher matcher = ARGS_FORMAT_TAG.matcher(args.trim());
+        if (!matcher.matches() || matcher.group("newTag") != null) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, UntagCommand.MESSAGE_USAGE));
+        }
+        try {
+            return new UntagCommand(new Tag(matcher.group("tag")));
+        } catch (IllegalValueException ive) {
+            return new IncorrectCommand(ive.getMessage());
+        }
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,113 @@
+package seedu.simply.model;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+
+import seedu.simply.model.task.ReadOnlyTask;
+
+/**
+ * Works out which tasks of several task lists satisfy a filter, testing large lists in parallel.
+ *
+ * The lists are copied into arrays on the calling thread, so they must not change while this runs. Once
+ * the lists hold {@link #PARALLEL_THRESHOLD} tasks between them, they are cut into chunks that are tested
+ * at the same time on a fork/join pool, every list at once. The predicate must then be safe to call from
+ * several threads, which it is as long as it only reads the tasks and the task book.
+ */
+public class FilterEvaluator {
+
+    /** The number of tasks below which the lists are tested on the calling thread alone. */
+    public static final int PARALLEL_THRESHOLD = 8192;
+    private static final int MIN_CHUNK_SIZE = 1024;
+
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
+
+    public FilterEvaluator() {
+        this(ForkJoinPool.commonPool(), PARALLEL_THRESHOLD);
+    }
+
+    public FilterEvaluator(ForkJoinPool pool, int parallelThreshold) {
+        assert pool != null && parallelThreshold >= 0;
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Returns the ids of the tasks of each list that satisfy the predicate, in the order of the lists.
+     */
+    public List<Set<Long>> matchingIds(List<? extends List<? extends ReadOnlyTask>> lists,
+            Predicate<? super ReadOnlyTask> predicate) {
+        List<ReadOnlyTask[]> snapshots = new ArrayList<>();
+        int total = 0;
+        for (List<? extends ReadOnlyTask> list : lists) {
+            snapshots.add(list.toArray(new ReadOnlyTask[list.size()]));
+            total += list.size();
+        }
+
+        List<Set<Long>> results = new ArrayList<>();
+        if (total < parallelThreshold || pool.getParallelism() < 2) {
+            for (ReadOnlyTask[] tasks : snapshots) {
+                results.add(new Chunk(tasks, 0, tasks.length, predicate, tasks.length).compute());
+            }
+            return results;
+        }
+
+        int chunkSize = Math.max(MIN_CHUNK_SIZE, total / (pool.getParallelism() * 4));
+        List<Chunk> chunks = new ArrayList<>();
+        for (ReadOnlyTask[] tasks : snapshots) {
+            chunks.add(new Chunk(tasks, 0, tasks.length, predicate, chunkSize));
+        }
+        pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(chunks)));
+        for (Chunk chunk : chunks) {
+            results.add(chunk.join());
+        }
+        return results;
+    }
+
+    /** Tests a range of tasks, splitting it in half until the halves are no longer than the chunk size. */
+    private static class Chunk extends RecursiveTask<Set<Long>> {
+        private final ReadOnlyTask[] tasks;
+        private final int from;
+        private final int to;
+        private final Predicate<? super ReadOnlyTask> predicate;
+        private final int chunkSize;
+
+        Chunk(ReadOnlyTask[] tasks, int from, int to, Predicate<? super ReadOnlyTask> predicate, int chunkSize) {
+            this.tasks = tasks;
+            this.from = from;
+            this.to = to;
+            this.predicate = predicate;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected Set<Long> compute() {
+            if (to - from > chunkSize) {
+                int middle = (from + to) >>> 1;
+                Chunk right = new Chunk(tasks, middle, to, predicate, chunkSize);
+                right.fork();
+                Set<Long> leftIds = new Chunk(tasks, from, middle, predicate, chunkSize).compute();
+                Set<Long> rightIds = right.join();
+                if (leftIds.size() < rightIds.size()) {
+                    rightIds.addAll(leftIds);
+                    return rightIds;
+                }
+                leftIds.addAll(rightIds);
+                return leftIds;
+            }
+            Set<Long> ids = new HashSet<>();
+            for (int i = from; i < to; i++) {
+                if (predicate.test(tasks[i])) {
+                    ids.add(tasks[i].getId());
+                }
+            }
+            return ids;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.simply.model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A bounded cache of the ids of the tasks a filter shows, keyed by the filter, the task list it is applied
+ * to and the version of the task book it was worked out at. The least recently used results are forgotten
+ * first, so results for versions that have passed simply age out.
+ */
+public class FilterResultCache {
+
+    private final Map<Key, Set<Long>> results;
+    private long hits;
+    private long misses;
+
+    public FilterResultCache(int capacity) {
+        assert capacity > 0;
+        this.results = new LinkedHashMap<Key, Set<Long>>(capacity * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Set<Long>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the ids the filter shows in the given list at the given version, or null if they are not
+     * cached and must be worked out and {@link #put}.
+     */
+    public Set<Long> getIfPresent(String filter, char category, long version) {
+        Set<Long> ids = results.get(new Key(filter, category, version));
+        if (ids != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return ids;
+    }
+
+    public void put(String filter, char category, long version, Set<Long> ids) {
+        results.put(new Key(filter, category, version), ids);
+    }
+
+    /** Counts a use of a filter that needed no lookup at all, such as one already being shown. */
+    public void recordHit() {
+        hits++;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public int size() {
+        return results.size();
+    }
+
+    private static final class Key {
+        private final String filter;
+        private final char category;
+        private final long version;
+
+        Key(String filter, char category, long version) {
+            this.filter = filter;
+            this.category = category;
+            this.version = version;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof Key
+                    && filter.equals(((Key) other).filter)
+                    && category == ((Key) other).category
+                    && version == ((Key) other).version);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(filter, category, version);
+        }
+    }
+}
@@ -1,13 +1,17 @@
 package seedu.simply.model;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
-import java.util.Stack;
 
 import seedu.simply.commons.core.Config;
 import seedu.simply.commons.core.UnmodifiableObservableList;
 import seedu.simply.commons.exceptions.IllegalValueException;
 import seedu.simply.logic.commands.Command;
+import seedu.simply.model.query.Query;
+import seedu.simply.model.tag.Tag;
+import seedu.simply.model.task.EventIntervalTree.Interval;
 import seedu.simply.model.task.ReadOnlyTask;
 import seedu.simply.model.task.Task;
 import seedu.simply.model.task.UniqueTaskList;
@@ -23,13 +27,32 @@ public interface Model {
     /** Returns the TaskBook */
     ReadOnlyTaskBook getTaskBook();
 
+    /**
+     * Returns the task book as of the last reported change. It never changes, so it may be read from any
+     * thread without locking the model.
+     */
+    TaskBookSnapshot getSnapshot();
+
+    /**
+     * Starts a transaction and takes the undo snapshot for it. Until the matching
+     * {@link #commitTransaction()}, changes are made to the task book but the filtered lists are not
+     * refreshed and no change is reported. Transactions may be nested; only the outermost one counts.
+     */
+    void beginTransaction();
+
+    /** Ends the current transaction, refreshing the filtered lists and reporting the changes in it once. */
+    void commitTransaction();
+
+    /** Ends the current transaction, putting the task book and undo stack back as they were when it began. */
+    void rollbackTransaction();
+
     /** Deletes the given task. */
     void deleteTask(ReadOnlyTask target);
 
     /** Adds the given task */
     void addTask(Task task) throws UniqueTaskList.DuplicateTaskException;
     
-    /** Checks for overdue task */
+    /** Starts keeping the overdue status of tasks up to date as their dates and end times pass */
     void overdueTask();
 
     /** Returns the filtered task list as an {@code UnmodifiableObservableList<ReadOnlyTask>} */
@@ -51,6 +74,48 @@ public interface Model {
     void updateFilteredDeadlineList(Set<String> keywords);
     void updateFilteredTodoList(Set<String> keywords);
 
+    /**
+     * Updates the filter of the filtered task lists to show the uncompleted events and deadlines on the days
+     * from {@code from} to {@code to}, both inclusive.
+     */
+    void updateFilteredListToShowDueBetween(LocalDate from, LocalDate to);
+
+    /** Updates the filter of the filtered task lists to show the uncompleted events and deadlines of today */
+    void updateFilteredListToShowToday();
+
+    /** Updates the filter of the filtered task lists to show the uncompleted events and deadlines already past */
+    void updateFilteredListToShowOverdue();
+
+    /** Returns the version of the task book, which goes up with every change reported to storage */
+    long getVersion();
+
+    /** Updates the filter of the filtered task lists to show the tasks satisfying the query */
+    void updateFilteredListToShowQuery(Query query);
+
+    /** Returns the other uncompleted events whose time overlaps that of the given event, in order of start */
+    List<ReadOnlyTask> getClashingEvents(ReadOnlyTask event);
+
+    /**
+     * Returns the gaps of at least the given number of minutes between the uncompleted events, from the start
+     * of day {@code from} to the end of day {@code to}. Times are minutes counted from 1970-01-01 00:00.
+     */
+    List<Interval> getFreeSlots(LocalDate from, LocalDate to, int minutes);
+
+    /** Updates the filter of the filtered task lists to show the uncompleted tasks with the given tag */
+    void updateFilteredListToShowTag(Tag tag);
+
+    /**
+     * Renames the tag {@code from} to {@code to} on every task that has it.
+     * @return the number of tasks changed.
+     */
+    int renameTag(Tag from, Tag to);
+
+    /**
+     * Removes the given tag from every task that has it.
+     * @return the number of tasks changed.
+     */
+    int removeTag(Tag tag);
+
     /** Edits the given task 
      * @throws IllegalValueException 
      * @throws TaskNotFoundException */
@@ -61,25 +126,41 @@ public interface Model {
      */
     void markDone(ReadOnlyTask target) throws TaskNotFoundException;
 
-     /* Returns the undo stack
-     * @return undo stack
-     */
-    Stack<SaveState> getUndoStack();
-    
-    /*
-     * Returns the redo stack
+    /** Returns the number of steps that can be undone. */
+    int getUndoStackSize();
+
+    /** Returns the number of undone steps that can be redone. */
+    int getRedoStackSize();
+
+    /** Forgets the undone steps, so that they can no longer be redone. */
+    void clearRedoStack();
+
+    /**
+     * Undoes the given number of most recent steps, including their config changes, and reports the
+     * result as one change. The undone steps can then be redone.
      */
-    Stack<SaveState> getRedoStack();
-    
+    void undo(int times);
+
+    /** Redoes the given number of most recently undone steps and reports the result as one change. */
+    void redo(int times);
+
     /**
      * Returns the command history arraylist.
      */
     ArrayList<String> getCommandHistory();
     
     /**
-     * Add to undo stack
+     * Starts a new undoable step. Changes to the task book from now on, and any change to the config,
+     * are recorded in it until {@link #endUndoStep()}, the end of the transaction it was started by, or
+     * the next step starts or a step is undone or redone.
      */
     void addToUndoStack();
+
+    /**
+     * Stops recording changes in the current undoable step, so that changes made after the command, such as
+     * tasks becoming overdue, are not undone with it. The step is dropped if it changed nothing.
+     */
+    void endUndoStep();
     
     /**
      * Returns the config object 
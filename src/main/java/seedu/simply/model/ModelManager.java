@@ -1,11 +1,19 @@
 package seedu.simply.model;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.Stack;
 import java.util.logging.Logger;
 
-import javafx.collections.transformation.FilteredList;
+import javafx.collections.ListChangeListener;
 import seedu.simply.commons.core.ComponentManager;
 import seedu.simply.commons.core.Config;
 import seedu.simply.commons.core.LogsCenter;
@@ -13,58 +21,62 @@ import seedu.simply.commons.core.UnmodifiableObservableList;
 import seedu.simply.commons.events.model.TaskBookChangedEvent;
 import seedu.simply.commons.events.ui.OverdueChangedEvent;
 import seedu.simply.commons.exceptions.IllegalValueException;
-import seedu.simply.commons.util.StringUtil;
 import seedu.simply.logic.commands.Command;
+import seedu.simply.model.query.Query;
+import seedu.simply.model.tag.Tag;
+import seedu.simply.model.task.EventIntervalTree.Interval;
+import seedu.simply.model.task.FilteredTaskList;
 import seedu.simply.model.task.ReadOnlyTask;
+import seedu.simply.model.task.SortedTaskList;
 import seedu.simply.model.task.Task;
+import seedu.simply.model.task.TaskDateIndex;
 import seedu.simply.model.task.UniqueTaskList;
 import seedu.simply.model.task.UniqueTaskList.DuplicateTaskException;
 import seedu.simply.model.task.UniqueTaskList.TaskNotFoundException;
 
-import java.util.Set;
-import java.util.logging.Logger;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
+import java.util.function.LongPredicate;
 import java.util.function.Predicate;
 
 /**
  * Represents the in-memory model of the task book data.
  * All changes to any model should be synchronized.
+ * The overdue scheduler changes tasks from its own thread while holding the model's lock, so the filtered
+ * lists and the task book's indexes are only read or changed while holding it as well.
  */
 public class ModelManager extends ComponentManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
-    final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+    private static final int FILTER_CACHE_SIZE = 64;
 
     private final TaskBook taskBook;
-    private final FilteredList<Task> filteredEvents;
-    private final Stack<SaveState> undoStack;
-    private final Stack<SaveState> redoStack;
+    private final OverdueScheduler overdueScheduler;
+    private final FilteredTaskList filteredEvents;
+    private final Deque<UndoableChange> undoStack;
+    private final Deque<UndoableChange> redoStack;
     private final ArrayList<String> commandHistory;
     private Config config;
-    private FilteredList<Task> filteredDeadlines;
-    private FilteredList<Task> filteredTodos;
+    private FilteredTaskList filteredDeadlines;
+    private FilteredTaskList filteredTodos;
+
+    /** Number of transactions begun and not yet ended. */
+    private int transactionDepth;
+    private boolean isChangedInTransaction;
+    private boolean isFilterStaleInTransaction;
+    /** The undoable step that changes to the task book are recorded in, or null if none. */
+    private UndoableChange recording;
+
+    private final FilterResultCache filterCache = new FilterResultCache(FILTER_CACHE_SIZE);
+    private final FilterEvaluator filterEvaluator = new FilterEvaluator();
+    /** The filter each filtered list shows, by category, so showing it again can be skipped. */
+    private final Map<Character, String> shownFilters = new HashMap<>();
+    /** The task book as of the last reported change, for readers that do not take the lock. */
+    private volatile TaskBookSnapshot snapshot;
 
     /**
      * Initializes a ModelManager with the given TaskBook
      * TaskBook and its variables should not be null
      */
     public ModelManager(TaskBook src, UserPrefs userPrefs, Config config) {
-        super();
-        assert src != null;
-        assert userPrefs != null;
-
-        logger.fine("Initializing with task book: " + src + " and user prefs " + userPrefs);
-
-        taskBook = new TaskBook(src);
-        filteredEvents = new FilteredList<>(taskBook.getEvents());
-        filteredDeadlines = new FilteredList<>(taskBook.getDeadlines());
-        filteredTodos = new FilteredList<>(taskBook.getTodo());
-        undoStack = new Stack<SaveState>();
-        redoStack = new Stack<SaveState>();
-        commandHistory = new ArrayList<String>();
-        this.config = config;
+        this((ReadOnlyTaskBook) src, userPrefs, config);
     }
 
     public ModelManager() {
@@ -72,14 +84,27 @@ public class ModelManager extends ComponentManager implements Model {
     }
 
     public ModelManager(ReadOnlyTaskBook initialData, UserPrefs userPrefs, Config config) {
+        super();
+        assert initialData != null;
+        assert userPrefs != null;
+
+        logger.fine("Initializing with task book: " + initialData + " and user prefs " + userPrefs);
+
         taskBook = new TaskBook(initialData);
-        filteredEvents = new FilteredList<>(taskBook.getEvents());
-        filteredDeadlines = new FilteredList<>(taskBook.getDeadlines());
-        filteredTodos = new FilteredList<>(taskBook.getTodo());
-        undoStack = new Stack<SaveState>();
-        redoStack = new Stack<SaveState>();
+        overdueScheduler = new OverdueScheduler(taskBook, this, this::indicateOverdueStatusChanged);
+        filteredEvents = new FilteredTaskList(taskBook.getEvents());
+        filteredDeadlines = new FilteredTaskList(taskBook.getDeadlines());
+        filteredTodos = new FilteredTaskList(taskBook.getTodo());
+        undoStack = new ArrayDeque<UndoableChange>();
+        redoStack = new ArrayDeque<UndoableChange>();
         commandHistory = new ArrayList<String>();
         this.config = config;
+
+        ListChangeListener<Task> changeRecorder = this::recordChange;
+        taskBook.getEvents().addListener(changeRecorder);
+        taskBook.getDeadlines().addListener(changeRecorder);
+        taskBook.getTodo().addListener(changeRecorder);
+        snapshot = taskBook.snapshot();
     }
 
     //@@author A0147890U
@@ -90,44 +115,99 @@ public class ModelManager extends ComponentManager implements Model {
 
     //@@author A0147890U
     @Override
-    public void addToUndoStack() {
-        TaskBook taskBookToBeAdded = new TaskBook(taskBook);
-        //Config configToBeAdded = new Config(config);
-        SaveState saveToBeAdded = new SaveState(taskBookToBeAdded, config);
+    public synchronized void addToUndoStack() {
+        recording = new UndoableChange(taskBook.getTagList(), config);
+        pushBounded(undoStack, recording);
+    }
 
-        undoStack.push(saveToBeAdded);
+    @Override
+    public synchronized void endUndoStep() {
+        if (recording != null && recording.isEmpty(taskBook.getTagList(), config)) {
+            // nothing to undo, such as a command that failed or renamed a tag no task has
+            undoStack.remove(recording);
+        }
+        recording = null;
+    }
+
+    /** Pushes a step, forgetting the oldest steps beyond the undo limit in the config. */
+    private void pushBounded(Deque<UndoableChange> stack, UndoableChange change) {
+        stack.push(change);
+        while (stack.size() > Math.max(1, config.getUndoLimit())) {
+            stack.removeLast();
+        }
+    }
+
+    /** Records the tasks added, removed and replaced in one of the task lists in {@link #recording}. */
+    private void recordChange(ListChangeListener.Change<? extends Task> change) {
+        if (recording == null) {
+            return;
+        }
+        while (change.next()) {
+            for (Task removed : change.getRemoved()) {
+                recording.recordRemoved(removed);
+            }
+            for (Task added : change.getAddedSubList()) {
+                recording.recordAdded(added);
+            }
+        }
     }
 
-    //@@author A0147890U
     @Override
-    public Config getConfig() {
-        return config;
+    public synchronized int getUndoStackSize() {
+        return undoStack.size();
     }
 
-    //@@author A0147890U
     @Override
-    public void setConfig(Config config) {
-        this.config = config;
+    public synchronized int getRedoStackSize() {
+        return redoStack.size();
+    }
+
+    @Override
+    public synchronized void clearRedoStack() {
+        redoStack.clear();
+    }
+
+    @Override
+    public synchronized void undo(int times) {
+        assert times <= undoStack.size();
+        recording = null;
+        for (int i = 0; i < times; i++) {
+            UndoableChange change = undoStack.pop();
+            pushBounded(redoStack, change.revert(taskBook, config));
+            config = change.getConfigBefore();
+        }
+        indicateTaskBookChanged(true);
+    }
+
+    @Override
+    public synchronized void redo(int times) {
+        assert times <= redoStack.size();
+        recording = null;
+        for (int i = 0; i < times; i++) {
+            UndoableChange change = redoStack.pop();
+            pushBounded(undoStack, change.revert(taskBook, config));
+            config = change.getConfigBefore();
+        }
+        indicateTaskBookChanged(true);
     }
 
     //@@author A0147890U
-    @Override 
-    public Stack<SaveState> getUndoStack() {
-        return this.undoStack;
+    @Override
+    public Config getConfig() {
+        return config;
     }
 
     //@@author A0147890U
     @Override
-    public Stack<SaveState> getRedoStack() {
-        return this.redoStack;
+    public void setConfig(Config config) {
+        this.config = config;
     }
 
     //@@author
     @Override
-    public void resetData(ReadOnlyTaskBook newData) {
+    public synchronized void resetData(ReadOnlyTaskBook newData) {
         taskBook.resetData(newData);
-        updateFilteredListToShowAllUncompleted();
-        indicateTaskBookChanged();
+        indicateTaskBookChanged(true);
     }
 
     @Override
@@ -135,9 +215,76 @@ public class ModelManager extends ComponentManager implements Model {
         return taskBook;
     }
 
-    /** Raises an event to indicate the model has changed */
+    @Override
+    public TaskBookSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    @Override
+    public synchronized void beginTransaction() {
+        if (transactionDepth++ > 0) {
+            return;
+        }
+        addToUndoStack();
+        isChangedInTransaction = false;
+        isFilterStaleInTransaction = false;
+    }
+
+    @Override
+    public synchronized void commitTransaction() {
+        assert transactionDepth > 0;
+        if (--transactionDepth > 0) {
+            return;
+        }
+        if (isFilterStaleInTransaction) {
+            updateFilteredListToShowAllUncompleted();
+        }
+        if (isChangedInTransaction) {
+            indicateTaskBookChanged();
+        }
+        endUndoStep();
+    }
+
+    @Override
+    public synchronized void rollbackTransaction() {
+        assert transactionDepth > 0;
+        if (--transactionDepth > 0) {
+            return;
+        }
+        UndoableChange change = undoStack.pop();
+        recording = null;
+        if (isChangedInTransaction) {
+            change.revert(taskBook, config);
+            updateFilteredListToShowAllUncompleted();
+        }
+    }
+
+    /**
+     * Reports a change to the task book, refreshing the filtered lists first if {@code isFilterStale}.
+     * Inside a transaction both are left to the commit.
+     */
+    private void indicateTaskBookChanged(boolean isFilterStale) {
+        if (transactionDepth > 0) {
+            isChangedInTransaction = true;
+            isFilterStaleInTransaction |= isFilterStale;
+            return;
+        }
+        if (isFilterStale) {
+            updateFilteredListToShowAllUncompleted();
+        }
+        indicateTaskBookChanged();
+    }
+
+    /** Publishes a snapshot of the task book and raises an event to indicate the model has changed */
     private void indicateTaskBookChanged() {
-        raise(new TaskBookChangedEvent(taskBook));
+        overdueScheduler.updateOutdated();
+        raise(new TaskBookChangedEvent(publishSnapshot()));
+    }
+
+    /** Takes a snapshot of the task book as it is now, to be returned by {@link #getSnapshot()}. */
+    private synchronized TaskBookSnapshot publishSnapshot() {
+        snapshot = taskBook.snapshot();
+        return snapshot;
     }
 
     //@@author A0147890U
@@ -146,11 +293,17 @@ public class ModelManager extends ComponentManager implements Model {
         raise(new OverdueChangedEvent());
     }
 
+    /** Raises the events for a change in overdue status found by {@link #overdueScheduler} */
+    private void indicateOverdueStatusChanged() {
+        indicateTaskOverdueChanged();
+        indicateTaskBookChanged();
+    }
+
     //@@author A0139430L
     @Override
     public synchronized void deleteTask(ReadOnlyTask target) {
         taskBook.removeTask(target);
-        indicateTaskBookChanged();
+        indicateTaskBookChanged(false);
     }
     
     //@@author A0139430L
@@ -162,36 +315,40 @@ public class ModelManager extends ComponentManager implements Model {
     @Override 
     public synchronized Task editTask(ReadOnlyTask target, String args, char category) throws TaskNotFoundException, IllegalValueException {
         Task temp = taskBook.changeTask(target, args, category);
-        updateFilteredListToShowAllUncompleted();
-        indicateTaskBookChanged();
+        indicateTaskBookChanged(true);
         return temp;
     }
 
     @Override
     public synchronized void addTask(Task task) throws UniqueTaskList.DuplicateTaskException {
         taskBook.addTask(task);
-        updateFilteredListToShowAllUncompleted();
-        indicateTaskBookChanged();
+        indicateTaskBookChanged(true);
+    }
+
+    @Override
+    public synchronized int renameTag(Tag from, Tag to) {
+        int renamed = taskBook.renameTag(from, to);
+        indicateTaskBookChanged(false);
+        return renamed;
+    }
+
+    @Override
+    public synchronized int removeTag(Tag tag) {
+        int removed = taskBook.removeTag(tag);
+        indicateTaskBookChanged(false);
+        return removed;
     }
 
     //@@author A0135722L Zhiyuan
     public synchronized void markDone(ReadOnlyTask target) throws TaskNotFoundException {
         taskBook.completeTask(target);
-        updateFilteredListToShowAllUncompleted();
-        indicateTaskBookChanged();
+        indicateTaskBookChanged(true);
     }
 
     //@@author A0138993L
     @Override
-    public synchronized void overdueTask() {
-        final Runnable overdue = new Runnable() {
-            public void run() {
-                taskBook.overdueTask();
-                indicateTaskOverdueChanged();
-                indicateTaskBookChanged();
-            };
-        };
-        scheduler.scheduleAtFixedRate(overdue, 0, 1, TimeUnit.SECONDS); 
+    public void overdueTask() {
+        overdueScheduler.start();
     }
 
     //@@author A0139430L
@@ -203,7 +360,7 @@ public class ModelManager extends ComponentManager implements Model {
             // TODO Auto-generated catch block
             e.printStackTrace();
         }
-        indicateTaskBookChanged();
+        indicateTaskBookChanged(false);
     }
 
     //=========== Filtered Task List Accessors ===============================================================
@@ -222,85 +379,224 @@ public class ModelManager extends ComponentManager implements Model {
     }
 
     @Override
-    public void updateFilteredListToShowAll() {
-        filteredEvents.setPredicate(null);
-        filteredDeadlines.setPredicate(null);
-        filteredTodos.setPredicate(null);
+    public synchronized void updateFilteredListToShowAll() {
+        updateFilteredLists("all", task -> true);
     }
 
     //@@author A0147890U
     @Override
-    public void updateFilteredListToShowAllCompleted() {
-        filteredEvents.setPredicate(task -> {
-            if (task.getIsCompleted()) {
-                return true;
-            }
-            return false;
-        });
-        filteredDeadlines.setPredicate(task -> {
-            if (task.getIsCompleted()) {
-                return true;
-            }
-            return false;
-        });
-        filteredTodos.setPredicate(task -> {
-            if (task.getIsCompleted()) {
-                return true;
-            }
-            return false;
-        });
+    public synchronized void updateFilteredListToShowAllCompleted() {
+        updateFilteredLists("is:done", task -> task.getIsCompleted());
     }
 
     //@@author A0147890U
     @Override 
-    public void updateFilteredListToShowAllUncompleted() {
-        filteredEvents.setPredicate(task -> {
-            if (!task.getIsCompleted()) {
-                return true;
-            }
-            return false;
-        });
-        filteredDeadlines.setPredicate(task -> {
-            if (!task.getIsCompleted()) {
-                return true;
-            }
-            return false;
-        });
-        filteredTodos.setPredicate(task -> {
-            if (!task.getIsCompleted()) {
-                return true;
-            }
-            return false;
+    public synchronized void updateFilteredListToShowAllUncompleted() {
+        updateFilteredLists("is:pending", task -> !task.getIsCompleted());
+    }
+
+    //@@author
+    @Override
+    public synchronized void updateFilteredListToShowDueBetween(LocalDate from, LocalDate to) {
+        long first = TaskDateIndex.epochMinuteOf(from);
+        long last = TaskDateIndex.epochMinuteOf(to.plusDays(1)) - 1;
+        updateFilteredListToShowEnding("due:" + from + ".." + to, minute -> minute >= first && minute <= last);
+    }
+
+    @Override
+    public synchronized void updateFilteredListToShowToday() {
+        LocalDate today = LocalDate.now();
+        updateFilteredListToShowDueBetween(today, today);
+    }
+
+    @Override
+    public synchronized void updateFilteredListToShowOverdue() {
+        long now = TaskDateIndex.epochMinuteOf(LocalDateTime.now());
+        updateFilteredListToShowEnding("overdue:" + now, minute -> minute < now);
+    }
+
+    /**
+     * Shows only the uncompleted events and deadlines whose end, as counted in {@link TaskDateIndex}, is
+     * accepted. To-dos have no date, so none of them are shown.
+     */
+    private void updateFilteredListToShowEnding(String filter, LongPredicate isEndShown) {
+        updateFilteredLists(filter, task -> {
+            long end = TaskDateIndex.endMinuteOf(task);
+            return end != TaskDateIndex.NO_END && !task.getIsCompleted() && isEndShown.test(end);
         });
+    }
 
+    @Override
+    public synchronized List<ReadOnlyTask> getClashingEvents(ReadOnlyTask event) {
+        return new ArrayList<>(taskBook.getClashingEvents(event));
+    }
+
+    @Override
+    public synchronized List<Interval> getFreeSlots(LocalDate from, LocalDate to, int minutes) {
+        return taskBook.getFreeSlots(TaskDateIndex.epochMinuteOf(from),
+                TaskDateIndex.epochMinuteOf(to.plusDays(1)), minutes);
+    }
+
+    @Override
+    public synchronized void updateFilteredListToShowTag(Tag tag) {
+        updateFilteredLists("tag:" + tag.tagName, task -> hasTag(task, tag));
+    }
+
+    /** Returns true if the task is uncompleted and has the tag, looked up in the task book's tag index. */
+    private boolean hasTag(ReadOnlyTask task, Tag tag) {
+        return !task.getIsCompleted() && taskBook.getTaskIdsWithTag(tag).contains(task.getId());
+    }
+
+    @Override
+    public synchronized void updateFilteredEventList(Set<String> keywords){
+        updateFilteredLists(new PredicateExpression(new NameQualifier(keywords)), 'E');
     }
 
-    //@@author
     @Override
-    public void updateFilteredEventList(Set<String> keywords){
-        updateFilteredEventList(new PredicateExpression(new NameQualifier(keywords)));
+    public synchronized void updateFilteredDeadlineList(Set<String> keywords){
+        updateFilteredLists(new PredicateExpression(new NameQualifier(keywords)), 'D');
     }
 
     @Override
-    public void updateFilteredDeadlineList(Set<String> keywords){
-        updateFilteredDeadlineList(new PredicateExpression(new NameQualifier(keywords)));
+    public synchronized void updateFilteredTodoList(Set<String> keywords){
+        updateFilteredLists(new PredicateExpression(new NameQualifier(keywords)), 'T');
     }
 
     @Override
-    public void updateFilteredTodoList(Set<String> keywords){
-        updateFilteredTodoList(new PredicateExpression(new NameQualifier(keywords)));
+    public synchronized void updateFilteredListToShowQuery(Query query) {
+        logger.fine("Finding tasks matching " + query);
+        QueryQualifier qualifier = new QueryQualifier(query);
+        Expression expression = new PredicateExpression(qualifier);
+        Comparator<Task> order = query.isRanked() ? rankedBy(qualifier.matchingIds()) : null;
+        updateFilteredLists(expression.toString(), expression::satisfies, order, 'E', 'D', 'T');
+    }
+
+    /**
+     * Orders tasks by where their ids come among the given ids, best match first. Tasks that are not
+     * among them, such as those added later, come last in their usual order.
+     */
+    private static Comparator<Task> rankedBy(Set<Long> rankedIds) {
+        Map<Long, Integer> ranks = new HashMap<>();
+        for (long id : rankedIds) {
+            ranks.put(id, ranks.size());
+        }
+        return Comparator.<Task>comparingInt(task -> ranks.getOrDefault(task.getId(), Integer.MAX_VALUE))
+                .thenComparing(Comparator.naturalOrder());
+    }
+
+    private void updateFilteredLists(Expression expression, char... categories) {
+        updateFilteredLists(expression.toString(), expression::satisfies, categories);
+    }
+
+    private void updateFilteredLists(String filter, Predicate<ReadOnlyTask> predicate) {
+        updateFilteredLists(filter, predicate, 'E', 'D', 'T');
+    }
+
+    private void updateFilteredLists(String filter, Predicate<ReadOnlyTask> predicate, char... categories) {
+        updateFilteredLists(filter, predicate, null, categories);
+    }
+
+    /**
+     * Shows the tasks of the filtered lists of the given categories that satisfy the predicate, described
+     * by {@code filter}, in the given order, or in the order of the task lists if it is null.
+     *
+     * A list already showing the same filter is left alone: it has been kept up to date as tasks changed.
+     * Otherwise the ids shown are taken from the filter cache for the current version of the task book, and
+     * the lists missing from it are evaluated together, in parallel once they are large. Only when every
+     * list's ids are known are the lists given their new predicates, one straight after another, so the UI
+     * never shows some lists filtered the new way and others the old. Tasks that change after that are
+     * tested with the predicate itself.
+     */
+    private synchronized void updateFilteredLists(String filter, Predicate<ReadOnlyTask> predicate,
+            Comparator<? super Task> order, char... categories) {
+        TaskBookChangeLog changeLog = taskBook.getChangeLog();
+        // changes not yet in a snapshot have not moved the version on, so results cannot be cached meanwhile
+        boolean isCacheable = !changeLog.hasUncommittedChanges();
+        long version = changeLog.getVersion();
+        Map<Character, Set<Long>> idsByCategory = new LinkedHashMap<>();
+        List<Character> toEvaluate = new ArrayList<>();
+        List<SortedTaskList> sources = new ArrayList<>();
+        for (char category : categories) {
+            if (filter.equals(shownFilters.get(category))) {
+                filterCache.recordHit();
+                continue;
+            }
+            Set<Long> ids = isCacheable ? filterCache.getIfPresent(filter, category, version) : null;
+            if (ids == null) {
+                toEvaluate.add(category);
+                sources.add(filteredListOf(category).getSource());
+            }
+            idsByCategory.put(category, ids);
+        }
+        if (idsByCategory.isEmpty()) {
+            return;
+        }
+
+        List<Set<Long>> evaluated = filterEvaluator.matchingIds(sources, predicate);
+        for (int i = 0; i < toEvaluate.size(); i++) {
+            if (isCacheable) {
+                filterCache.put(filter, toEvaluate.get(i), version, evaluated.get(i));
+            }
+            idsByCategory.put(toEvaluate.get(i), evaluated.get(i));
+        }
+
+        for (Map.Entry<Character, Set<Long>> entry : idsByCategory.entrySet()) {
+            ShownPredicate shown = new ShownPredicate(entry.getValue(), predicate);
+            filteredListOf(entry.getKey()).setPredicate(shown, order);
+            shown.forgetIds();
+            shownFilters.put(entry.getKey(), filter);
+        }
     }
 
-    private void updateFilteredEventList(Expression expression) {
-        filteredEvents.setPredicate(expression::satisfies);
+    /**
+     * The predicate of a filtered list, answered from the ids worked out for the tasks in the list when it
+     * is set, and by testing the tasks put in the list after that, which are all new or changed.
+     */
+    private static class ShownPredicate implements Predicate<ReadOnlyTask> {
+        private Set<Long> ids;
+        private final Predicate<ReadOnlyTask> predicate;
+
+        ShownPredicate(Set<Long> ids, Predicate<ReadOnlyTask> predicate) {
+            this.ids = ids;
+            this.predicate = predicate;
+        }
+
+        /** Called once the list has been filtered with the ids, so later tasks are tested instead. */
+        void forgetIds() {
+            ids = null;
+        }
+
+        @Override
+        public boolean test(ReadOnlyTask task) {
+            return ids != null ? ids.contains(task.getId()) : predicate.test(task);
+        }
     }
 
-    private void updateFilteredDeadlineList(Expression expression) {
-        filteredDeadlines.setPredicate(expression::satisfies);
+    private FilteredTaskList filteredListOf(char category) {
+        switch (category) {
+        case 'E':
+            return filteredEvents;
+        case 'D':
+            return filteredDeadlines;
+        default:
+            return filteredTodos;
+        }
     }
 
-    private void updateFilteredTodoList(Expression expression) {
-        filteredTodos.setPredicate(expression::satisfies);
+    /** Returns the number of times the filters asked for were already shown or cached. */
+    public long getFilterCacheHits() {
+        return filterCache.getHits();
+    }
+
+    /** Returns the number of times the filters asked for had to be worked out. */
+    public long getFilterCacheMisses() {
+        return filterCache.getMisses();
+    }
+
+    /** Returns the version of the task book as of the last reported change. */
+    @Override
+    public synchronized long getVersion() {
+        return taskBook.getChangeLog().getVersion();
     }
 
     //========== Inner classes/interfaces used for filtering ==================================================
@@ -334,25 +630,58 @@ public class ModelManager extends ComponentManager implements Model {
         String toString();
     }
 
-    private class NameQualifier implements Qualifier {
+    /**
+     * A qualifier matching the tasks whose ids it finds in the task book's indexes. The ids are kept until
+     * the indexes change, so testing each task is a single set lookup. They are kept with the version they
+     * were found at in one immutable holder, so tasks may be tested from several threads at once: at worst
+     * two threads both find the ids.
+     */
+    private abstract class IndexedQualifier implements Qualifier {
+        private volatile FoundIds found;
+
+        /** Returns the ids of the tasks this qualifier matches, ignoring whether they are completed. */
+        abstract Set<Long> findIds();
+
+        Set<Long> matchingIds() {
+            FoundIds current = found;
+            long indexVersion = taskBook.getSearchIndexVersion();
+            if (current == null || current.indexVersion != indexVersion) {
+                current = new FoundIds(findIds(), indexVersion);
+                found = current;
+            }
+            return current.ids;
+        }
+    }
+
+    private static final class FoundIds {
+        final Set<Long> ids;
+        final long indexVersion;
+
+        FoundIds(Set<Long> ids, long indexVersion) {
+            this.ids = ids;
+            this.indexVersion = indexVersion;
+        }
+    }
+
+    /**
+     * Matches uncompleted tasks containing any of the keywords, looked up in the task book's search index.
+     */
+    private class NameQualifier extends IndexedQualifier {
         private Set<String> anyKeyWords;
 
         NameQualifier(Set<String> anyKeyWords) {
             this.anyKeyWords = anyKeyWords;
         }
-        //@@author A0139430L
+
         @Override
-        public boolean run(ReadOnlyTask Task) {
+        Set<Long> findIds() {
+            return taskBook.findTaskIds(anyKeyWords);
+        }
 
-            return anyKeyWords.stream()
-                    .filter(keyword -> (StringUtil.containsIgnoreCase(Task.getName().taskDetails.toLowerCase(), keyword)
-                            || StringUtil.containsIgnoreCase(Task.getDate().value, keyword)
-                            || StringUtil.containsIgnoreCase(Task.getStart().value, keyword)
-                            || StringUtil.containsIgnoreCase(Task.getEnd().value, keyword)
-                            || StringUtil.containsIgnoreCase(Task.getTags().toString(), keyword))
-                            && Task.getIsCompleted() == false)
-                    .findAny()
-                    .isPresent();
+        //@@author A0139430L
+        @Override
+        public boolean run(ReadOnlyTask task) {
+            return !task.getIsCompleted() && matchingIds().contains(task.getId());
         }
 
         @Override
@@ -361,5 +690,30 @@ public class ModelManager extends ComponentManager implements Model {
         }
     }
 
+    /**
+     * Matches the tasks satisfying a find query, run against the task book's indexes.
+     */
+    private class QueryQualifier extends IndexedQualifier {
+        private final Query query;
+
+        QueryQualifier(Query query) {
+            this.query = query;
+        }
+
+        @Override
+        Set<Long> findIds() {
+            return query.findIds(taskBook);
+        }
+
+        @Override
+        public boolean run(ReadOnlyTask task) {
+            return matchingIds().contains(task.getId());
+        }
+
+        @Override
+        public String toString() {
+            return query.toString();
+        }
+    }
 
 }
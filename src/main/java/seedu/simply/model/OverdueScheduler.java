@@ -0,0 +1,257 @@
+package seedu.simply.model;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import seedu.simply.commons.core.LogsCenter;
+import seedu.simply.model.task.ReadOnlyTask;
+import seedu.simply.model.task.Task;
+
+/**
+ * Keeps the overdue status of the events and deadlines in a {@link TaskBook} up to date.
+ *
+ * A task's status only changes at two instants: when its date becomes today, and a minute after
+ * its end time on that date, when it becomes overdue. The next such instant of every task is kept
+ * in a priority queue and the scheduler sleeps until the earliest one is due, so only the tasks
+ * that are due get re-checked and nothing runs while there is nothing to do.
+ * {@code onStatusChanged} is only run when a status really changed.
+ */
+public class OverdueScheduler {
+
+    private static final Logger logger = LogsCenter.getLogger(OverdueScheduler.class);
+
+    /** Longest single sleep, so that a change to the system clock is picked up eventually. */
+    private static final long MAX_SLEEP_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    /** The instant at which the status of a task is next due to change. */
+    private static class Transition implements Comparable<Transition> {
+        final LocalDateTime time;
+        final long taskId;
+
+        Transition(LocalDateTime time, long taskId) {
+            this.time = time;
+            this.taskId = taskId;
+        }
+
+        @Override
+        public int compareTo(Transition other) {
+            return time.compareTo(other.time);
+        }
+    }
+
+    private final TaskBook taskBook;
+    private final Object lock;
+    private final Runnable onStatusChanged;
+    private final ScheduledThreadPoolExecutor executor;
+
+    private final PriorityQueue<Transition> transitions = new PriorityQueue<>();
+    /** Time of the current queue entry of each task. Entries with any other time are stale and skipped. */
+    private final Map<Long, LocalDateTime> scheduledTimes = new HashMap<>();
+
+    /**
+     * Tasks added with an outdated status. They cannot be replaced while the list is telling its listeners
+     * of the change, so they wait for {@link #updateOutdated()}.
+     */
+    private final Set<Long> outdatedIds = new HashSet<>();
+
+    private ScheduledFuture<?> pendingWake;
+    private LocalDateTime pendingWakeTime;
+    private boolean isStarted;
+
+    /**
+     * @param taskBook the task book to watch.
+     * @param lock the lock that guards all changes to {@code taskBook}.
+     * @param onStatusChanged run, without holding {@code lock}, after the status of any task changed.
+     */
+    public OverdueScheduler(TaskBook taskBook, Object lock, Runnable onStatusChanged) {
+        this.taskBook = taskBook;
+        this.lock = lock;
+        this.onStatusChanged = onStatusChanged;
+        this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "overdue-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Brings the status of every task up to date and starts following the task book.
+     * Does nothing if already started.
+     */
+    public void start() {
+        boolean isChanged;
+        synchronized (lock) {
+            if (isStarted) {
+                return;
+            }
+            isStarted = true;
+            ListChangeListener<Task> listener = this::handleTasksChanged;
+            taskBook.getEvents().addListener(listener);
+            taskBook.getDeadlines().addListener(listener);
+
+            isChanged = taskBook.overdueTask();
+            LocalDateTime now = LocalDateTime.now();
+            taskBook.getEvents().forEach(task -> schedule(task, now));
+            taskBook.getDeadlines().forEach(task -> schedule(task, now));
+            rescheduleWake(now);
+        }
+        if (isChanged) {
+            onStatusChanged.run();
+        }
+    }
+
+    /**
+     * Brings up to date the status of the tasks added since the last call with an outdated status.
+     * @return true if the status of any task changed.
+     */
+    public boolean updateOutdated() {
+        synchronized (lock) {
+            List<Long> ids = new ArrayList<>(outdatedIds);
+            outdatedIds.clear();
+            boolean isChanged = false;
+            for (long id : ids) {
+                isChanged |= taskBook.updateOverdue(id);
+            }
+            return isChanged;
+        }
+    }
+
+    /**
+     * Returns the next time after {@code now} at which the status of the given task changes,
+     * or null if it will not change again.
+     */
+    public static LocalDateTime nextTransition(ReadOnlyTask task, LocalDateTime now) {
+        LocalDate date = task.getDate() == null ? null : task.getDate().toLocalDate();
+        if (date == null) {
+            return null;
+        }
+        LocalDateTime becomesToday = date.atStartOfDay();
+        if (now.isBefore(becomesToday)) {
+            return becomesToday;
+        }
+        LocalDateTime becomesOverdue = becomesToday.plusMinutes(minutesUntilOverdue(task));
+        if (now.isBefore(becomesOverdue)) {
+            return becomesOverdue;
+        }
+        return null;
+    }
+
+    /**
+     * Minutes from the start of the task's date until it is overdue: a task is overdue once the
+     * current time is past its end time, or once its date has passed.
+     */
+    private static int minutesUntilOverdue(ReadOnlyTask task) {
+        if (task.getEnd() == null || !Character.isDigit(task.getEnd().value.charAt(0))) {
+            return MINUTES_PER_DAY;
+        }
+        int end = Integer.parseInt(task.getEnd().value);
+        return Math.min((end / 100) * 60 + end % 100 + 1, MINUTES_PER_DAY);
+    }
+
+    private void handleTasksChanged(ListChangeListener.Change<? extends Task> change) {
+        synchronized (lock) {
+            LocalDateTime now = LocalDateTime.now();
+            while (change.next()) {
+                for (Task removed : change.getRemoved()) {
+                    if (taskBook.getTask(removed.getId()) == null) {
+                        scheduledTimes.remove(removed.getId());
+                    }
+                }
+                for (Task added : change.getAddedSubList()) {
+                    schedule(added, now);
+                    if (TaskBook.isOverdueOutdated(added)) {
+                        outdatedIds.add(added.getId());
+                    }
+                }
+            }
+            rescheduleWake(now);
+        }
+    }
+
+    /** Queues the next transition of the given task, replacing any it already had. */
+    private void schedule(ReadOnlyTask task, LocalDateTime now) {
+        LocalDateTime next = nextTransition(task, now);
+        if (next == null) {
+            scheduledTimes.remove(task.getId());
+            return;
+        }
+        if (next.equals(scheduledTimes.put(task.getId(), next))) {
+            return;
+        }
+        transitions.add(new Transition(next, task.getId()));
+    }
+
+    private boolean isStale(Transition transition) {
+        return !transition.time.equals(scheduledTimes.get(transition.taskId));
+    }
+
+    /** Makes sure the scheduler wakes up in time for the earliest queued transition. */
+    private void rescheduleWake(LocalDateTime now) {
+        while (!transitions.isEmpty() && isStale(transitions.peek())) {
+            transitions.poll();
+        }
+        if (transitions.isEmpty()) {
+            cancelWake();
+            return;
+        }
+        LocalDateTime earliest = transitions.peek().time;
+        if (pendingWake != null && !earliest.isBefore(pendingWakeTime)) {
+            return;
+        }
+        cancelWake();
+        long delay = Math.min(Math.max(0, Duration.between(now, earliest).toMillis()), MAX_SLEEP_MILLIS);
+        pendingWakeTime = now.plus(Duration.ofMillis(delay));
+        pendingWake = executor.schedule(this::wake, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void cancelWake() {
+        if (pendingWake != null) {
+            pendingWake.cancel(false);
+            pendingWake = null;
+            pendingWakeTime = null;
+        }
+    }
+
+    /** Re-checks the tasks whose transitions are due. */
+    private void wake() {
+        boolean isChanged = false;
+        synchronized (lock) {
+            pendingWake = null;
+            pendingWakeTime = null;
+            LocalDateTime now = LocalDateTime.now();
+            while (!transitions.isEmpty() && !transitions.peek().time.isAfter(now)) {
+                Transition due = transitions.poll();
+                if (isStale(due)) {
+                    continue;
+                }
+                scheduledTimes.remove(due.taskId);
+                Task task = taskBook.getTask(due.taskId);
+                if (task != null) {
+                    isChanged |= taskBook.updateOverdue(due.taskId);
+                    schedule(task, now);
+                }
+            }
+            rescheduleWake(now);
+        }
+        if (isChanged) {
+            logger.fine("Overdue status changed");
+            onStatusChanged.run();
+        }
+    }
+}
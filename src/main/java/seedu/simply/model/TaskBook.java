@@ -1,15 +1,18 @@
 package seedu.simply.model;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.simply.commons.core.EventsCenter;
 import seedu.simply.commons.events.ui.JumpToListRequestEvent;
@@ -17,8 +20,13 @@ import seedu.simply.commons.exceptions.IllegalValueException;
 import seedu.simply.logic.commands.EditCommand;
 import seedu.simply.model.tag.Tag;
 import seedu.simply.model.tag.UniqueTagList;
+import seedu.simply.model.task.EventIntervalTree;
 import seedu.simply.model.task.ReadOnlyTask;
+import seedu.simply.model.task.SortedTaskList;
 import seedu.simply.model.task.Task;
+import seedu.simply.model.task.TaskDateIndex;
+import seedu.simply.model.task.TaskFuzzyIndex;
+import seedu.simply.model.task.TaskSearchIndex;
 import seedu.simply.model.task.UniqueTaskList;
 import seedu.simply.model.task.UniqueTaskList.DuplicateTaskException;
 import seedu.simply.model.task.UniqueTaskList.TaskNotFoundException;
@@ -27,6 +35,11 @@ import seedu.simply.model.task.UniqueTaskList.TaskNotFoundException;
  * 
  * Wraps all data at the task-book level
  * Duplicates are not allowed (by .equals comparison)
+ * Tasks are also indexed by their id, so a task can be looked up without scanning the lists,
+ * and by the words they contain, so they can be found without scanning them either.
+ * The ids of the tasks with each tag are kept too, so tags can be listed, renamed and removed
+ * by touching only the tasks that have them, and events and deadlines are indexed by when they end.
+ * The time ranges of the events are kept in an interval tree to find clashes and free time.
  */
 public class TaskBook implements ReadOnlyTaskBook {
 
@@ -34,12 +47,38 @@ public class TaskBook implements ReadOnlyTaskBook {
     private UniqueTaskList deadlines;
     private UniqueTaskList todo;
     private final UniqueTagList tags;
+    private final Map<Long, Task> tasksById;
+    private final TaskSearchIndex searchIndex;
+    private final TaskFuzzyIndex fuzzyIndex;
+    private final TaskDateIndex dateIndex;
+    private final EventIntervalTree eventIntervals;
+    private final Map<String, Set<Long>> taskIdsByTag;
+    private final Map<Tag, Tag> masterTags;
+    private final TaskBookChangeLog changeLog;
 
     {
         events = new UniqueTaskList();
         deadlines = new UniqueTaskList();
         todo = new UniqueTaskList();
         tags = new UniqueTagList();
+        tasksById = new HashMap<>();
+        searchIndex = new TaskSearchIndex();
+        fuzzyIndex = new TaskFuzzyIndex();
+        dateIndex = new TaskDateIndex();
+        eventIntervals = new EventIntervalTree();
+        taskIdsByTag = new HashMap<>();
+        masterTags = new HashMap<>();
+        changeLog = new TaskBookChangeLog();
+        ListChangeListener<Task> idIndexUpdater = this::updateIdIndex;
+        events.getInternalList().addListener(idIndexUpdater);
+        deadlines.getInternalList().addListener(idIndexUpdater);
+        todo.getInternalList().addListener(idIndexUpdater);
+        tags.getInternalList().addListener(this::updateMasterTags);
+        ListChangeListener<Task> changeRecorder = this::recordChange;
+        events.getInternalList().addListener(changeRecorder);
+        deadlines.getInternalList().addListener(changeRecorder);
+        todo.getInternalList().addListener(changeRecorder);
+        tags.getInternalList().addListener((ListChangeListener<Tag>) change -> changeLog.recordTagListChanged());
     }
 
     public TaskBook() {}
@@ -58,21 +97,37 @@ public class TaskBook implements ReadOnlyTaskBook {
         resetData(events.getInternalList(), deadlines.getInternalList(), todo.getInternalList(), tags.getInternalList());
     }
 
+    /**
+     * Returns the task book as it is now, in O(1) apart from copying the tags.
+     * Later changes to this task book do not show in the snapshot. The changes made since the last snapshot
+     * are added to the {@link #getChangeLog() change log}, and the snapshot is numbered by the version of the
+     * task book they bring it to.
+     */
+    public TaskBookSnapshot snapshot() {
+        long version = changeLog.commit(tags.getInternalList());
+        return new TaskBookSnapshot(events.getInternalList().snapshot(), deadlines.getInternalList().snapshot(),
+                todo.getInternalList().snapshot(), tags.getInternalList(), changeLog, version);
+    }
+
+    public TaskBookChangeLog getChangeLog() {
+        return changeLog;
+    }
+
     public static ReadOnlyTaskBook getEmptyTaskBook() {
         return new TaskBook();
     }
 
     //// list overwrite operations
 
-    public ObservableList<Task> getEvents() {
+    public SortedTaskList getEvents() {
         return events.getInternalList();
     }
 
-    public ObservableList<Task> getDeadlines() {
+    public SortedTaskList getDeadlines() {
         return deadlines.getInternalList();
     }
 
-    public ObservableList<Task> getTodo() {
+    public SortedTaskList getTodo() {
         return todo.getInternalList();
     }
 
@@ -94,18 +149,199 @@ public class TaskBook implements ReadOnlyTaskBook {
 
     public void resetData(Collection<? extends ReadOnlyTask> newEvents, Collection<? extends ReadOnlyTask> newDeadlines,
             Collection<? extends ReadOnlyTask> newTodo, Collection<Tag> newTags) {
-        setEvents(newEvents.stream().map(Task::new).collect(Collectors.toList()));
-        setDeadlines(newDeadlines.stream().map(Task::new).collect(Collectors.toList()));
-        setTodo(newTodo.stream().map(Task::new).collect(Collectors.toList()));
+        final Set<Long> usedIds = new HashSet<>();
+        setEvents(copyWithUniqueIds(newEvents, usedIds));
+        setDeadlines(copyWithUniqueIds(newDeadlines, usedIds));
+        setTodo(copyWithUniqueIds(newTodo, usedIds));
         setTags(newTags);
     }
 
+    /**
+     * Copies the given tasks, keeping their ids unless an id has already been used,
+     * in which case the copy is given a fresh id.
+     */
+    private static List<Task> copyWithUniqueIds(Collection<? extends ReadOnlyTask> tasks, Set<Long> usedIds) {
+        final List<Task> copies = new ArrayList<>();
+        for (ReadOnlyTask task : tasks) {
+            long id = usedIds.contains(task.getId()) ? Task.NO_ID : task.getId();
+            Task copy = new Task(id, task.getName(), task.getDate(), task.getStart(), task.getEnd(),
+                    task.getTaskCategory(), task.getOverdue(), task.getIsCompleted(), task.getTags());
+            usedIds.add(copy.getId());
+            copies.add(copy);
+        }
+        return copies;
+    }
+
     public void resetData(ReadOnlyTaskBook newData) {
         resetData(newData.getEventList(), newData.getDeadlineList(), newData.getTodoList(), newData.getTagList());
     }
 
     //// task-level operations
 
+    /**
+     * Returns the task with the given id, or null if there is no such task in the task book.
+     */
+    public Task getTask(long id) {
+        return tasksById.get(id);
+    }
+
+    /**
+     * Returns the ids of the tasks matching any of the given keywords, as a find would.
+     * @see TaskSearchIndex#find(Collection)
+     */
+    public Set<Long> findTaskIds(Collection<String> keywords) {
+        return searchIndex.find(keywords);
+    }
+
+    /**
+     * Returns the ids of the tasks with a word in their name or tags close to the misspelt word,
+     * those with the closest words first.
+     * @see TaskFuzzyIndex#find(String)
+     */
+    public Set<Long> findTaskIdsFuzzy(String word) {
+        return fuzzyIndex.find(word);
+    }
+
+    /**
+     * Returns a number that changes whenever the result of {@link #findTaskIds} or
+     * {@link #findTaskIdsFuzzy} may have.
+     */
+    public long getSearchIndexVersion() {
+        return searchIndex.getVersion();
+    }
+
+    /**
+     * Returns the ids of the tasks with the given tag. The returned set must not be modified.
+     */
+    public Set<Long> getTaskIdsWithTag(Tag tag) {
+        Set<Long> ids = taskIdsByTag.get(tag.tagName);
+        return ids != null ? Collections.unmodifiableSet(ids) : Collections.emptySet();
+    }
+
+    /**
+     * Returns the ids of the events and deadlines ending from minute {@code from} to minute {@code to},
+     * both inclusive and counted as in {@link TaskDateIndex}, in order of when they end.
+     */
+    public List<Long> getTaskIdsEndingBetween(long from, long to) {
+        return dateIndex.idsBetween(from, to);
+    }
+
+    /**
+     * Returns the ids of the events and deadlines ending before minute {@code before}, counted as in
+     * {@link TaskDateIndex}, in order of when they end.
+     */
+    public List<Long> getTaskIdsEndingBefore(long before) {
+        return dateIndex.idsBefore(before);
+    }
+
+    /**
+     * Returns the uncompleted events other than {@code event} whose time overlaps that of {@code event},
+     * in order of when they start. Returns an empty list if {@code event} is not an uncompleted event.
+     */
+    public List<Task> getClashingEvents(ReadOnlyTask event) {
+        final List<Task> clashes = new ArrayList<>();
+        EventIntervalTree.Interval interval = EventIntervalTree.intervalOf(event);
+        if (interval == null) {
+            return clashes;
+        }
+        for (long id : eventIntervals.overlapping(interval.start, interval.end)) {
+            if (id != event.getId()) {
+                clashes.add(tasksById.get(id));
+            }
+        }
+        return clashes;
+    }
+
+    /**
+     * Returns the gaps of at least {@code length} minutes between the uncompleted events from minute
+     * {@code from} to minute {@code to}, counted as in {@link TaskDateIndex}.
+     */
+    public List<EventIntervalTree.Interval> getFreeSlots(long from, long to, long length) {
+        return eventIntervals.freeSlots(from, to, length);
+    }
+
+    /**
+     * Keeps {@link #tasksById}, {@link #searchIndex}, {@link #fuzzyIndex}, {@link #dateIndex},
+     * {@link #eventIntervals} and {@link #taskIdsByTag} in step with the three task lists.
+     */
+    private void updateIdIndex(ListChangeListener.Change<? extends Task> change) {
+        while (change.next()) {
+            for (Task removed : change.getRemoved()) {
+                if (tasksById.get(removed.getId()) == removed) {
+                    tasksById.remove(removed.getId());
+                    searchIndex.remove(removed.getId());
+                    fuzzyIndex.remove(removed.getId());
+                    dateIndex.remove(removed.getId());
+                    eventIntervals.remove(removed.getId());
+                    for (Tag tag : removed.getTags()) {
+                        Set<Long> ids = taskIdsByTag.get(tag.tagName);
+                        if (ids != null && ids.remove(removed.getId()) && ids.isEmpty()) {
+                            taskIdsByTag.remove(tag.tagName);
+                        }
+                    }
+                }
+            }
+            for (Task added : change.getAddedSubList()) {
+                tasksById.put(added.getId(), added);
+                searchIndex.add(added);
+                fuzzyIndex.add(added);
+                dateIndex.add(added);
+                eventIntervals.add(added);
+                for (Tag tag : added.getTags()) {
+                    taskIdsByTag.computeIfAbsent(tag.tagName, name -> new HashSet<>()).add(added.getId());
+                }
+            }
+        }
+    }
+
+    /** Tells {@link #changeLog} of the tasks put in and taken out of the task lists. */
+    private void recordChange(ListChangeListener.Change<? extends Task> change) {
+        while (change.next()) {
+            for (Task removed : change.getRemoved()) {
+                changeLog.recordRemoved(removed);
+            }
+            for (Task added : change.getAddedSubList()) {
+                changeLog.recordAdded(added);
+            }
+        }
+    }
+
+    /**
+     * Keeps {@link #masterTags} in step with {@link #tags}.
+     */
+    private void updateMasterTags(ListChangeListener.Change<? extends Tag> change) {
+        while (change.next()) {
+            for (Tag removed : change.getRemoved()) {
+                masterTags.remove(removed);
+            }
+            for (Tag added : change.getAddedSubList()) {
+                masterTags.put(added, added);
+            }
+        }
+    }
+
+    /**
+     * Returns the list that holds tasks of the given category.
+     */
+    private UniqueTaskList listOf(int taskCategory) {
+        if (taskCategory == 1) {
+            return events;
+        } else if (taskCategory == 2) {
+            return deadlines;
+        } else {
+            return todo;
+        }
+    }
+
+    /**
+     * Returns the stored task with the same id as {@code key}, or {@code key} itself
+     * if it does not belong to this task book.
+     */
+    private ReadOnlyTask resolve(ReadOnlyTask key) {
+        Task stored = tasksById.get(key.getId());
+        return stored != null ? stored : key;
+    }
+
     /**
      * @@author A0138993L
      * Adds a task to the task book.
@@ -131,35 +367,36 @@ public class TaskBook implements ReadOnlyTaskBook {
      *  - points to a Tag object in the master list
      */
     private void syncTagsWithMasterList(Task task) {
-        final UniqueTagList taskTags = task.getTags();
-        tags.mergeFrom(taskTags);
-
-        // Create map with values = tag object references in the master list
-        final Map<Tag, Tag> masterTagObjects = new HashMap<>();
-        for (Tag tag : tags) {
-            masterTagObjects.put(tag, tag);
-        }
-
         // Rebuild the list of task tags using references from the master list
         final Set<Tag> commonTagReferences = new HashSet<>();
-        for (Tag tag : taskTags) {
-            commonTagReferences.add(masterTagObjects.get(tag));
+        for (Tag tag : task.getTags()) {
+            commonTagReferences.add(masterTagOf(tag));
         }
         task.setTags(new UniqueTagList(commonTagReferences));
     }
+
+    /**
+     * Returns the Tag object in the master list {@link #tags} equal to {@code tag}, adding {@code tag}
+     * to the master list if there is none.
+     */
+    private Tag masterTagOf(Tag tag) {
+        Tag master = masterTags.get(tag);
+        if (master == null) {
+            tags.getInternalList().add(tag);
+            master = tag;
+        }
+        return master;
+    }
     //@@author A0139430L
     public void removeTask(ReadOnlyTask key) {
-        int taskCategory = key.getTaskCategory();
-        if (taskCategory == 1) { 
-            events.remove(key);
-        } else if (taskCategory == 2) {
-            deadlines.remove(key);
-        } else {
-            todo.remove(key);
-        }
+        ReadOnlyTask target = resolve(key);
+        listOf(target.getTaskCategory()).remove(target);
     }
     //@@author A0138993L
     public boolean checkTask(ReadOnlyTask toCheck) {
+        if (tasksById.containsKey(toCheck.getId())) {
+            return true;
+        }
         int taskCategory = toCheck.getTaskCategory();
         if(taskCategory == 1){
             return events.contains(toCheck);
@@ -172,7 +409,8 @@ public class TaskBook implements ReadOnlyTaskBook {
     }
     
     //@@author A0135722L
-    public boolean completeTask(ReadOnlyTask target) throws UniqueTaskList.TaskNotFoundException {
+    public boolean completeTask(ReadOnlyTask key) throws UniqueTaskList.TaskNotFoundException {
+        ReadOnlyTask target = resolve(key);
         int category = target.getTaskCategory();
         if(category == 1){
             if (events.completed(target)) {
@@ -197,14 +435,48 @@ public class TaskBook implements ReadOnlyTaskBook {
         }
     }
 
-    //@@author A0138993L
-    public void overdueTask() {
-        for (Task task: events) {
-            events.markOverdue(task);
-           }
-        for (Task task: deadlines) {
-            deadlines.markOverdue(task);
-           }
+    /**
+     * @@author A0138993L
+     * Brings the overdue status of every event and deadline up to date.
+     * @return true if the status of any task changed.
+     */
+    public boolean overdueTask() {
+        boolean isChanged = false;
+        for (Task task: events.getInternalList().snapshot()) {
+            isChanged |= updateOverdue(task.getId());
+        }
+        for (Task task: deadlines.getInternalList().snapshot()) {
+            isChanged |= updateOverdue(task.getId());
+        }
+        return isChanged;
+    }
+
+    /**
+     * Brings the overdue status of the task with the given id up to date, replacing the task by a copy
+     * with the new status so that snapshots holding the task are left as they were.
+     * @return true if its status changed.
+     */
+    public boolean updateOverdue(long id) {
+        Task task = tasksById.get(id);
+        if (task == null || !isOverdueOutdated(task)) {
+            return false;
+        }
+        Task copy = new Task(task);
+        copy.setOverdue(task.isOverdue(task.getDate(), task.getEnd()));
+        // an edit can leave a task in the list of its old category until the categories are sorted out
+        for (UniqueTaskList list : Arrays.asList(events, deadlines, todo)) {
+            if (list.getInternalList().getById(id) == task) {
+                list.getInternalList().set(list.getInternalList().indexOf(task), copy);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the overdue status of the given task is not what it should be at this time.
+     */
+    public static boolean isOverdueOutdated(Task task) {
+        return task.getDate() != null && task.isOverdue(task.getDate(), task.getEnd()) != task.getOverdue();
     }
 
     //@@author A0139430L
@@ -312,6 +584,60 @@ public class TaskBook implements ReadOnlyTaskBook {
         tags.add(t);
     }
 
+    //@@author
+    /**
+     * Renames the tag {@code from} to {@code to} on every task that has it, and in the master tag list.
+     * Only the tasks with the tag are touched; each is replaced by an updated copy.
+     * @return the number of tasks renamed.
+     */
+    public int renameTag(Tag from, Tag to) {
+        List<Long> ids = new ArrayList<>(getTaskIdsWithTag(from));
+        // the new name only joins the master list if some task takes it
+        Tag target = ids.isEmpty() ? to : masterTagOf(to);
+        for (long id : ids) {
+            Task task = tasksById.get(id);
+            final List<Tag> renamed = new ArrayList<>();
+            for (Tag tag : task.getTags()) {
+                Tag replacement = tag.equals(from) ? target : tag;
+                if (!renamed.contains(replacement)) {
+                    renamed.add(replacement);
+                }
+            }
+            replaceTags(task, renamed);
+        }
+        if (!from.equals(to)) {
+            tags.getInternalList().remove(from);
+        }
+        return ids.size();
+    }
+
+    /**
+     * Removes the given tag from every task that has it, and from the master tag list.
+     * Only the tasks with the tag are touched; each is replaced by an updated copy.
+     * @return the number of tasks the tag was removed from.
+     */
+    public int removeTag(Tag toRemove) {
+        List<Long> ids = new ArrayList<>(getTaskIdsWithTag(toRemove));
+        for (long id : ids) {
+            Task task = tasksById.get(id);
+            final List<Tag> remaining = new ArrayList<>(task.getTags().getInternalList());
+            remaining.remove(toRemove);
+            replaceTags(task, remaining);
+        }
+        tags.getInternalList().remove(toRemove);
+        return ids.size();
+    }
+
+    /**
+     * Replaces {@code task} in its list by a copy with the given tags.
+     */
+    private void replaceTags(Task task, List<Tag> newTags) {
+        Task copy = new Task(task);
+        copy.setTags(new UniqueTagList(new LinkedHashSet<>(newTags)));
+        ObservableList<Task> list = listOf(task.getTaskCategory()).getInternalList();
+        list.set(list.indexOf(task), copy);
+    }
+
     //// util methods
 
     @Override
@@ -0,0 +1,101 @@
+package seedu.simply.model;
+
+import java.util.List;
+
+import seedu.simply.model.tag.Tag;
+import seedu.simply.model.task.ReadOnlyTask;
+
+/**
+ * One change to a task book between two of its snapshots, numbered by the version it brought the task book to.
+ * Versions go up by one with every change, so a reader that has seen every change up to some version can catch
+ * up with {@link TaskBookSnapshot#changesSince(long)}.
+ */
+public abstract class TaskBookChange {
+
+    private final long version;
+
+    private TaskBookChange(long version) {
+        this.version = version;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /** A task that was not in the task book was added to it. */
+    public static final class TaskAdded extends TaskBookChange {
+        public final ReadOnlyTask task;
+
+        TaskAdded(long version, ReadOnlyTask task) {
+            super(version);
+            this.task = task;
+        }
+
+        @Override
+        public String toString() {
+            return getVersion() + " added " + task.getAsText();
+        }
+    }
+
+    /** A task was removed from the task book. */
+    public static final class TaskRemoved extends TaskBookChange {
+        public final ReadOnlyTask task;
+
+        TaskRemoved(long version, ReadOnlyTask task) {
+            super(version);
+            this.task = task;
+        }
+
+        @Override
+        public String toString() {
+            return getVersion() + " removed " + task.getAsText();
+        }
+    }
+
+    /** A task was replaced by a changed copy in the list of its category. */
+    public static class TaskUpdated extends TaskBookChange {
+        public final ReadOnlyTask before;
+        public final ReadOnlyTask after;
+
+        TaskUpdated(long version, ReadOnlyTask before, ReadOnlyTask after) {
+            super(version);
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        public String toString() {
+            return getVersion() + " updated " + before.getAsText() + " to " + after.getAsText();
+        }
+    }
+
+    /** A task was replaced by a changed copy that belongs to another category, and moved to that list. */
+    public static final class CategoryMoved extends TaskUpdated {
+
+        CategoryMoved(long version, ReadOnlyTask before, ReadOnlyTask after) {
+            super(version, before, after);
+        }
+
+        @Override
+        public String toString() {
+            return getVersion() + " moved " + before.getAsText() + " to " + after.getAsText();
+        }
+    }
+
+    /** The list of tags of the task book changed. */
+    public static final class TagsChanged extends TaskBookChange {
+        public final List<Tag> before;
+        public final List<Tag> after;
+
+        TagsChanged(long version, List<Tag> before, List<Tag> after) {
+            super(version);
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        public String toString() {
+            return getVersion() + " tags changed from " + before + " to " + after;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package seedu.simply.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.simply.model.TaskBookChange.CategoryMoved;
+import seedu.simply.model.TaskBookChange.TagsChanged;
+import seedu.simply.model.TaskBookChange.TaskAdded;
+import seedu.simply.model.TaskBookChange.TaskRemoved;
+import seedu.simply.model.TaskBookChange.TaskUpdated;
+import seedu.simply.model.tag.Tag;
+import seedu.simply.model.task.Task;
+
+/**
+ * The changes made to a {@link TaskBook}, in order, for readers that want to follow it without comparing
+ * whole task books.
+ *
+ * The task book tells the log of every task it puts in or takes out of its lists. These are gathered per task
+ * until the next snapshot is taken, which turns them into one {@link TaskBookChange} per task touched since the
+ * last one: a task edited and then moved by the same command is one {@link CategoryMoved}, and one added and
+ * removed again is nothing at all. Only the latest {@code capacity} changes or so are kept for replaying.
+ *
+ * The log is changed by the single thread changing the task book, and can be read from any thread.
+ */
+public class TaskBookChangeLog {
+
+    public static final int DEFAULT_CAPACITY = 10000;
+
+    /** A task touched since the last snapshot, as it was then and as it is now; either may be null. */
+    private static class Touched {
+        final Task before;
+        Task after;
+
+        Touched(Task before) {
+            this.before = before;
+            this.after = before;
+        }
+    }
+
+    private final int capacity;
+    private final Map<Long, Touched> touched = new LinkedHashMap<>();
+    private boolean isTagListTouched;
+    private List<Tag> committedTags = Collections.emptyList();
+
+    /** Changes kept for replaying, guarded by this log; the change at index i is of version firstVersion + i. */
+    private final List<TaskBookChange> changes = new ArrayList<>();
+    private long firstVersion = 1;
+    private long version;
+
+    public TaskBookChangeLog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public TaskBookChangeLog(int capacity) {
+        assert capacity > 0;
+        this.capacity = capacity;
+    }
+
+    /** Notes that the task was taken out of its list. */
+    void recordRemoved(Task task) {
+        touched.computeIfAbsent(task.getId(), id -> new Touched(task)).after = null;
+    }
+
+    /** Notes that the task was put in its list. */
+    void recordAdded(Task task) {
+        touched.computeIfAbsent(task.getId(), id -> new Touched(null)).after = task;
+    }
+
+    void recordTagListChanged() {
+        isTagListTouched = true;
+    }
+
+    /** Returns true if changes were recorded since the last commit, so the version does not cover them yet. */
+    boolean hasUncommittedChanges() {
+        return !touched.isEmpty() || isTagListTouched;
+    }
+
+    /**
+     * Turns what was recorded since the last call into changes, given the current tags of the task book.
+     * @return the version the task book is now at.
+     */
+    synchronized long commit(List<Tag> tags) {
+        for (Touched task : touched.values()) {
+            TaskBookChange change = toChange(task, version + 1);
+            if (change != null) {
+                changes.add(change);
+                version++;
+            }
+        }
+        touched.clear();
+        if (isTagListTouched) {
+            isTagListTouched = false;
+            List<Tag> tagsNow = Collections.unmodifiableList(new ArrayList<>(tags));
+            if (!tagsNow.equals(committedTags)) {
+                changes.add(new TagsChanged(++version, committedTags, tagsNow));
+                committedTags = tagsNow;
+            }
+        }
+        if (changes.size() > 2 * capacity) {
+            int forgotten = changes.size() - capacity;
+            changes.subList(0, forgotten).clear();
+            firstVersion += forgotten;
+        }
+        return version;
+    }
+
+    private static TaskBookChange toChange(Touched task, long version) {
+        if (task.before == task.after) {
+            return null;
+        } else if (task.before == null) {
+            return new TaskAdded(version, task.after);
+        } else if (task.after == null) {
+            return new TaskRemoved(version, task.before);
+        } else if (task.before.getTaskCategory() != task.after.getTaskCategory()) {
+            return new CategoryMoved(version, task.before, task.after);
+        } else {
+            return new TaskUpdated(version, task.before, task.after);
+        }
+    }
+
+    /** Returns the version of the task book as of the last snapshot. */
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the changes after version {@code from} up to and including version {@code to}, in order,
+     * or nothing if some of them are no longer kept.
+     */
+    public synchronized Optional<List<TaskBookChange>> changesBetween(long from, long to) {
+        assert from <= to && to <= version;
+        if (from + 1 < firstVersion) {
+            return Optional.empty();
+        }
+        return Optional.of(new ArrayList<>(
+                changes.subList((int) (from + 1 - firstVersion), (int) (to + 1 - firstVersion))));
+    }
+}
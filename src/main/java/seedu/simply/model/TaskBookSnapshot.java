@@ -0,0 +1,126 @@
+package seedu.simply.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.simply.model.tag.Tag;
+import seedu.simply.model.tag.UniqueTagList;
+import seedu.simply.model.task.ReadOnlyTask;
+import seedu.simply.model.task.SortedTaskList;
+import seedu.simply.model.task.Task;
+import seedu.simply.model.task.UniqueTaskList;
+
+/**
+ * The task book as it was at one point in time, taken with {@link TaskBook#snapshot()}.
+ *
+ * The task lists share their structure with the task book they were taken from, which never changes a task
+ * once it is in a list but replaces it with a changed copy instead. A snapshot therefore never changes, and
+ * can be read from any thread without locking once it has been safely published.
+ */
+public class TaskBookSnapshot implements ReadOnlyTaskBook {
+
+    private final SortedTaskList.Snapshot events;
+    private final SortedTaskList.Snapshot deadlines;
+    private final SortedTaskList.Snapshot todo;
+    private final List<Tag> tags;
+    private final TaskBookChangeLog changeLog;
+    private final long version;
+
+    TaskBookSnapshot(SortedTaskList.Snapshot events, SortedTaskList.Snapshot deadlines,
+            SortedTaskList.Snapshot todo, Collection<Tag> tags, TaskBookChangeLog changeLog, long version) {
+        this.events = events;
+        this.deadlines = deadlines;
+        this.todo = todo;
+        this.tags = Collections.unmodifiableList(new ArrayList<>(tags));
+        this.changeLog = changeLog;
+        this.version = version;
+    }
+
+    /** Returns the version of the task book this snapshot was taken at. */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the changes that took the task book from the given version to this snapshot, in order,
+     * or nothing if some of them are no longer kept.
+     */
+    public Optional<List<TaskBookChange>> changesSince(long from) {
+        if (from > version) {
+            return Optional.empty();
+        }
+        return changeLog.changesBetween(from, version);
+    }
+
+    /**
+     * Returns the changes that took the task book from an earlier snapshot of it to this one, in order,
+     * or nothing if the snapshots are of different task books or some of the changes are no longer kept.
+     */
+    public Optional<List<TaskBookChange>> changesSince(TaskBookSnapshot earlier) {
+        if (earlier.changeLog != changeLog) {
+            return Optional.empty();
+        }
+        return changesSince(earlier.version);
+    }
+
+    @Override
+    public List<ReadOnlyTask> getEventList() {
+        return Collections.unmodifiableList(events);
+    }
+
+    @Override
+    public List<ReadOnlyTask> getDeadlineList() {
+        return Collections.unmodifiableList(deadlines);
+    }
+
+    @Override
+    public List<ReadOnlyTask> getTodoList() {
+        return Collections.unmodifiableList(todo);
+    }
+
+    @Override
+    public List<Tag> getTagList() {
+        return tags;
+    }
+
+    /** Returns a new list holding the events of this snapshot. */
+    @Override
+    public UniqueTaskList getUniqueEventList() {
+        return toUniqueTaskList(events);
+    }
+
+    /** Returns a new list holding the deadlines of this snapshot. */
+    @Override
+    public UniqueTaskList getUniqueDeadlineList() {
+        return toUniqueTaskList(deadlines);
+    }
+
+    /** Returns a new list holding the todos of this snapshot. */
+    @Override
+    public UniqueTaskList getUniqueTodoList() {
+        return toUniqueTaskList(todo);
+    }
+
+    /** Returns a new list holding the tags of this snapshot. */
+    @Override
+    public UniqueTagList getUniqueTagList() {
+        UniqueTagList list = new UniqueTagList();
+        list.getInternalList().setAll(tags);
+        return list;
+    }
+
+    private static UniqueTaskList toUniqueTaskList(List<Task> tasks) {
+        UniqueTaskList list = new UniqueTaskList();
+        list.getInternalList().setAll(tasks);
+        return list;
+    }
+
+    @Override
+    public String toString() {
+        return "version " + version + ": " + events.size() + " events, " + deadlines.size() + " deadlines, "
+                + todo.size() + " todo, " + tags.size() + " tags";
+    }
+}
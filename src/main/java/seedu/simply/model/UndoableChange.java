@@ -0,0 +1,92 @@
+package seedu.simply.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.simply.commons.core.Config;
+import seedu.simply.model.tag.Tag;
+import seedu.simply.model.task.Task;
+import seedu.simply.model.task.UniqueTaskList.DuplicateTaskException;
+
+/**
+ * The changes made by one undoable step, kept as the state before the step of only the tasks it
+ * touched, together with the tag list and config from before it.
+ * Reverting the step puts those back and returns the change that redoes it.
+ */
+class UndoableChange {
+
+    /** Each touched task as it was before, by id; null if the task did not exist before. */
+    private final Map<Long, Task> tasksBefore = new LinkedHashMap<>();
+    private final List<Tag> tagsBefore;
+    private final Config configBefore;
+
+    UndoableChange(List<Tag> tagsBefore, Config configBefore) {
+        this.tagsBefore = new ArrayList<>(tagsBefore);
+        this.configBefore = new Config(configBefore);
+    }
+
+    /** Records that the given task is about to be removed or replaced, unless it was already touched. */
+    void recordRemoved(Task task) {
+        if (!tasksBefore.containsKey(task.getId())) {
+            tasksBefore.put(task.getId(), new Task(task));
+        }
+    }
+
+    /** Records that the given task was added, unless a task with its id was already touched. */
+    void recordAdded(Task task) {
+        if (!tasksBefore.containsKey(task.getId())) {
+            tasksBefore.put(task.getId(), null);
+        }
+    }
+
+    /** Returns the number of tasks touched. */
+    int size() {
+        return tasksBefore.size();
+    }
+
+    /** Returns true if no task was touched and the given tags and config are as they were before. */
+    boolean isEmpty(List<Tag> tagsNow, Config configNow) {
+        return tasksBefore.isEmpty() && tagsBefore.equals(tagsNow) && configBefore.equals(configNow);
+    }
+
+    /**
+     * Puts every touched task of {@code taskBook}, its tag list and the config back as they were before
+     * this change. Returns the change that puts them back as they are now.
+     * All touched tasks are taken out before any is put back, as a task may have been replaced by one with
+     * the same details but another id, such as one deleted and added again.
+     * @param currentConfig the config in use; the one to use from now on is {@link #getConfigBefore()}.
+     */
+    UndoableChange revert(TaskBook taskBook, Config currentConfig) {
+        UndoableChange inverse = new UndoableChange(taskBook.getTagList(), currentConfig);
+        for (long id : tasksBefore.keySet()) {
+            Task current = taskBook.getTask(id);
+            if (current != null) {
+                inverse.tasksBefore.put(id, new Task(current));
+                taskBook.removeTask(current);
+            } else {
+                inverse.tasksBefore.put(id, null);
+            }
+        }
+        for (Task before : tasksBefore.values()) {
+            if (before == null) {
+                continue;
+            }
+            try {
+                taskBook.addTask(new Task(before));
+            } catch (DuplicateTaskException e) {
+                // the untouched tasks were there alongside this one before the change
+                throw new IllegalStateException("Task " + before + " restored next to a copy of it", e);
+            }
+        }
+        if (!tagsBefore.equals(taskBook.getTagList())) {
+            taskBook.setTags(tagsBefore);
+        }
+        return inverse;
+    }
+
+    Config getConfigBefore() {
+        return new Config(configBefore);
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.simply.model.query;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.simply.model.TaskBook;
+import seedu.simply.model.task.ReadOnlyTask;
+
+/**
+ * Matches the tasks satisfying every one of its parts.
+ * The candidates are those found in the index of every part that has one, starting from the fewest. If a
+ * part is ranked, they are kept in the order of its candidates instead.
+ */
+public class AndQuery extends Query {
+
+    private final List<Query> parts;
+
+    public AndQuery(List<Query> parts) {
+        assert !parts.isEmpty();
+        this.parts = new ArrayList<>(parts);
+    }
+
+    @Override
+    public boolean matches(ReadOnlyTask task) {
+        for (Query part : parts) {
+            if (!part.matches(task)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Set<Long> candidateIds(TaskBook taskBook) {
+        List<Set<Long>> indexed = new ArrayList<>();
+        Set<Long> ranked = null;
+        for (Query part : parts) {
+            Set<Long> candidates = part.candidateIds(taskBook);
+            if (candidates == null) {
+                continue;
+            }
+            if (ranked == null && part.isRanked()) {
+                ranked = candidates;
+            } else {
+                indexed.add(candidates);
+            }
+        }
+        indexed.sort(Comparator.comparingInt(Set::size));
+        if (ranked != null) {
+            indexed.add(0, ranked);
+        }
+        if (indexed.isEmpty()) {
+            return null;
+        }
+        Set<Long> intersection = new LinkedHashSet<>();
+        for (long id : indexed.get(0)) {
+            if (isInAll(id, indexed)) {
+                intersection.add(id);
+            }
+        }
+        return intersection;
+    }
+
+    @Override
+    public boolean isRanked() {
+        return parts.stream().anyMatch(Query::isRanked);
+    }
+
+    private static boolean isInAll(long id, List<Set<Long>> sets) {
+        for (int i = 1; i < sets.size(); i++) {
+            if (!sets.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return QueryParser.join(parts, " AND ");
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.simply.model.query;
+
+import java.util.Set;
+
+import seedu.simply.model.TaskBook;
+import seedu.simply.model.task.ReadOnlyTask;
+
+/**
+ * Matches the tasks that are done, or the tasks that are not. No index narrows it down.
+ */
+public class CompletionQuery extends Query {
+
+    private final boolean isCompleted;
+
+    public CompletionQuery(boolean isCompleted) {
+        this.isCompleted = isCompleted;
+    }
+
+    @Override
+    public boolean matches(ReadOnlyTask task) {
+        return task.getIsCompleted() == isCompleted;
+    }
+
+    @Override
+    public Set<Long> candidateIds(TaskBook taskBook) {
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return isCompleted ? "is:done" : "is:pending";
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.simply.model.query;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.simply.model.TaskBook;
+import seedu.simply.model.task.Date;
+import seedu.simply.model.task.ReadOnlyTask;
+import seedu.simply.model.task.TaskDateIndex;
+
+/**
+ * Matches the events and deadlines whose date is on, before or after a day. To-dos have no date and never
+ * match. The candidates are found in the date index.
+ */
+public class DateQuery extends Query {
+
+    /** How the date of a task is compared with the day of the query. */
+    public enum Comparison {
+        ON(":"), BEFORE("<"), ON_OR_BEFORE("<="), AFTER(">"), ON_OR_AFTER(">=");
+
+        public final String symbol;
+
+        Comparison(String symbol) {
+            this.symbol = symbol;
+        }
+    }
+
+    private final Comparison comparison;
+    private final LocalDate day;
+
+    public DateQuery(Comparison comparison, LocalDate day) {
+        this.comparison = comparison;
+        this.day = day;
+    }
+
+    @Override
+    public boolean matches(ReadOnlyTask task) {
+        long taskDay = task.getDate().toEpochDay();
+        if (taskDay == Date.NO_EPOCH_DAY) {
+            return false;
+        }
+        return firstDay() <= taskDay && taskDay <= lastDay();
+    }
+
+    @Override
+    public Set<Long> candidateIds(TaskBook taskBook) {
+        long from = firstDay() == Long.MIN_VALUE ? Long.MIN_VALUE : firstDay() * TaskDateIndex.MINUTES_PER_DAY;
+        long to = lastDay() == Long.MAX_VALUE ? Long.MAX_VALUE
+                : (lastDay() + 1) * TaskDateIndex.MINUTES_PER_DAY - 1;
+        return new HashSet<>(taskBook.getTaskIdsEndingBetween(from, to));
+    }
+
+    /** Returns the first day matched, counted as in {@link LocalDate#toEpochDay()}. */
+    private long firstDay() {
+        switch (comparison) {
+        case AFTER:
+            return day.toEpochDay() + 1;
+        case ON:
+        case ON_OR_AFTER:
+            return day.toEpochDay();
+        default:
+            return Long.MIN_VALUE;
+        }
+    }
+
+    /** Returns the last day matched, counted as in {@link LocalDate#toEpochDay()}. */
+    private long lastDay() {
+        switch (comparison) {
+        case BEFORE:
+            return day.toEpochDay() - 1;
+        case ON:
+        case ON_OR_BEFORE:
+            return day.toEpochDay();
+        default:
+            return Long.MAX_VALUE;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "date" + comparison.symbol + day;
+    }
+}
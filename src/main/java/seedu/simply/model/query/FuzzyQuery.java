@@ -0,0 +1,40 @@
+package seedu.simply.model.query;
+
+import java.util.Set;
+
+import seedu.simply.model.TaskBook;
+import seedu.simply.model.task.ReadOnlyTask;
+import seedu.simply.model.task.TaskFuzzyIndex;
+
+/**
+ * Matches the tasks with a word in their name or tags that is close to a possibly misspelt word, as
+ * described in {@link TaskFuzzyIndex}. The candidates are found in the fuzzy index.
+ */
+public class FuzzyQuery extends Query {
+
+    private final String word;
+
+    public FuzzyQuery(String word) {
+        this.word = word.toLowerCase();
+    }
+
+    @Override
+    public boolean matches(ReadOnlyTask task) {
+        return TaskFuzzyIndex.matches(task, word);
+    }
+
+    @Override
+    public Set<Long> candidateIds(TaskBook taskBook) {
+        return taskBook.findTaskIdsFuzzy(word);
+    }
+
+    @Override
+    public boolean isRanked() {
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "~" + word;
+    }
+}
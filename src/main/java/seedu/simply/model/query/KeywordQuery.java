@@ -0,0 +1,36 @@
+package seedu.simply.model.query;
+
+import java.util.Collections;
+import java.util.Set;
+
+import seedu.simply.model.TaskBook;
+import seedu.simply.model.task.ReadOnlyTask;
+
+/**
+ * Matches the tasks with the keyword in any of the fields a find looks in: the name, ignoring case, or the
+ * date, start, end or tags as they are displayed, all looked for in the task's search text. The candidates
+ * are found in the search index.
+ */
+public class KeywordQuery extends Query {
+
+    private final String keyword;
+
+    public KeywordQuery(String keyword) {
+        this.keyword = keyword.toLowerCase();
+    }
+
+    @Override
+    public boolean matches(ReadOnlyTask task) {
+        return task.getSearchText().contains(keyword);
+    }
+
+    @Override
+    public Set<Long> candidateIds(TaskBook taskBook) {
+        return taskBook.findTaskIds(Collections.singleton(keyword));
+    }
+
+    @Override
+    public String toString() {
+        return keyword;
+    }
+}
@@ -0,0 +1,36 @@
+package seedu.simply.model.query;
+
+import java.util.Collections;
+import java.util.Set;
+
+import seedu.simply.commons.util.StringUtil;
+import seedu.simply.model.TaskBook;
+import seedu.simply.model.task.ReadOnlyTask;
+
+/**
+ * Matches the tasks whose name contains the keyword, ignoring case.
+ * The candidates are the tasks with the keyword in any field, found in the search index.
+ */
+public class NameQuery extends Query {
+
+    private final String keyword;
+
+    public NameQuery(String keyword) {
+        this.keyword = keyword.toLowerCase();
+    }
+
+    @Override
+    public boolean matches(ReadOnlyTask task) {
+        return StringUtil.containsIgnoreCase(task.getName().taskDetails, keyword);
+    }
+
+    @Override
+    public Set<Long> candidateIds(TaskBook taskBook) {
+        return taskBook.findTaskIds(Collections.singleton(keyword));
+    }
+
+    @Override
+    public String toString() {
+        return "name:" + keyword;
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.simply.model.query;
+
+import java.util.Set;
+
+import seedu.simply.model.TaskBook;
+import seedu.simply.model.task.ReadOnlyTask;
+
+/**
+ * Matches the tasks not satisfying its part. No index narrows it down.
+ */
+public class NotQuery extends Query {
+
+    private final Query part;
+
+    public NotQuery(Query part) {
+        this.part = part;
+    }
+
+    @Override
+    public boolean matches(ReadOnlyTask task) {
+        return !part.matches(task);
+    }
+
+    @Override
+    public Set<Long> candidateIds(TaskBook taskBook) {
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return "NOT " + part;
+    }
+}
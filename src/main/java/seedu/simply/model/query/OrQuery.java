@@ -0,0 +1,63 @@
+package seedu.simply.model.query;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.simply.model.TaskBook;
+import seedu.simply.model.task.ReadOnlyTask;
+
+/**
+ * Matches the tasks satisfying any of its parts.
+ * It can only be narrowed down by the indexes if every part can. The candidates of its ranked parts come
+ * first, in their order.
+ */
+public class OrQuery extends Query {
+
+    private final List<Query> parts;
+
+    public OrQuery(List<Query> parts) {
+        assert !parts.isEmpty();
+        this.parts = new ArrayList<>(parts);
+    }
+
+    @Override
+    public boolean matches(ReadOnlyTask task) {
+        for (Query part : parts) {
+            if (part.matches(task)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Set<Long> candidateIds(TaskBook taskBook) {
+        Set<Long> union = new LinkedHashSet<>();
+        List<Set<Long>> unranked = new ArrayList<>();
+        for (Query part : parts) {
+            Set<Long> candidates = part.candidateIds(taskBook);
+            if (candidates == null) {
+                return null;
+            }
+            if (part.isRanked()) {
+                union.addAll(candidates);
+            } else {
+                unranked.add(candidates);
+            }
+        }
+        unranked.forEach(union::addAll);
+        return union;
+    }
+
+    @Override
+    public boolean isRanked() {
+        return parts.stream().anyMatch(Query::isRanked);
+    }
+
+    @Override
+    public String toString() {
+        return "(" + QueryParser.join(parts, " OR ") + ")";
+    }
+}
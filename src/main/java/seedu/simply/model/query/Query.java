@@ -0,0 +1,66 @@
+package seedu.simply.model.query;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import seedu.simply.model.TaskBook;
+import seedu.simply.model.task.ReadOnlyTask;
+import seedu.simply.model.task.Task;
+
+/**
+ * A find query, compiled from its text by {@link QueryParser}.
+ *
+ * A query is run in two steps. First the task book's indexes narrow it down to candidate tasks, and then
+ * each candidate is tested against the query itself. A query that no index can narrow down is tested
+ * against every task.
+ */
+public abstract class Query {
+
+    /**
+     * Returns true if the given task satisfies this query.
+     */
+    public abstract boolean matches(ReadOnlyTask task);
+
+    /**
+     * Returns the ids of a superset of the tasks satisfying this query, looked up in the indexes of the task
+     * book, or null if no index narrows this query down. The returned set must not be modified.
+     */
+    public abstract Set<Long> candidateIds(TaskBook taskBook);
+
+    /**
+     * Returns true if the candidates of this query come best match first, as those of a fuzzy term do.
+     */
+    public boolean isRanked() {
+        return false;
+    }
+
+    /**
+     * Returns the ids of the tasks in the task book satisfying this query, in the order of the candidates,
+     * so best match first if the query {@link #isRanked() is ranked}.
+     */
+    public Set<Long> findIds(TaskBook taskBook) {
+        Set<Long> ids = new LinkedHashSet<>();
+        Set<Long> candidates = candidateIds(taskBook);
+        if (candidates == null) {
+            addMatching(taskBook.getEvents(), ids);
+            addMatching(taskBook.getDeadlines(), ids);
+            addMatching(taskBook.getTodo(), ids);
+            return ids;
+        }
+        for (long id : candidates) {
+            Task task = taskBook.getTask(id);
+            if (task != null && matches(task)) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    private void addMatching(Iterable<Task> tasks, Set<Long> ids) {
+        for (Task task : tasks) {
+            if (matches(task)) {
+                ids.add(task.getId());
+            }
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package seedu.simply.model.query;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.simply.commons.exceptions.IllegalValueException;
+import seedu.simply.model.tag.Tag;
+import seedu.simply.model.task.Date;
+
+/**
+ * Compiles the text of a find into a {@link Query}.
+ *
+ * A query is made of terms joined by {@code AND}, {@code OR} and {@code NOT}, grouped with brackets.
+ * Terms next to each other must all match, and {@code AND} binds tighter than {@code OR}. A term is
+ * one of:
+ * <ul>
+ * <li>{@code word}: the word is in the name, date, start, end or tags of the task</li>
+ * <li>{@code ~word}: a word of the name or tags of the task is close to the word, allowing for typos</li>
+ * <li>{@code name:word}: the word is in the name of the task</li>
+ * <li>{@code tag:tag} or {@code tag:#tag}: the task has the tag</li>
+ * <li>{@code date:DATE}, {@code date<DATE}, {@code date<=DATE}, {@code date>DATE}, {@code date>=DATE}:
+ *     the task is due on, before or after the date</li>
+ * <li>{@code is:done} or {@code is:pending}: the task is done, or is not</li>
+ * </ul>
+ * Unless a query has an {@code is:} term, only the tasks that are not done are found.
+ */
+public class QueryParser {
+
+    public static final String MESSAGE_QUERY_CONSTRAINTS = "Invalid query: %1$s";
+
+    private static final Pattern TOKEN = Pattern.compile("\\(|\\)|[^\\s()]+");
+    private static final Pattern FIELD_TERM =
+            Pattern.compile("(?<field>name|tag|date|is)(?<op>:|<=|>=|<|>)(?<value>.*)");
+
+    private final List<String> tokens = new ArrayList<>();
+    private int position;
+    private boolean hasCompletionTerm;
+
+    private QueryParser(String text) {
+        Matcher matcher = TOKEN.matcher(text);
+        while (matcher.find()) {
+            tokens.add(matcher.group());
+        }
+    }
+
+    /**
+     * Compiles the given text into a query.
+     * @throws IllegalValueException if the text is not a valid query.
+     */
+    public static Query parse(String text) throws IllegalValueException {
+        QueryParser parser = new QueryParser(text);
+        if (parser.tokens.isEmpty()) {
+            throw new IllegalValueException(String.format(MESSAGE_QUERY_CONSTRAINTS, "it is empty"));
+        }
+        Query query = parser.parseOr();
+        if (parser.position < parser.tokens.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_QUERY_CONSTRAINTS,
+                    "unexpected " + parser.tokens.get(parser.position)));
+        }
+        if (parser.hasCompletionTerm) {
+            return query;
+        }
+        List<Query> parts = new ArrayList<>();
+        parts.add(query);
+        parts.add(new CompletionQuery(false));
+        return new AndQuery(parts);
+    }
+
+    private Query parseOr() throws IllegalValueException {
+        List<Query> parts = new ArrayList<>();
+        parts.add(parseAnd());
+        while (accept("OR")) {
+            parts.add(parseAnd());
+        }
+        return parts.size() == 1 ? parts.get(0) : new OrQuery(parts);
+    }
+
+    private Query parseAnd() throws IllegalValueException {
+        List<Query> parts = new ArrayList<>();
+        parts.add(parseNot());
+        while (position < tokens.size() && !peek("OR") && !peek(")")) {
+            accept("AND");
+            parts.add(parseNot());
+        }
+        return parts.size() == 1 ? parts.get(0) : new AndQuery(parts);
+    }
+
+    private Query parseNot() throws IllegalValueException {
+        if (accept("NOT")) {
+            return new NotQuery(parseNot());
+        }
+        return parseAtom();
+    }
+
+    private Query parseAtom() throws IllegalValueException {
+        if (position >= tokens.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_QUERY_CONSTRAINTS, "it ends too early"));
+        }
+        if (accept("(")) {
+            Query query = parseOr();
+            if (!accept(")")) {
+                throw new IllegalValueException(String.format(MESSAGE_QUERY_CONSTRAINTS,
+                        "a bracket is not closed"));
+            }
+            return query;
+        }
+        String token = tokens.get(position++);
+        if (token.equals(")") || token.equals("AND") || token.equals("OR")) {
+            throw new IllegalValueException(String.format(MESSAGE_QUERY_CONSTRAINTS, "unexpected " + token));
+        }
+        return parseTerm(token);
+    }
+
+    private Query parseTerm(String token) throws IllegalValueException {
+        if (token.startsWith("~")) {
+            if (token.length() == 1) {
+                throw new IllegalValueException(String.format(MESSAGE_QUERY_CONSTRAINTS, "~ has no word"));
+            }
+            return new FuzzyQuery(token.substring(1));
+        }
+        Matcher matcher = FIELD_TERM.matcher(token);
+        if (!matcher.matches()) {
+            return new KeywordQuery(token);
+        }
+        String field = matcher.group("field");
+        String op = matcher.group("op");
+        String value = matcher.group("value");
+        if (value.isEmpty()) {
+            throw new IllegalValueException(String.format(MESSAGE_QUERY_CONSTRAINTS, token + " has no value"));
+        }
+        if (field.equals("date")) {
+            return new DateQuery(comparisonOf(op), dayOf(value));
+        }
+        if (!op.equals(":")) {
+            throw new IllegalValueException(String.format(MESSAGE_QUERY_CONSTRAINTS,
+                    field + " can only be compared with :"));
+        }
+        switch (field) {
+        case "name":
+            return new NameQuery(value);
+        case "tag":
+            return new TagQuery(new Tag(value.startsWith("#") ? value.substring(1) : value));
+        default:
+            return parseCompletion(value);
+        }
+    }
+
+    private Query parseCompletion(String value) throws IllegalValueException {
+        hasCompletionTerm = true;
+        if (value.equals("done")) {
+            return new CompletionQuery(true);
+        } else if (value.equals("pending")) {
+            return new CompletionQuery(false);
+        }
+        throw new IllegalValueException(String.format(MESSAGE_QUERY_CONSTRAINTS, "is: takes done or pending"));
+    }
+
+    private static DateQuery.Comparison comparisonOf(String op) {
+        for (DateQuery.Comparison comparison : DateQuery.Comparison.values()) {
+            if (comparison.symbol.equals(op)) {
+                return comparison;
+            }
+        }
+        throw new AssertionError("the term pattern only allows the comparisons");
+    }
+
+    private static LocalDate dayOf(String value) throws IllegalValueException {
+        try {
+            LocalDate day = new Date(value).toLocalDate();
+            if (day == null) {
+                throw new IllegalValueException(Date.MESSAGE_DATE_CONSTRAINTS);
+            }
+            return day;
+        } catch (DateTimeException dte) {
+            throw new IllegalValueException(Date.MESSAGE_DATE_CONSTRAINTS);
+        }
+    }
+
+    private boolean peek(String token) {
+        return position < tokens.size() && tokens.get(position).equals(token);
+    }
+
+    private boolean accept(String token) {
+        if (peek(token)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    /** Joins the queries with the separator, for their {@code toString}. */
+    static String join(List<Query> queries, String separator) {
+        StringBuilder joined = new StringBuilder();
+        for (Query query : queries) {
+            if (joined.length() > 0) {
+                joined.append(separator);
+            }
+            joined.append(query);
+        }
+        return joined.toString();
+    }
+}
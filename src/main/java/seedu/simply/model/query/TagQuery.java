@@ -0,0 +1,34 @@
+package seedu.simply.model.query;
+
+import java.util.Set;
+
+import seedu.simply.model.TaskBook;
+import seedu.simply.model.tag.Tag;
+import seedu.simply.model.task.ReadOnlyTask;
+
+/**
+ * Matches the tasks with the tag. The candidates are found in the tag index.
+ */
+public class TagQuery extends Query {
+
+    private final Tag tag;
+
+    public TagQuery(Tag tag) {
+        this.tag = tag;
+    }
+
+    @Override
+    public boolean matches(ReadOnlyTask task) {
+        return task.getTags().contains(tag);
+    }
+
+    @Override
+    public Set<Long> candidateIds(TaskBook taskBook) {
+        return taskBook.getTaskIdsWithTag(tag);
+    }
+
+    @Override
+    public String toString() {
+        return "tag:" + tag.tagName;
+    }
+}
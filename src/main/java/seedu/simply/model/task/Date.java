@@ -1,5 +1,6 @@
 package seedu.simply.model.task;
 
+import java.time.DateTimeException;
 import java.time.LocalDate;
 
 import seedu.simply.commons.exceptions.IllegalValueException;
@@ -23,8 +24,13 @@ public class Date implements Comparable<Date> {
             + "(no date)";
     public static final String MESSAGE_PAST_DATE = "Cannot enter a date that have already past!";
 
+    /** The epoch day of a task with no date, which sorts before every real date. */
+    public static final long NO_EPOCH_DAY = Long.MIN_VALUE;
+
     public final String value;
     private int beforeCurrentDate;
+    /** The day of {@link #value}, worked out once so that dates compare without parsing. */
+    private final long epochDay;
 
     /**
      * @@author A0138993L
@@ -42,6 +48,39 @@ public class Date implements Comparable<Date> {
         date = standardFormatDate(date);
         beforeCurrentDate = isAfterCurrentDate(date);
         this.value = date;
+        this.epochDay = parseEpochDay(date);
+    }
+
+    private Date(LocalDate date) {
+        this.value = String.valueOf(100 + date.getDayOfMonth()).substring(1) + "-"
+                + String.valueOf(100 + date.getMonthValue()).substring(1) + "-"
+                + String.valueOf(100 + date.getYear() % 100).substring(1);
+        this.beforeCurrentDate = currentDateStatus(LocalDate.now(), date);
+        this.epochDay = date.toEpochDay();
+    }
+
+    private static long parseEpochDay(String value) {
+        if (!value.contains("-")) {
+            return NO_EPOCH_DAY;
+        }
+        String[] date_cat = value.split("-");
+        return LocalDate.of(2000 + Integer.parseInt(date_cat[2]), Integer.parseInt(date_cat[1]),
+                Integer.parseInt(date_cat[0])).toEpochDay();
+    }
+
+    /**
+     * Returns the date with the given day, month and two-digit year, without parsing a date string.
+     * @throws IllegalValueException if there is no such date.
+     */
+    public static Date of(int day, int month, int year) throws IllegalValueException {
+        if (year < 0 || year > 99) {
+            throw new IllegalValueException(MESSAGE_DATE_CONSTRAINTS);
+        }
+        try {
+            return new Date(LocalDate.of(2000 + year, month, day));
+        } catch (DateTimeException e) {
+            throw new IllegalValueException(MESSAGE_DATE_CONSTRAINTS);
+        }
     }
     /**
      * @@author A0138993L
@@ -114,6 +153,20 @@ public class Date implements Comparable<Date> {
 	        return false;
 	    }
 	}
+    /**
+     * Returns this date as a {@link LocalDate}, or null if there is no date.
+     */
+    public LocalDate toLocalDate() {
+        return epochDay == NO_EPOCH_DAY ? null : LocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Returns the number of days from 1970-01-01 to this date, or {@link #NO_EPOCH_DAY} if there is no date.
+     */
+    public long toEpochDay() {
+        return epochDay;
+    }
+
     public int getBeforeCurrentDate() {
     	return beforeCurrentDate;
     }
@@ -138,21 +191,7 @@ public class Date implements Comparable<Date> {
   //@@author A0139430L
     @Override
     public int compareTo(Date o) { 
-        if(this.toString().compareTo("no date")==0 & o.toString().compareTo("no date")==0) {
-            return 0;
-        } else if(this.toString().compareTo("no date")==0) {
-            return -1;
-        } else if(o.toString().compareTo("no date")==0) {
-            return 1;
-        }
-
-        String[] temp = this.value.split("-");
-        String[] temp2 = o.toString().split("-");
-        
-        String date = temp[2].concat(temp[1]).concat(temp[0]);
-        String date2 = temp2[2].concat(temp2[1]).concat(temp2[0]);
-        
-        return date.compareTo(date2);
+        return Long.compare(epochDay, o.epochDay);
     }
 
 }
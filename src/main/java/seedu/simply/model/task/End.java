@@ -21,8 +21,13 @@ public class End implements Comparable<End> {
             + "(1[0-2]\\.[0-5]{1}\\d{1}(?:pm|am))|"
             + "(no end)";
     public static final String DEFAULT_END_TIME = "2359";
+    /** The minute of the day of a task with no end time. */
+    public static final int NO_MINUTE = -1;
+
     public final String value;
     private int pastEndTime =0;
+    /** The minute of the day of {@link #value}, worked out once. */
+    private final int minuteOfDay;
 
     /**
      *
@@ -47,6 +52,44 @@ public class End implements Comparable<End> {
                 pastEndTime =1;
             }
         }
+        this.minuteOfDay = parseMinuteOfDay(value);
+    }
+
+    private End(int time) {
+        this.value = String.valueOf(10000 + time).substring(1);
+        if (isPastEndTime(value)) {
+            pastEndTime = 1;
+        }
+        this.minuteOfDay = parseMinuteOfDay(value);
+    }
+
+    /**
+     * Returns the minute of the day of a time value in the HHMM form, or {@link #NO_MINUTE} if it is not one.
+     */
+    static int parseMinuteOfDay(String value) {
+        if (value.length() != 4 || !Character.isDigit(value.charAt(0))) {
+            return NO_MINUTE;
+        }
+        return Integer.parseInt(value.substring(0, 2)) * 60 + Integer.parseInt(value.substring(2));
+    }
+
+    /**
+     * Returns the minute of the day this end time is at, or {@link #NO_MINUTE} if there is no end time.
+     */
+    public int getMinuteOfDay() {
+        return minuteOfDay;
+    }
+
+    /**
+     * Returns the end time with the given 24 hour clock value, such as 930 for 0930,
+     * without parsing a time string.
+     * @throws IllegalValueException if the value is not a time.
+     */
+    public static End of(int time) throws IllegalValueException {
+        if (time < 0 || time / 100 > 23 || time % 100 > 59) {
+            throw new IllegalValueException(MESSAGE_END_CONSTRAINTS);
+        }
+        return new End(time);
     }
     /**
      * @@author A0138993L
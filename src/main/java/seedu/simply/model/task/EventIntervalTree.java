@@ -0,0 +1,228 @@
+package seedu.simply.model.task;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * An interval tree over the time ranges of the uncompleted events, so that the k events overlapping a range
+ * of time can be found in O((k + 1) log n), and free time can be found without walking every event.
+ *
+ * Backed by a treap ordered by start time, where each node also keeps the latest end time in its subtree,
+ * so whole subtrees that end before a range can be skipped. Times are minutes counted as in
+ * {@link TaskDateIndex}, and every range is half-open: an event ending at 1000 does not clash with one
+ * starting at 1000.
+ */
+public class EventIntervalTree {
+
+    /** A treap node. Updates copy the nodes along the affected path, leaving the rest of the tree shared. */
+    private static final class Node {
+        final long id;
+        final long start;
+        final long end;
+        final int priority;
+        final Node left;
+        final Node right;
+        final long maxEnd;
+
+        Node(long id, long start, long end, int priority, Node left, Node right) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.priority = priority;
+            this.left = left;
+            this.right = right;
+            this.maxEnd = Math.max(end, Math.max(maxEndOf(left), maxEndOf(right)));
+        }
+
+        Node withChildren(Node newLeft, Node newRight) {
+            return new Node(id, start, end, priority, newLeft, newRight);
+        }
+
+        /** Returns true if this node is ordered before the interval starting at {@code otherStart} with the id. */
+        boolean isBefore(long otherStart, long otherId) {
+            return start < otherStart || (start == otherStart && id < otherId);
+        }
+    }
+
+    /** A range of time from {@code start}, inclusive, to {@code end}, exclusive. */
+    public static final class Interval {
+        public final long start;
+        public final long end;
+
+        public Interval(long start, long end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof Interval
+                    && start == ((Interval) other).start
+                    && end == ((Interval) other).end);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(start) * 31 + Long.hashCode(end);
+        }
+
+        @Override
+        public String toString() {
+            return "[" + start + ", " + end + ")";
+        }
+    }
+
+    private final Random priorities = new Random();
+    private final Map<Long, Interval> intervalsById = new HashMap<>();
+    private Node root;
+
+    /**
+     * Indexes the given task under its id, replacing whatever was indexed under that id before.
+     * Only uncompleted events with a date, a start and an end after the start are kept.
+     */
+    public void add(ReadOnlyTask task) {
+        remove(task.getId());
+        Interval interval = intervalOf(task);
+        if (interval == null) {
+            return;
+        }
+        intervalsById.put(task.getId(), interval);
+        Node[] parts = split(root, interval.start, task.getId());
+        Node node = new Node(task.getId(), interval.start, interval.end, priorities.nextInt(), null, null);
+        root = merge(merge(parts[0], node), parts[1]);
+    }
+
+    /**
+     * Removes the task with the given id from the tree, if it is in it.
+     */
+    public void remove(long id) {
+        Interval interval = intervalsById.remove(id);
+        if (interval == null) {
+            return;
+        }
+        Node[] lessAndRest = split(root, interval.start, id);
+        Node[] removedAndGreater = split(lessAndRest[1], interval.start, id + 1);
+        assert removedAndGreater[0] != null && removedAndGreater[0].id == id;
+        root = merge(lessAndRest[0], removedAndGreater[1]);
+    }
+
+    /**
+     * Returns the time range the given task takes up, or null if it is not an uncompleted event with
+     * a date, a start and an end after the start.
+     */
+    public static Interval intervalOf(ReadOnlyTask task) {
+        if (task.getTaskCategory() != 1 || task.getIsCompleted() || task.getDate() == null
+                || task.getStart() == null || task.getEnd() == null) {
+            return null;
+        }
+        long day = task.getDate().toEpochDay();
+        int startMinute = task.getStart().getMinuteOfDay();
+        int endMinute = task.getEnd().getMinuteOfDay();
+        if (day == Date.NO_EPOCH_DAY || startMinute == End.NO_MINUTE || endMinute <= startMinute) {
+            return null;
+        }
+        long dayStart = day * TaskDateIndex.MINUTES_PER_DAY;
+        return new Interval(dayStart + startMinute, dayStart + endMinute);
+    }
+
+    /**
+     * Returns the ids of the events overlapping the range from {@code start} to {@code end}, in order of
+     * when they start.
+     */
+    public List<Long> overlapping(long start, long end) {
+        List<Long> ids = new ArrayList<>();
+        collectOverlapping(root, start, end, ids);
+        return ids;
+    }
+
+    private static void collectOverlapping(Node node, long start, long end, List<Long> ids) {
+        if (node == null || node.maxEnd <= start) {
+            return;
+        }
+        collectOverlapping(node.left, start, end, ids);
+        if (node.start >= end) {
+            return; // this node and everything to its right start too late
+        }
+        if (node.end > start) {
+            ids.add(node.id);
+        }
+        collectOverlapping(node.right, start, end, ids);
+    }
+
+    /**
+     * Returns the gaps of at least {@code length} minutes between the events in the range from
+     * {@code start} to {@code end}, in order.
+     */
+    public List<Interval> freeSlots(long start, long end, long length) {
+        List<Interval> busy = new ArrayList<>();
+        collectBusy(root, start, end, busy);
+        List<Interval> free = new ArrayList<>();
+        long cursor = start;
+        for (Interval interval : busy) {
+            if (interval.start - cursor >= length) {
+                free.add(new Interval(cursor, interval.start));
+            }
+            cursor = Math.max(cursor, interval.end);
+        }
+        if (end - cursor >= length) {
+            free.add(new Interval(cursor, end));
+        }
+        return free;
+    }
+
+    /** Adds the time ranges of the events overlapping the range to {@code busy}, in order of start. */
+    private static void collectBusy(Node node, long start, long end, List<Interval> busy) {
+        if (node == null || node.maxEnd <= start) {
+            return;
+        }
+        collectBusy(node.left, start, end, busy);
+        if (node.start >= end) {
+            return;
+        }
+        if (node.end > start) {
+            busy.add(new Interval(node.start, node.end));
+        }
+        collectBusy(node.right, start, end, busy);
+    }
+
+    public int size() {
+        return intervalsById.size();
+    }
+
+    private static long maxEndOf(Node node) {
+        return node == null ? Long.MIN_VALUE : node.maxEnd;
+    }
+
+    /** Splits the tree into the nodes ordered before ({@code start}, {@code id}) and the rest. */
+    private static Node[] split(Node node, long start, long id) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+        if (node.isBefore(start, id)) {
+            Node[] parts = split(node.right, start, id);
+            return new Node[] {node.withChildren(node.left, parts[0]), parts[1]};
+        } else {
+            Node[] parts = split(node.left, start, id);
+            return new Node[] {parts[0], node.withChildren(parts[1], node.right)};
+        }
+    }
+
+    /** Joins two trees where every node of {@code left} is ordered before every node of {@code right}. */
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            return left.withChildren(left.left, merge(left.right, right));
+        } else {
+            return right.withChildren(merge(left, right.left), right.right);
+        }
+    }
+}
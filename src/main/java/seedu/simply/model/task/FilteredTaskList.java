@@ -0,0 +1,128 @@
+package seedu.simply.model.task;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableListBase;
+
+/**
+ * A view of the tasks of a {@link SortedTaskList} that satisfy a predicate, in the same order unless the
+ * predicate is set with an order of its own, as for tasks ranked by how well they match a find.
+ *
+ * Unlike {@link javafx.collections.transformation.FilteredList}, which keeps an array of indexes into its
+ * source and shifts it on every insertion, the view keeps its tasks in a treap of its own. A task added
+ * to, removed from or replaced in the source costs O(log n), and listeners hear of just that task.
+ * Changing the predicate tests every task again, and is reported as the whole list being replaced.
+ */
+public class FilteredTaskList extends ObservableListBase<Task> {
+
+    private final SortedTaskList source;
+    private SortedTaskList shown = new SortedTaskList();
+    private Predicate<? super Task> predicate;
+
+    /**
+     * Creates a view showing every task of the source, until a predicate is set.
+     */
+    public FilteredTaskList(SortedTaskList source) {
+        this.source = source;
+        source.addListener(this::sourceChanged);
+        setPredicate(null);
+    }
+
+    public SortedTaskList getSource() {
+        return source;
+    }
+
+    public Predicate<? super Task> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Shows the tasks of the source satisfying the predicate, or every task if it is null.
+     */
+    public void setPredicate(Predicate<? super Task> predicate) {
+        setPredicate(predicate, null);
+    }
+
+    /**
+     * Shows the tasks of the source satisfying the predicate, or every task if it is null, in the given
+     * order, or in the order of the source if it is null. Tasks that sort equal stay in source order.
+     */
+    public void setPredicate(Predicate<? super Task> predicate, Comparator<? super Task> order) {
+        this.predicate = predicate;
+        List<Task> removed = new ArrayList<>(shown);
+        shown = new SortedTaskList(order);
+        for (Task task : source) {
+            if (isShown(task)) {
+                shown.insertSilently(task, source.sequenceOf(task.getId()));
+            }
+        }
+        beginChange();
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (!shown.isEmpty()) {
+            nextAdd(0, shown.size());
+        }
+        endChange();
+    }
+
+    @Override
+    public Task get(int index) {
+        return shown.get(index);
+    }
+
+    @Override
+    public int size() {
+        return shown.size();
+    }
+
+    @Override
+    public Iterator<Task> iterator() {
+        return shown.iterator();
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return shown.indexOf(o);
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return shown.lastIndexOf(o);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return shown.contains(o);
+    }
+
+    private boolean isShown(Task task) {
+        return predicate == null || predicate.test(task);
+    }
+
+    /**
+     * Applies each task removed from or added to the source to the view, one task at a time.
+     */
+    private void sourceChanged(ListChangeListener.Change<? extends Task> change) {
+        beginChange();
+        while (change.next()) {
+            for (Task removed : change.getRemoved()) {
+                if (shown.getById(removed.getId()) == removed) {
+                    nextRemove(shown.removeSilently(removed.getId()), removed);
+                }
+            }
+            for (Task added : change.getAddedSubList()) {
+                if (isShown(added)) {
+                    int index = shown.insertSilently(added, source.sequenceOf(added.getId()));
+                    nextAdd(index, index + 1);
+                }
+            }
+        }
+        endChange();
+    }
+}
@@ -8,6 +8,11 @@ import seedu.simply.model.tag.UniqueTagList;
  */
 public interface ReadOnlyTask {
 
+    /**
+     * Stable identifier of the task, assigned when it is created and kept by copies and storage.
+     * Not part of {@link #isSameStateAs(ReadOnlyTask)}.
+     */
+    long getId();
     Name getName();
     Date getDate();
     Start getStart();
@@ -21,6 +26,25 @@ public interface ReadOnlyTask {
      */
     UniqueTagList getTags();
 
+    /**
+     * Returns the text a find looks for keywords in: the name in lower case, then the date, start, end and
+     * tags as they are displayed, each on a line of its own so that no keyword matches across two fields.
+     * Fields the task does not have are left empty.
+     */
+    default String getSearchText() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append(getName().taskDetails.toLowerCase())
+                .append('\n')
+                .append(getDate() != null ? getDate().value : "")
+                .append('\n')
+                .append(getStart() != null ? getStart().value : "")
+                .append('\n')
+                .append(getEnd() != null ? getEnd().value : "")
+                .append('\n')
+                .append(getTags());
+        return builder.toString();
+    }
+
     /**
      * Returns true if both have the same state. (interfaces cannot override .equals)
      */
@@ -0,0 +1,479 @@
+package seedu.simply.model.task;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * An observable list of tasks that is always kept in {@link Task#compareTo(Task)} order.
+ *
+ * Backed by an order-statistic treap, so inserting, removing, repositioning a task and
+ * looking up the index of a task all take O(log n) instead of re-sorting the whole list.
+ * Listeners receive single add/remove changes rather than full-list permutations.
+ *
+ * Tasks that compare as equal are kept in insertion order, the same as a stable sort.
+ * As the nodes of the treap are never changed once built, {@link #snapshot()} can hand out the
+ * list as it stands in O(1), and later changes to the list leave the snapshot as it was.
+ * No two tasks in the list may share an id.
+ *
+ * A {@link FilteredTaskList} showing ranked tasks keeps them in a list created with another order.
+ */
+public class SortedTaskList extends ObservableListBase<Task> {
+
+    /**
+     * An immutable treap node. Every update copies the nodes along the affected path,
+     * leaving the rest of the tree shared.
+     */
+    private static final class Node {
+        final Task task;
+        final long seq;
+        final int priority;
+        final Node left;
+        final Node right;
+        final int size;
+
+        Node(Task task, long seq, int priority, Node left, Node right) {
+            this.task = task;
+            this.seq = seq;
+            this.priority = priority;
+            this.left = left;
+            this.right = right;
+            this.size = 1 + sizeOf(left) + sizeOf(right);
+        }
+
+        Node withChildren(Node newLeft, Node newRight) {
+            return new Node(task, seq, priority, newLeft, newRight);
+        }
+    }
+
+    /** A task in the list together with its insertion sequence number, used to break ties between equal tasks. */
+    private static final class Slot {
+        final Task task;
+        final long seq;
+
+        Slot(Task task, long seq) {
+            this.task = task;
+            this.seq = seq;
+        }
+    }
+
+    private final Random priorities = new Random();
+    private final Map<Long, Slot> slotsById = new HashMap<>();
+    /** The order of the tasks, or null for {@link Task#compareTo(Task)} order. */
+    private final Comparator<? super Task> order;
+    private Node root;
+    private long nextSeq;
+
+    public SortedTaskList() {
+        this(null);
+    }
+
+    /**
+     * Creates a list kept in the given order, or in {@link Task#compareTo(Task)} order if it is null.
+     * Tasks from elsewhere are then found by a scan rather than by where they would sort.
+     */
+    SortedTaskList(Comparator<? super Task> order) {
+        this.order = order;
+    }
+
+    @Override
+    public Task get(int index) {
+        return taskAt(root, index);
+    }
+
+    private static Task taskAt(Node root, int index) {
+        if (index < 0 || index >= sizeOf(root)) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + sizeOf(root));
+        }
+        Node node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.task;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    @Override
+    public Iterator<Task> iterator() {
+        return iteratorFrom(root, 0);
+    }
+
+    /**
+     * Inserts the task at its sorted position.
+     * @return the index the task was inserted at.
+     */
+    public int insert(Task toAdd) {
+        assert toAdd != null;
+        assert !slotsById.containsKey(toAdd.getId());
+        int index = insertQuietly(toAdd, nextSeq++);
+        beginChange();
+        nextAdd(index, index + 1);
+        endChange();
+        return index;
+    }
+
+    @Override
+    public boolean add(Task toAdd) {
+        insert(toAdd);
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        int index = indexOf(o);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    @Override
+    public Task remove(int index) {
+        Task removed = get(index);
+        removeAt(index);
+        slotsById.remove(removed.getId());
+        beginChange();
+        nextRemove(index, removed);
+        endChange();
+        return removed;
+    }
+
+    /**
+     * Replaces the task at the given index and moves the replacement to its sorted position.
+     * The replacement keeps the tie-breaking position of the task it replaces, and must either
+     * have the same id or an id that is not in the list yet.
+     */
+    @Override
+    public Task set(int index, Task replacement) {
+        assert replacement != null;
+        Task replaced = get(index);
+        long seq = slotsById.remove(replaced.getId()).seq;
+        assert !slotsById.containsKey(replacement.getId());
+        removeAt(index);
+        int newIndex = insertQuietly(replacement, seq);
+        beginChange();
+        if (newIndex == index) {
+            nextSet(index, replaced);
+        } else {
+            nextRemove(index, replaced);
+            nextAdd(newIndex, newIndex + 1);
+        }
+        endChange();
+        return replaced;
+    }
+
+    @Override
+    public boolean setAll(Collection<? extends Task> newTasks) {
+        List<Task> removed = new ArrayList<>(this);
+        List<Task> sorted = new ArrayList<>(newTasks);
+        sorted.sort(order);
+        root = null;
+        slotsById.clear();
+        for (Task task : sorted) {
+            assert !slotsById.containsKey(task.getId());
+            insertQuietly(task, nextSeq++);
+        }
+        beginChange();
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (!sorted.isEmpty()) {
+            nextAdd(0, sorted.size());
+        }
+        endChange();
+        return true;
+    }
+
+    @Override
+    public boolean setAll(Task... newTasks) {
+        return setAll(Arrays.asList(newTasks));
+    }
+
+    @Override
+    public void clear() {
+        setAll(new ArrayList<>());
+    }
+
+    /**
+     * Returns the task in this list with the given id, or null if there is none.
+     */
+    public Task getById(long id) {
+        Slot slot = slotsById.get(id);
+        return slot == null ? null : slot.task;
+    }
+
+    /**
+     * Returns the index of the given task. A task whose id is in this list is found in O(log n),
+     * even if its other fields differ from the stored copy. Tasks from elsewhere (with an unknown
+     * id or none at all) are matched by equality among the tasks that sort alongside them.
+     */
+    @Override
+    public int indexOf(Object o) {
+        if (!(o instanceof ReadOnlyTask)) {
+            return -1;
+        }
+        ReadOnlyTask key = (ReadOnlyTask) o;
+        Slot slot = slotsById.get(key.getId());
+        if (slot != null) {
+            return rankOf(slot.task, slot.seq);
+        }
+        if (order != null) {
+            return indexOfEqualByScan(key);
+        }
+        int index = indexOfEqual(key, key.getIsCompleted());
+        return index >= 0 ? index : indexOfEqual(key, !key.getIsCompleted());
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return indexOf(o);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Scans the run of tasks that sort equal to {@code key} (treated as having the given
+     * completion state) for one that {@link Task#equals(Object) equals} it.
+     */
+    private int indexOfEqual(ReadOnlyTask key, boolean isCompleted) {
+        int index = countLessThan(key, isCompleted);
+        Iterator<Task> itr = iteratorFrom(root, index);
+        while (itr.hasNext()) {
+            Task candidate = itr.next();
+            if (Task.compare(key, isCompleted, candidate) != 0) {
+                break;
+            }
+            if (candidate.equals(key)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    private int indexOfEqualByScan(ReadOnlyTask key) {
+        int index = 0;
+        for (Task candidate : this) {
+            if (candidate.equals(key)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns an unmodifiable list of the tasks in this list as they are now, in O(1).
+     * The snapshot shares its nodes with this list and is not affected by later changes to it,
+     * so it may be read from any thread once it has been safely published.
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(root);
+    }
+
+    /** The tasks of a {@link SortedTaskList} as they were when {@link #snapshot()} was called. */
+    public static final class Snapshot extends AbstractList<Task> {
+        private final Node root;
+
+        private Snapshot(Node root) {
+            this.root = root;
+        }
+
+        @Override
+        public Task get(int index) {
+            return taskAt(root, index);
+        }
+
+        @Override
+        public int size() {
+            return sizeOf(root);
+        }
+
+        @Override
+        public Iterator<Task> iterator() {
+            return iteratorFrom(root, 0);
+        }
+    }
+
+    //=========== Access for filtered views ============================================================
+
+    /**
+     * Returns the number that orders the task with the given id among the tasks that sort equal to it.
+     * The task must be in this list.
+     */
+    long sequenceOf(long id) {
+        return slotsById.get(id).seq;
+    }
+
+    /**
+     * Inserts the task at its sorted position, ordered by {@code seq} among equal tasks, without telling
+     * the listeners. Used by {@link FilteredTaskList} to keep its tasks in the order of its source.
+     * @return the index the task was inserted at.
+     */
+    int insertSilently(Task task, long seq) {
+        assert !slotsById.containsKey(task.getId());
+        nextSeq = Math.max(nextSeq, seq + 1);
+        return insertQuietly(task, seq);
+    }
+
+    /**
+     * Removes the task with the given id, which must be in this list, without telling the listeners.
+     * @return the index the task was at.
+     */
+    int removeSilently(long id) {
+        Slot slot = slotsById.remove(id);
+        int index = rankOf(slot.task, slot.seq);
+        removeAt(index);
+        return index;
+    }
+
+    //=========== Treap operations =====================================================================
+
+    private static int sizeOf(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private int compare(Task task, long seq, Node node) {
+        int result = order == null ? task.compareTo(node.task) : order.compare(task, node.task);
+        return result != 0 ? result : Long.compare(seq, node.seq);
+    }
+
+    private int insertQuietly(Task task, long seq) {
+        int index = rankOf(task, seq);
+        Node[] parts = splitAt(root, index);
+        Node single = new Node(task, seq, priorities.nextInt(), null, null);
+        root = merge(merge(parts[0], single), parts[1]);
+        slotsById.put(task.getId(), new Slot(task, seq));
+        return index;
+    }
+
+    private void removeAt(int index) {
+        Node[] parts = splitAt(root, index);
+        Node[] rest = splitAt(parts[1], 1);
+        root = merge(parts[0], rest[1]);
+    }
+
+    /** Number of nodes ordered before ({@code task}, {@code seq}). */
+    private int rankOf(Task task, long seq) {
+        int rank = 0;
+        Node node = root;
+        while (node != null) {
+            if (compare(task, seq, node) <= 0) {
+                node = node.left;
+            } else {
+                rank += sizeOf(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return rank;
+    }
+
+    /** Number of tasks that sort strictly before {@code key}. */
+    private int countLessThan(ReadOnlyTask key, boolean isCompleted) {
+        int rank = 0;
+        Node node = root;
+        while (node != null) {
+            if (Task.compare(key, isCompleted, node.task) <= 0) {
+                node = node.left;
+            } else {
+                rank += sizeOf(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return rank;
+    }
+
+    /** Splits the tree into its first {@code count} nodes and the rest. */
+    private static Node[] splitAt(Node node, int count) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+        int leftSize = sizeOf(node.left);
+        if (count <= leftSize) {
+            Node[] parts = splitAt(node.left, count);
+            return new Node[] {parts[0], node.withChildren(parts[1], node.right)};
+        } else {
+            Node[] parts = splitAt(node.right, count - leftSize - 1);
+            return new Node[] {node.withChildren(node.left, parts[0]), parts[1]};
+        }
+    }
+
+    /** Joins two trees where every node of {@code left} is ordered before every node of {@code right}. */
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            return left.withChildren(left.left, merge(left.right, right));
+        } else {
+            return right.withChildren(merge(left, right.left), right.right);
+        }
+    }
+
+    /** In-order iterator over the tree under {@code root}, starting at the given index. */
+    private static Iterator<Task> iteratorFrom(Node root, int index) {
+        final Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        while (node != null) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                path.push(node);
+                node = node.left;
+            } else if (index == leftSize) {
+                path.push(node);
+                break;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+        return new Iterator<Task>() {
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public Task next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node current = path.pop();
+                for (Node next = current.right; next != null; next = next.left) {
+                    path.push(next);
+                }
+                return current.task;
+            }
+        };
+    }
+}
@@ -22,6 +22,8 @@ public class Start implements Comparable<Start> {
             + "(no start)";
 
     public final String value;
+    /** The minute of the day of {@link #value}, worked out once. */
+    private final int minuteOfDay;
 
     /**
      * Validates given start time.
@@ -38,7 +40,31 @@ public class Start implements Comparable<Start> {
     		throw new IllegalValueException(MESSAGE_START_CONSTRAINTS);
     	}
     	this.value = calculateStartTimeValue(start);
-    	
+    	this.minuteOfDay = End.parseMinuteOfDay(value);
+    }
+
+    private Start(int time) {
+        this.value = String.valueOf(10000 + time).substring(1);
+        this.minuteOfDay = End.parseMinuteOfDay(value);
+    }
+
+    /**
+     * Returns the minute of the day this start time is at, or {@link End#NO_MINUTE} if there is no start time.
+     */
+    public int getMinuteOfDay() {
+        return minuteOfDay;
+    }
+
+    /**
+     * Returns the start time with the given 24 hour clock value, such as 930 for 0930,
+     * without parsing a time string.
+     * @throws IllegalValueException if the value is not a time.
+     */
+    public static Start of(int time) throws IllegalValueException {
+        if (time < 0 || time / 100 > 23 || time % 100 > 59) {
+            throw new IllegalValueException(MESSAGE_START_CONSTRAINTS);
+        }
+        return new Start(time);
     }
     /**
      *@@author A0138993L
@@ -1,5 +1,6 @@
 package seedu.simply.model.task;
 
+import javafx.collections.ObservableList;
 import seedu.simply.commons.core.Messages;
 import seedu.simply.commons.exceptions.IllegalValueException;
 import seedu.simply.commons.util.CollectionUtil;
@@ -7,8 +8,8 @@ import seedu.simply.logic.commands.CommandResult;
 import seedu.simply.model.tag.Tag;
 import seedu.simply.model.tag.UniqueTagList;
 
-import java.util.Iterator;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * @@author A0138993L
@@ -17,6 +18,13 @@ import java.util.Objects;
  */
 public class Task implements ReadOnlyTask, ModifyTask, Comparable<Task> {
 
+    /** Id to pass when a task should be given a fresh id. */
+    public static final long NO_ID = 0;
+
+    /** The largest id handed out or loaded so far. */
+    private static final AtomicLong lastId = new AtomicLong();
+
+    private final long id;
     private Name name;
     private Date date;
     private Start start;
@@ -26,13 +34,24 @@ public class Task implements ReadOnlyTask, ModifyTask, Comparable<Task> {
     private boolean isCompleted;
 
     private UniqueTagList tags;
+    /** Built when first asked for, and dropped whenever a field it is made of changes. */
+    private String searchText;
 
     /**
      *@@author A0138993L
      * Every field must be present and not null.
      */
     public Task(Name name, Date date, Start start, End end, int taskCategory, int overdue, boolean isCompleted, UniqueTagList tags) {
+        this(NO_ID, name, date, start, end, taskCategory, overdue, isCompleted, tags);
+    }
+
+    /**
+     * Creates a task with a known id, e.g. one read back from storage.
+     * A fresh id is assigned if {@code id} is {@link #NO_ID}.
+     */
+    public Task(long id, Name name, Date date, Start start, End end, int taskCategory, int overdue, boolean isCompleted, UniqueTagList tags) {
         assert !CollectionUtil.isAnyNull(name, date, start, end, tags);
+        this.id = claimId(id);
         this.name = name;
         this.date = date;
         this.start = start;
@@ -54,6 +73,7 @@ public class Task implements ReadOnlyTask, ModifyTask, Comparable<Task> {
      * Copy constructor for deadline.
      */    
     public Task(Name name, Date date, End end, int taskCategory, int overdue, boolean isCompleted, UniqueTagList tags) {
+        this.id = claimId(NO_ID);
         this.name = name;
         this.date = date;
         this.start = null;
@@ -75,6 +95,7 @@ public class Task implements ReadOnlyTask, ModifyTask, Comparable<Task> {
      * Copy constructor for todo.
      */    
     public Task(Name name, int taskCategory, boolean isCompleted, UniqueTagList tags) {
+        this.id = claimId(NO_ID);
         this.name = name;
         this.date = null;
         this.start = null;
@@ -87,11 +108,24 @@ public class Task implements ReadOnlyTask, ModifyTask, Comparable<Task> {
     
     /**
      * @@author A0138993L
-     * Copy constructor.
+     * Copy constructor. The copy keeps the id of {@code source}.
      */
     public Task(ReadOnlyTask source) {
-        this(source.getName(), source.getDate(), source.getStart(), source.getEnd(), source.getTaskCategory(), source.getOverdue(),source.getIsCompleted(), source.getTags());
+        this(source.getId(), source.getName(), source.getDate(), source.getStart(), source.getEnd(), source.getTaskCategory(), source.getOverdue(),source.getIsCompleted(), source.getTags());
+    }
+
+    /**
+     * Returns {@code id} if it is a real id, making sure it is never handed out again.
+     * Returns a fresh id if {@code id} is {@link #NO_ID}.
+     */
+    private static long claimId(long id) {
+        if (id == NO_ID) {
+            return lastId.incrementAndGet();
+        }
+        lastId.accumulateAndGet(id, Math::max);
+        return id;
     }
+
     //@@author A0138993L
     public int isOverdue(Date checkDate, End checkEnd) {
     	if (checkDate.isAfterCurrentDate(checkDate.toString()) == 0){
@@ -106,6 +140,11 @@ public class Task implements ReadOnlyTask, ModifyTask, Comparable<Task> {
   	}
 
 
+    @Override
+    public long getId() {
+        return id;
+    }
+
     @Override
     public int getOverdue() {
     	return overdue;
@@ -144,6 +183,20 @@ public class Task implements ReadOnlyTask, ModifyTask, Comparable<Task> {
     public UniqueTagList getTags() {
         return new UniqueTagList(tags);
     }
+
+    /**
+     * Returns the search text, building it only if a field it is made of has changed since it was last
+     * built. Two threads may both build it, but a string is safe to share, so either result will do.
+     */
+    @Override
+    public String getSearchText() {
+        String text = searchText;
+        if (text == null) {
+            text = ReadOnlyTask.super.getSearchText();
+            searchText = text;
+        }
+        return text;
+    }
     
     /**
      * This section contains the setter methods
@@ -152,21 +205,25 @@ public class Task implements ReadOnlyTask, ModifyTask, Comparable<Task> {
     @Override 
     public void setName(Name name) {
         this.name = name;
+        searchText = null;
     }
     
     @Override 
     public void setDate(Date date) {
         this.date = date;
+        searchText = null;
     }
     
     @Override
     public void setStart(Start start) {
         this.start = start;
+        searchText = null;
     }
     
     @Override
     public void setEnd(End end) {
         this.end = end;
+        searchText = null;
     }
 
     @Override
@@ -188,33 +245,39 @@ public class Task implements ReadOnlyTask, ModifyTask, Comparable<Task> {
      */
     public void setTags(UniqueTagList replacement) {
         tags.setTags(replacement);
+        searchText = null;
     }
     /**
      * increase this task's tags with the tags in the argument tag list.
      */
     public void addTags(UniqueTagList addOn) {
         tags.mergeFrom(addOn);
+        searchText = null;
     }
     
     
     /**
-     * Replaces the specific tag found in this task's tags with the tags in the argument.
-     * @return 
-     * @throws IllegalValueException 
-
+     * Replaces the specific tag found in this task's tags with a new tag of the given name.
+     * The Tag object itself is left alone, as it is shared with the master tag list and other tasks.
+     * @return true if this task had the tag.
+     * @throws IllegalValueException if either name is not a valid tag name.
      */
   //@@author A0139430L
     public boolean setTags(String specific_tag, String replacement) throws IllegalValueException{        
         Tag tempTag = new Tag(specific_tag);
-        Iterator<Tag> itr = tags.iterator();
-        while(itr.hasNext()){
-            Tag temp = itr.next();
-            if(temp.equals(tempTag)){    
-                temp.setTagName(replacement);
-                return true;
-            }
+        Tag newTag = new Tag(replacement);
+        ObservableList<Tag> tagList = tags.getInternalList();
+        int index = tagList.indexOf(tempTag);
+        if (index < 0) {
+            return false;
+        }
+        if (tagList.contains(newTag)) {
+            tagList.remove(index);
+        } else {
+            tagList.set(index, newTag);
         }
-        return false;
+        searchText = null;
+        return true;
     }
 
     @Override
@@ -238,23 +301,31 @@ public class Task implements ReadOnlyTask, ModifyTask, Comparable<Task> {
   //@@author A0139430L
     @Override
     public int compareTo(Task other) {
-        if(this.isCompleted==true & other.isCompleted == false)
+        return compare(this, this.isCompleted, other);
+    }
+
+    /**
+     * Orders {@code task}, taken to have the given completion state, against {@code other}
+     * in the same way as {@link #compareTo(Task)}.
+     */
+    public static int compare(ReadOnlyTask task, boolean isCompleted, ReadOnlyTask other) {
+        if(isCompleted==true & other.getIsCompleted() == false)
             return 1;
-        else if(this.isCompleted==false & other.isCompleted == true)
+        else if(isCompleted==false & other.getIsCompleted() == true)
             return -1;
         
-        if(this.date.compareTo(other.date)==0){
-            return compareTime(other);
+        if(task.getDate().compareTo(other.getDate())==0){
+            return compareTime(task, other);
         }
 
-        return this.date.compareTo(other.date);
+        return task.getDate().compareTo(other.getDate());
     }
 
-    private int compareTime(Task other) {
-        if (this.start.compareTo(other.start)==0)
-            return this.end.compareTo(other.end);
+    private static int compareTime(ReadOnlyTask task, ReadOnlyTask other) {
+        if (task.getStart().compareTo(other.getStart())==0)
+            return task.getEnd().compareTo(other.getEnd());
         else
-            return this.start.compareTo(other.start);
+            return task.getStart().compareTo(other.getStart());
     }
 
 
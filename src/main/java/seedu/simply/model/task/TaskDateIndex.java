@@ -0,0 +1,118 @@
+package seedu.simply.model.task;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An index of the events and deadlines by when they end, so that the tasks due in a range of time can be
+ * found in O(log n + k) for k tasks instead of by walking every task.
+ *
+ * A task is keyed by the minute its date and end time fall on, counted from 1970-01-01 00:00. A task with
+ * a date but no end time is taken to end at the end of its day. Tasks with no date are not indexed.
+ */
+public class TaskDateIndex {
+
+    public static final long MINUTES_PER_DAY = 24 * 60;
+    /** The {@link #endMinuteOf(ReadOnlyTask) end minute} of a task that is not indexed. */
+    public static final long NO_END = Long.MIN_VALUE;
+
+    private final NavigableMap<Long, Set<Long>> idsByMinute = new TreeMap<>();
+    private final Map<Long, Long> minuteById = new HashMap<>();
+
+    /**
+     * Indexes the given task under its id, replacing whatever was indexed under that id before.
+     * Tasks that are not events or deadlines, or have no date, are only removed.
+     */
+    public void add(ReadOnlyTask task) {
+        remove(task.getId());
+        long minute = endMinuteOf(task);
+        if (minute == NO_END) {
+            return;
+        }
+        minuteById.put(task.getId(), minute);
+        idsByMinute.computeIfAbsent(minute, key -> new HashSet<>()).add(task.getId());
+    }
+
+    /**
+     * Removes the task with the given id from the index, if it is indexed.
+     */
+    public void remove(long id) {
+        Long minute = minuteById.remove(id);
+        if (minute == null) {
+            return;
+        }
+        Set<Long> ids = idsByMinute.get(minute);
+        ids.remove(id);
+        if (ids.isEmpty()) {
+            idsByMinute.remove(minute);
+        }
+    }
+
+    /**
+     * Returns the ids of the tasks ending from minute {@code from} to minute {@code to}, both inclusive,
+     * in order of when they end.
+     */
+    public List<Long> idsBetween(long from, long to) {
+        if (from > to) {
+            return new ArrayList<>();
+        }
+        return flatten(idsByMinute.subMap(from, true, to, true));
+    }
+
+    /**
+     * Returns the ids of the tasks ending before minute {@code before}, in order of when they end.
+     */
+    public List<Long> idsBefore(long before) {
+        return flatten(idsByMinute.headMap(before, false));
+    }
+
+    private static List<Long> flatten(NavigableMap<Long, Set<Long>> range) {
+        List<Long> ids = new ArrayList<>();
+        for (Set<Long> idsAtMinute : range.values()) {
+            ids.addAll(idsAtMinute);
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the minute the task is indexed under: the one an event or deadline with a date ends on,
+     * or {@link #NO_END} for any other task.
+     */
+    public static long endMinuteOf(ReadOnlyTask task) {
+        if (task.getTaskCategory() != 1 && task.getTaskCategory() != 2) {
+            return NO_END;
+        }
+        if (task.getDate() == null || task.getDate().toEpochDay() == Date.NO_EPOCH_DAY) {
+            return NO_END;
+        }
+        return epochMinuteOf(task.getDate(), task.getEnd());
+    }
+
+    /**
+     * Returns the minute, counted from 1970-01-01 00:00, that the given date and end time fall on.
+     * With no end time, the last minute of the day is used.
+     */
+    public static long epochMinuteOf(Date date, End end) {
+        int minuteOfDay = end == null || end.getMinuteOfDay() == End.NO_MINUTE
+                ? (int) MINUTES_PER_DAY - 1 : end.getMinuteOfDay();
+        return date.toEpochDay() * MINUTES_PER_DAY + minuteOfDay;
+    }
+
+    /** Returns the first minute of the given day, counted from 1970-01-01 00:00. */
+    public static long epochMinuteOf(LocalDate day) {
+        return day.toEpochDay() * MINUTES_PER_DAY;
+    }
+
+    /** Returns the minute the given time falls in, counted from 1970-01-01 00:00. */
+    public static long epochMinuteOf(LocalDateTime time) {
+        return epochMinuteOf(time.toLocalDate()) + time.getHour() * 60 + time.getMinute();
+    }
+}
@@ -0,0 +1,252 @@
+package seedu.simply.model.task;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.simply.model.tag.Tag;
+
+/**
+ * A trigram index over the words of each task's name and its tag names, so that misspelt words can be
+ * found without comparing the query with every word.
+ *
+ * Words are lower case and padded with a mark at each end before they are cut into trigrams, so short
+ * words and the ends of words are counted too. An edit changes at most four of a word's trigrams, so a
+ * word within {@code k} edits of the query shares all but {@code 4k} of the query's trigrams with it.
+ * Only the words sharing that many trigrams, and at least one, are compared with the query by edit
+ * distance. A short word with every trigram changed, such as "cut" for "cat", is therefore not found.
+ */
+public class TaskFuzzyIndex {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final char PAD = '$';
+
+    /** The ids of the tasks with each word in their name or tags. */
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    /** The distinct words containing each padded trigram. */
+    private final Map<String, Set<String>> wordsByGram = new HashMap<>();
+    /** The words each indexed task was indexed under, so it can be removed again. */
+    private final Map<Long, Set<String>> wordsById = new HashMap<>();
+
+    /**
+     * Indexes the given task under its id, replacing whatever was indexed under that id before.
+     */
+    public void add(ReadOnlyTask task) {
+        remove(task.getId());
+        Set<String> words = wordsOf(task);
+        wordsById.put(task.getId(), words);
+        for (String word : words) {
+            Set<Long> ids = postings.get(word);
+            if (ids == null) {
+                ids = new HashSet<>();
+                postings.put(word, ids);
+                for (String gram : gramsOf(word)) {
+                    wordsByGram.computeIfAbsent(gram, key -> new HashSet<>()).add(word);
+                }
+            }
+            ids.add(task.getId());
+        }
+    }
+
+    /**
+     * Removes the task with the given id from the index, if it is indexed.
+     */
+    public void remove(long id) {
+        Set<String> words = wordsById.remove(id);
+        if (words == null) {
+            return;
+        }
+        for (String word : words) {
+            Set<Long> ids = postings.get(word);
+            ids.remove(id);
+            if (!ids.isEmpty()) {
+                continue;
+            }
+            postings.remove(word);
+            for (String gram : gramsOf(word)) {
+                Set<String> gramWords = wordsByGram.get(gram);
+                if (gramWords != null && gramWords.remove(word) && gramWords.isEmpty()) {
+                    wordsByGram.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the indexed words within {@link #maxEditsFor} edits of the query, ignoring case, closest first.
+     * Words as close as each other are ranked by how many trigrams they share with the query.
+     */
+    public List<String> closestWords(String query) {
+        String word = query.toLowerCase();
+        int maxEdits = maxEditsFor(word);
+        Set<String> grams = gramsOf(word);
+        Map<String, Integer> sharedGrams = new HashMap<>();
+        for (String gram : grams) {
+            Set<String> gramWords = wordsByGram.get(gram);
+            if (gramWords == null) {
+                continue;
+            }
+            for (String candidate : gramWords) {
+                sharedGrams.merge(candidate, 1, Integer::sum);
+            }
+        }
+
+        int minShared = minSharedGrams(grams, maxEdits);
+        List<Match> matches = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : sharedGrams.entrySet()) {
+            String candidate = entry.getKey();
+            if (entry.getValue() < minShared || Math.abs(candidate.length() - word.length()) > maxEdits) {
+                continue;
+            }
+            int distance = editDistance(word, candidate, maxEdits);
+            if (distance <= maxEdits) {
+                matches.add(new Match(candidate, distance, entry.getValue()));
+            }
+        }
+        Collections.sort(matches);
+
+        List<String> words = new ArrayList<>();
+        for (Match match : matches) {
+            words.add(match.word);
+        }
+        return words;
+    }
+
+    /**
+     * Returns the ids of the tasks with a word in their name or tags within {@link #maxEditsFor} edits of
+     * the query, those with the closest words first.
+     */
+    public Set<Long> find(String query) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (String word : closestWords(query)) {
+            ids.addAll(postings.get(word));
+        }
+        return ids;
+    }
+
+    /**
+     * Returns true if the task has a word in its name or tags that {@link #find} would find for the query.
+     */
+    public static boolean matches(ReadOnlyTask task, String query) {
+        String word = query.toLowerCase();
+        int maxEdits = maxEditsFor(word);
+        Set<String> grams = gramsOf(word);
+        int minShared = minSharedGrams(grams, maxEdits);
+        for (String taskWord : wordsOf(task)) {
+            if (Math.abs(taskWord.length() - word.length()) > maxEdits) {
+                continue;
+            }
+            Set<String> shared = gramsOf(taskWord);
+            shared.retainAll(grams);
+            if (shared.size() >= minShared && editDistance(word, taskWord, maxEdits) <= maxEdits) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Returns how many of the query's trigrams a word within {@code maxEdits} edits must share with it. */
+    private static int minSharedGrams(Set<String> queryGrams, int maxEdits) {
+        return Math.max(1, queryGrams.size() - (GRAM_LENGTH + 1) * maxEdits);
+    }
+
+    /**
+     * Returns how many edits a word may be away from the query: none for one or two letters, one for up
+     * to five letters and two for longer queries.
+     */
+    public static int maxEditsFor(String query) {
+        if (query.length() <= 2) {
+            return 0;
+        }
+        return query.length() <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Returns the number of insertions, deletions, substitutions and swaps of neighbouring letters that
+     * turn {@code a} into {@code b}, or {@code max + 1} once it is known to be more than {@code max}.
+     */
+    static int editDistance(String a, String b, int max) {
+        int[] beforePrevious = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        int previousRowMin = 0;
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int distance = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    distance = Math.min(distance, beforePrevious[j - 2] + 1);
+                }
+                current[j] = distance;
+                rowMin = Math.min(rowMin, distance);
+            }
+            // later rows build on this row, or on the previous one through a swap costing one more
+            if (rowMin > max && previousRowMin >= max) {
+                return max + 1;
+            }
+            previousRowMin = rowMin;
+            int[] recycled = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[b.length()], max + 1);
+    }
+
+    /** Returns the distinct lower case words of the task's name, and its tag names in lower case. */
+    private static Set<String> wordsOf(ReadOnlyTask task) {
+        Set<String> words = new HashSet<>();
+        for (String word : task.getName().taskDetails.toLowerCase().split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        for (Tag tag : task.getTags()) {
+            words.add(tag.tagName.toLowerCase());
+        }
+        return words;
+    }
+
+    private static Set<String> gramsOf(String word) {
+        String padded = PAD + word + PAD;
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    /** A word close to the query, ordered closest first. */
+    private static class Match implements Comparable<Match> {
+        final String word;
+        final int distance;
+        final int sharedGrams;
+
+        Match(String word, int distance, int sharedGrams) {
+            this.word = word;
+            this.distance = distance;
+            this.sharedGrams = sharedGrams;
+        }
+
+        @Override
+        public int compareTo(Match other) {
+            if (distance != other.distance) {
+                return Integer.compare(distance, other.distance);
+            }
+            if (sharedGrams != other.sharedGrams) {
+                return Integer.compare(other.sharedGrams, sharedGrams);
+            }
+            return word.compareTo(other.word);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package seedu.simply.model.task;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from the words of each task's name, date, start, end and tags to the ids of
+ * the tasks that contain them, so that a find does not have to scan every task.
+ *
+ * A keyword matches a task if it is contained in any of those fields, ignoring the case of the name,
+ * just as a scan would. Since keywords have no spaces, that is the same as the keyword being contained
+ * in one of the task's words, so a keyword is looked up by finding the words that contain it through
+ * a trigram index over the distinct words, and then taking the union of their postings. A keyword with
+ * spaces matches the tasks that match each of its words.
+ */
+public class TaskSearchIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    /** The ids of the tasks containing each word. */
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    /** The distinct words containing each trigram. */
+    private final Map<String, Set<String>> wordsByGram = new HashMap<>();
+    /** The words each indexed task was indexed under, so it can be removed again. */
+    private final Map<Long, String[]> wordsById = new HashMap<>();
+    private long version;
+
+    /**
+     * Indexes the given task under its id, replacing whatever was indexed under that id before.
+     */
+    public void add(ReadOnlyTask task) {
+        remove(task.getId());
+        String[] words = wordsOf(task);
+        wordsById.put(task.getId(), words);
+        for (String word : words) {
+            Set<Long> ids = postings.get(word);
+            if (ids == null) {
+                ids = new HashSet<>();
+                postings.put(word, ids);
+                for (int i = 0; i + GRAM_LENGTH <= word.length(); i++) {
+                    wordsByGram.computeIfAbsent(word.substring(i, i + GRAM_LENGTH), gram -> new HashSet<>())
+                            .add(word);
+                }
+            }
+            ids.add(task.getId());
+        }
+        version++;
+    }
+
+    /**
+     * Removes the task with the given id from the index, if it is indexed.
+     */
+    public void remove(long id) {
+        String[] words = wordsById.remove(id);
+        if (words == null) {
+            return;
+        }
+        for (String word : words) {
+            Set<Long> ids = postings.get(word);
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                postings.remove(word);
+                for (int i = 0; i + GRAM_LENGTH <= word.length(); i++) {
+                    String gram = word.substring(i, i + GRAM_LENGTH);
+                    Set<String> gramWords = wordsByGram.get(gram);
+                    // null if the word has this trigram more than once and it is already gone
+                    if (gramWords != null && gramWords.remove(word) && gramWords.isEmpty()) {
+                        wordsByGram.remove(gram);
+                    }
+                }
+            }
+        }
+        version++;
+    }
+
+    /**
+     * Returns a number that changes whenever the index does, so results of {@link #find} can be kept
+     * until it changes.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the ids of the tasks matching any of the given keywords.
+     * The returned set must not be modified, and is only valid until the index next changes.
+     */
+    public Set<Long> find(Collection<String> keywords) {
+        List<Set<Long>> matches = new ArrayList<>();
+        for (String keyword : keywords) {
+            String[] parts = keyword.trim().toLowerCase().split("\\s+");
+            if (parts[0].isEmpty()) {
+                return Collections.unmodifiableSet(wordsById.keySet());
+            }
+            if (parts.length == 1) {
+                addPostingsOfWordsContaining(parts[0], matches);
+            } else {
+                matches.add(findAll(parts));
+            }
+        }
+        return union(matches);
+    }
+
+    /** Returns the ids of the tasks matching every one of the given words. */
+    private Set<Long> findAll(String[] words) {
+        Set<Long> all = null;
+        for (String word : words) {
+            List<Set<Long>> matches = new ArrayList<>();
+            addPostingsOfWordsContaining(word, matches);
+            Set<Long> ids = union(matches);
+            if (all == null) {
+                all = new HashSet<>(ids);
+            } else {
+                all.retainAll(ids);
+            }
+            if (all.isEmpty()) {
+                break;
+            }
+        }
+        return all;
+    }
+
+    private void addPostingsOfWordsContaining(String query, List<Set<Long>> matches) {
+        for (String word : wordsContaining(query)) {
+            matches.add(postings.get(word));
+        }
+    }
+
+    /**
+     * Returns the indexed words that contain {@code query}. Queries shorter than a trigram are checked
+     * against every word, which is still far fewer than the tasks.
+     */
+    private Collection<String> wordsContaining(String query) {
+        Collection<String> candidates;
+        if (query.length() < GRAM_LENGTH) {
+            candidates = postings.keySet();
+        } else {
+            candidates = rarestGramWords(query);
+            if (candidates.isEmpty()) {
+                return candidates;
+            }
+        }
+        List<String> words = new ArrayList<>();
+        for (String word : candidates) {
+            if (word.contains(query)) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns the smallest set of words sharing a trigram with {@code query}; every word containing the
+     * query is in it.
+     */
+    private Set<String> rarestGramWords(String query) {
+        Set<String> rarest = null;
+        for (int i = 0; i + GRAM_LENGTH <= query.length(); i++) {
+            Set<String> gramWords = wordsByGram.get(query.substring(i, i + GRAM_LENGTH));
+            if (gramWords == null) {
+                return Collections.emptySet();
+            }
+            if (rarest == null || gramWords.size() < rarest.size()) {
+                rarest = gramWords;
+            }
+        }
+        return rarest;
+    }
+
+    private static Set<Long> union(List<Set<Long>> sets) {
+        if (sets.isEmpty()) {
+            return Collections.emptySet();
+        }
+        if (sets.size() == 1) {
+            return Collections.unmodifiableSet(sets.get(0));
+        }
+        Set<Long> largest = sets.get(0);
+        for (Set<Long> set : sets) {
+            if (set.size() > largest.size()) {
+                largest = set;
+            }
+        }
+        Set<Long> union = new HashSet<>(largest);
+        for (Set<Long> set : sets) {
+            if (set != largest) {
+                union.addAll(set);
+            }
+        }
+        return union;
+    }
+
+    /**
+     * Returns the distinct words of the fields a find looks in, taken from the task's search text.
+     */
+    private static String[] wordsOf(ReadOnlyTask task) {
+        Set<String> words = new HashSet<>();
+        addWords(task.getSearchText(), words);
+        return words.toArray(new String[words.size()]);
+    }
+
+    private static void addWords(String text, Set<String> words) {
+        int start = -1;
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                if (start >= 0) {
+                    words.add(text.substring(start, i));
+                    start = -1;
+                }
+            } else if (start < 0) {
+                start = i;
+            }
+        }
+        if (start >= 0) {
+            words.add(text.substring(start));
+        }
+    }
+}
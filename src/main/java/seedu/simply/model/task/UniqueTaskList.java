@@ -6,7 +6,6 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Set;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.simply.commons.exceptions.DuplicateDataException;
 import seedu.simply.commons.exceptions.IllegalValueException;
@@ -20,7 +19,8 @@ import seedu.simply.model.tag.UniqueTagList.DuplicateTagException;
 /**
  * A list of tasks that enforces uniqueness between its elements and does not allow nulls.
  *
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations. The tasks are kept sorted by {@link Task#compareTo(Task)}
+ * in a {@link SortedTaskList}, so no operation needs to re-sort the whole list.
  *
  * @see Task#equals(Object)
  * @see CollectionUtil#elementsAreUnique(Collection)
@@ -45,7 +45,7 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public static class TaskNotFoundException extends Exception {}
 
-    private final ObservableList<Task> internalList = FXCollections.observableArrayList();
+    private final SortedTaskList internalList = new SortedTaskList();
 
     /**
      * Constructs empty TaskList.
@@ -76,16 +76,16 @@ public class UniqueTaskList implements Iterable<Task> {
     /**
      * Adds a task to the list.
      *
-     * @throws DuplicateTaskException if the task to add is a duplicate of an existing task in the list.
+     * @throws DuplicateTaskException if the task to add is a duplicate of an existing task in the list,
+     *     or a task with the same id is already in the list.
      */
     //@@author A0139430L
     public void add(Task toAdd) throws DuplicateTaskException {
         assert toAdd != null;
-        if (contains(toAdd)) {
+        if (contains(toAdd) || internalList.getById(toAdd.getId()) != null) {
             throw new DuplicateTaskException();
         }
-        internalList.add(toAdd);
-        FXCollections.sort(internalList);
+        internalList.insert(toAdd);
     }
 
     /**
@@ -98,7 +98,14 @@ public class UniqueTaskList implements Iterable<Task> {
         return internalList.remove(toRemove);
     }
 
-    public ObservableList<Task> getInternalList() {
+    /**
+     * Returns the task in this list with the given id, or null if there is none.
+     */
+    public Task getTask(long id) {
+        return internalList.getById(id);
+    }
+
+    public SortedTaskList getInternalList() {
         return internalList;
     }
 
@@ -120,28 +127,6 @@ public class UniqueTaskList implements Iterable<Task> {
         return internalList.hashCode();
     }
     
-    /**
-     * @@author A0138993L
-     * marks the task as overdue
-     * @param key the selected task
-     * @return status of the task with 1 being overdue 2 being today and 0 being the default
-     */
-    public int markOverdue(ReadOnlyTask key) {
-        assert key != null;
-        int overdueIndex = internalList.indexOf(key);
-        Task overduedTask = internalList.get(overdueIndex);
-        if (overduedTask.isOverdue(overduedTask.getDate(), overduedTask.getEnd()) == 1) {
-            overduedTask.setOverdue(1);
-            return overduedTask.getOverdue();
-        } else if (overduedTask.isOverdue(overduedTask.getDate(), overduedTask.getEnd()) == 2) {
-            overduedTask.setOverdue(2);
-            return overduedTask.getOverdue();
-        } else {
-            overduedTask.setOverdue(0);
-            return overduedTask.getOverdue();
-        }
-    }
-
     //@@author A0138993L
     public int getTaskIndex(ReadOnlyTask key) {
         assert key != null;
@@ -213,7 +198,6 @@ public class UniqueTaskList implements Iterable<Task> {
         else
             toEdit.setEnd(newEnd);
         internalList.set(editIndex, toEdit);
-        FXCollections.sort(internalList);
         return toEdit;
     }
     private Task editStart(String args, int editIndex, Task toEdit) throws IllegalValueException {
@@ -238,7 +222,6 @@ public class UniqueTaskList implements Iterable<Task> {
         else
             toEdit.setStart(newStart);
         internalList.set(editIndex, toEdit);
-        FXCollections.sort(internalList);
         return toEdit;
     }
     private boolean isNotValidTime(String start, String end) {
@@ -263,7 +246,6 @@ public class UniqueTaskList implements Iterable<Task> {
         else
             toEdit.setDate(new Date(args));          
         internalList.set(editIndex, toEdit);
-        FXCollections.sort(internalList);
         return toEdit;
     }
     private Task editDescription(String args, int editIndex, Task toEdit) throws IllegalValueException {
@@ -274,7 +256,7 @@ public class UniqueTaskList implements Iterable<Task> {
 
     //@@author A0135722L Zhiyuan
     public boolean completed(ReadOnlyTask target) {
-        int completeIndex = internalList.lastIndexOf(target);
+        int completeIndex = internalList.indexOf(target);
         Task toComplete = new Task(internalList.get(completeIndex));
         toComplete.setCompleted(true);
         internalList.set(completeIndex, toComplete);
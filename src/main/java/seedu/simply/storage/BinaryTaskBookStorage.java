@@ -0,0 +1,438 @@
+package seedu.simply.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.simply.commons.core.LogsCenter;
+import seedu.simply.commons.exceptions.DataConversionException;
+import seedu.simply.commons.exceptions.IllegalValueException;
+import seedu.simply.commons.util.FileUtil;
+import seedu.simply.model.ReadOnlyTaskBook;
+import seedu.simply.model.TaskBook;
+import seedu.simply.model.tag.Tag;
+import seedu.simply.model.tag.UniqueTagList;
+import seedu.simply.model.task.Date;
+import seedu.simply.model.task.End;
+import seedu.simply.model.task.Name;
+import seedu.simply.model.task.ReadOnlyTask;
+import seedu.simply.model.task.Start;
+import seedu.simply.model.task.Task;
+
+/**
+ * A class to access TaskBook data stored in a compact binary file on the hard disk.
+ *
+ * The file starts with {@link #MAGIC} and a version byte. It is followed by a table of every
+ * string used in the file, and then by the tag list and the events, deadlines and todos, where
+ * every string is an index into the table and every number is a varint. Dates and times are
+ * stored as packed numbers, so loading them needs no parsing or validation of strings.
+ */
+public class BinaryTaskBookStorage implements TaskBookStorage {
+
+    /** The first bytes of every file in this format. */
+    public static final byte[] MAGIC = {'S', 'M', 'T', 'B'};
+    public static final int VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryTaskBookStorage.class);
+
+    /** Value of a date or time that is not set, e.g. "no date". */
+    private static final int NOT_SET = 0;
+    /** Values from here on are indexes into the string table, for dates and times not in the usual form. */
+    private static final int AS_STRING = 1 << 16;
+
+    private static final String NO_DATE = "no date";
+    private static final String NO_START = "no start";
+    private static final String NO_END = "no end";
+
+    private String filePath;
+
+    public BinaryTaskBookStorage(String filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if the given file exists and starts with {@link #MAGIC}.
+     */
+    public static boolean isBinaryFile(String filePath) {
+        File file = new File(filePath);
+        if (!file.isFile()) {
+            return false;
+        }
+        byte[] start = new byte[MAGIC.length];
+        try (InputStream in = new FileInputStream(file)) {
+            int read = 0;
+            while (read < start.length) {
+                int count = in.read(start, read, start.length - read);
+                if (count < 0) {
+                    return false;
+                }
+                read += count;
+            }
+        } catch (IOException e) {
+            return false;
+        }
+        return Arrays.equals(start, MAGIC);
+    }
+
+    @Override
+    public String getTaskBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook() throws DataConversionException, IOException {
+        return readTaskBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTaskBook()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook(String filePath) throws DataConversionException, IOException {
+        assert filePath != null;
+
+        File taskBookFile = new File(filePath);
+        if (!taskBookFile.exists()) {
+            logger.info("TaskBook file " + taskBookFile + " not found");
+            return Optional.empty();
+        }
+
+        try (InputStream in = new BufferedInputStream(new FileInputStream(taskBookFile))) {
+            return Optional.of(new Reader(in, taskBookFile.length()).readTaskBook());
+        } catch (EOFException | IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        saveTaskBook(taskBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTaskBook(ReadOnlyTaskBook)}
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook, String filePath) throws IOException {
+        assert taskBook != null;
+        assert filePath != null;
+
+        File file = new File(filePath);
+        FileUtil.createIfMissing(file);
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+            new Writer().write(taskBook, out);
+        }
+    }
+
+    //================ Writing ======================================================================
+
+    /** Writes one task book. The body is written to memory first, since the string table goes before it. */
+    private static class Writer {
+        private final Map<String, Integer> stringIndexes = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        void write(ReadOnlyTaskBook taskBook, OutputStream out) throws IOException {
+            List<Tag> tags = taskBook.getTagList();
+            writeVarint(body, tags.size());
+            for (Tag tag : tags) {
+                writeVarint(body, indexOf(tag.tagName));
+            }
+            writeTasks(taskBook.getEventList());
+            writeTasks(taskBook.getDeadlineList());
+            writeTasks(taskBook.getTodoList());
+
+            out.write(MAGIC);
+            out.write(VERSION);
+            writeVarint(out, strings.size());
+            for (String string : strings) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                writeVarint(out, bytes.length);
+                out.write(bytes);
+            }
+            body.writeTo(out);
+        }
+
+        private void writeTasks(List<ReadOnlyTask> tasks) throws IOException {
+            writeVarint(body, tasks.size());
+            for (ReadOnlyTask task : tasks) {
+                writeVarint(body, task.getId());
+                writeVarint(body, indexOf(task.getName().taskDetails));
+                writeVarint(body, packDate(task.getDate().value));
+                writeVarint(body, packTime(task.getStart().value, NO_START));
+                writeVarint(body, packTime(task.getEnd().value, NO_END));
+                writeVarint(body, task.getTaskCategory());
+                writeVarint(body, task.getOverdue());
+                body.write(task.getIsCompleted() ? 1 : 0);
+                Set<Tag> tags = task.getTags().toSet();
+                writeVarint(body, tags.size());
+                for (Tag tag : tags) {
+                    writeVarint(body, indexOf(tag.tagName));
+                }
+            }
+        }
+
+        private int indexOf(String string) {
+            Integer index = stringIndexes.get(string);
+            if (index == null) {
+                index = strings.size();
+                strings.add(string);
+                stringIndexes.put(string, index);
+            }
+            return index;
+        }
+
+        /** Packs a DD-MM-YY date as ((year * 16 + month) * 32 + day) + 1. */
+        private int packDate(String date) {
+            if (date.equals(NO_DATE)) {
+                return NOT_SET;
+            }
+            if (date.length() == 8 && date.charAt(2) == '-' && date.charAt(5) == '-'
+                    && isDigits(date, 0, 2) && isDigits(date, 3, 5) && isDigits(date, 6, 8)) {
+                int day = Integer.parseInt(date.substring(0, 2));
+                int month = Integer.parseInt(date.substring(3, 5));
+                int year = Integer.parseInt(date.substring(6, 8));
+                return ((year * 16 + month) * 32 + day) + 1;
+            }
+            return AS_STRING + indexOf(date);
+        }
+
+        /** Packs a HHMM time as its value + 1. */
+        private int packTime(String time, String notSet) {
+            if (time.equals(notSet)) {
+                return NOT_SET;
+            }
+            if (time.length() == 4 && isDigits(time, 0, 4)) {
+                return Integer.parseInt(time) + 1;
+            }
+            return AS_STRING + indexOf(time);
+        }
+
+        private static boolean isDigits(String string, int from, int to) {
+            for (int i = from; i < to; i++) {
+                if (!Character.isDigit(string.charAt(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static void writeVarint(OutputStream out, long value) throws IOException {
+        assert value >= 0;
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    //================ Reading ======================================================================
+
+    /** Reads one task book. */
+    private static class Reader {
+        private final InputStream in;
+        /** Bytes of the file not yet read, which bound every count in it as each counted item takes a byte. */
+        private long remaining;
+        private String[] strings;
+        /** Tags by string index, so that each tag name is only validated once. */
+        private Tag[] tags;
+        private Date noDate;
+        private Start noStart;
+        private End noEnd;
+
+        Reader(InputStream in, long length) {
+            this.in = in;
+            this.remaining = length;
+        }
+
+        TaskBook readTaskBook() throws IOException, IllegalValueException, DataConversionException {
+            byte[] magic = new byte[MAGIC.length];
+            readFully(magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new DataConversionException(new IOException("Not a binary task book file"));
+            }
+            int version = readByte();
+            if (version != VERSION) {
+                throw new DataConversionException(new IOException("Unsupported binary task book version " + version));
+            }
+            noDate = new Date(NO_DATE);
+            noStart = new Start(NO_START);
+            noEnd = new End(NO_END);
+
+            strings = new String[readCount()];
+            tags = new Tag[strings.length];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[readCount()];
+                readFully(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            final Set<Tag> tagList = new LinkedHashSet<>();
+            int tagCount = readCount();
+            for (int i = 0; i < tagCount; i++) {
+                tagList.add(readTag());
+            }
+            final Set<Long> usedIds = new HashSet<>();
+            TaskBook taskBook = new TaskBook();
+            taskBook.setEvents(readTasks(usedIds));
+            taskBook.setDeadlines(readTasks(usedIds));
+            taskBook.setTodo(readTasks(usedIds));
+            taskBook.setTags(tagList);
+            return taskBook;
+        }
+
+        private List<Task> readTasks(Set<Long> usedIds) throws IOException, IllegalValueException {
+            int count = readCount();
+            List<Task> tasks = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                long id = readVarint();
+                Name name = new Name(readString());
+                Date date = readDate();
+                Start start = readStart();
+                End end = readEnd();
+                int taskCategory = (int) readVarint();
+                int overdue = (int) readVarint();
+                boolean isCompleted = readByte() != 0;
+                int tagCount = readCount();
+                List<Tag> taskTags = new ArrayList<>();
+                for (int j = 0; j < tagCount; j++) {
+                    taskTags.add(readTag());
+                }
+                if (id != Task.NO_ID && !usedIds.add(id)) {
+                    id = Task.NO_ID;
+                }
+                Task task = new Task(id, name, date, start, end, taskCategory, overdue, isCompleted,
+                        new UniqueTagList(taskTags));
+                usedIds.add(task.getId());
+                tasks.add(task);
+            }
+            return tasks;
+        }
+
+        private Date readDate() throws IOException, IllegalValueException {
+            int packed = (int) readVarint();
+            if (packed == NOT_SET) {
+                return noDate;
+            }
+            if (packed >= AS_STRING) {
+                return new Date(stringAt(packed - AS_STRING));
+            }
+            packed--;
+            return Date.of(packed % 32, packed / 32 % 16, packed / 32 / 16);
+        }
+
+        private Start readStart() throws IOException, IllegalValueException {
+            int packed = (int) readVarint();
+            if (packed == NOT_SET) {
+                return noStart;
+            }
+            return packed >= AS_STRING ? new Start(stringAt(packed - AS_STRING)) : Start.of(packed - 1);
+        }
+
+        private End readEnd() throws IOException, IllegalValueException {
+            int packed = (int) readVarint();
+            if (packed == NOT_SET) {
+                return noEnd;
+            }
+            return packed >= AS_STRING ? new End(stringAt(packed - AS_STRING)) : End.of(packed - 1);
+        }
+
+        private Tag readTag() throws IOException, IllegalValueException {
+            int index = readIndex();
+            if (index >= tags.length) {
+                throw new IllegalValueException("Invalid string index " + index);
+            }
+            if (tags[index] == null) {
+                tags[index] = new Tag(strings[index]);
+            }
+            return tags[index];
+        }
+
+        private String readString() throws IOException, IllegalValueException {
+            return stringAt(readIndex());
+        }
+
+        private String stringAt(int index) throws IllegalValueException {
+            if (index < 0 || index >= strings.length) {
+                throw new IllegalValueException("Invalid string index " + index);
+            }
+            return strings[index];
+        }
+
+        /**
+         * Reads a varint that counts the items or bytes that follow it, and so cannot be more than the bytes left,
+         * before anything is sized from it.
+         */
+        private int readCount() throws IOException, IllegalValueException {
+            long value = readVarint();
+            if (value < 0 || value > remaining) {
+                throw new IllegalValueException("Invalid count " + value + " with " + remaining + " bytes left");
+            }
+            return (int) value;
+        }
+
+        /** Reads a varint that is used as an index into the strings. */
+        private int readIndex() throws IOException, IllegalValueException {
+            long value = readVarint();
+            if (value < 0 || value > Integer.MAX_VALUE) {
+                throw new IllegalValueException("Invalid string index " + value);
+            }
+            return (int) value;
+        }
+
+        private long readVarint() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Malformed varint");
+        }
+
+        private int readByte() throws IOException {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException();
+            }
+            remaining--;
+            return b;
+        }
+
+        private void readFully(byte[] bytes) throws IOException {
+            int read = 0;
+            while (read < bytes.length) {
+                int count = in.read(bytes, read, bytes.length - read);
+                if (count < 0) {
+                    throw new EOFException();
+                }
+                read += count;
+            }
+            remaining -= read;
+        }
+    }
+}
@@ -0,0 +1,612 @@
+package seedu.simply.storage;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.simply.commons.core.LogsCenter;
+import seedu.simply.commons.exceptions.DataConversionException;
+import seedu.simply.commons.exceptions.IllegalValueException;
+import seedu.simply.commons.util.FileUtil;
+import seedu.simply.model.ReadOnlyTaskBook;
+import seedu.simply.model.TaskBook;
+import seedu.simply.model.TaskBookChange;
+import seedu.simply.model.TaskBookChange.TagsChanged;
+import seedu.simply.model.TaskBookChange.TaskAdded;
+import seedu.simply.model.TaskBookChange.TaskRemoved;
+import seedu.simply.model.TaskBookChange.TaskUpdated;
+import seedu.simply.model.TaskBookSnapshot;
+import seedu.simply.model.tag.Tag;
+import seedu.simply.model.tag.UniqueTagList;
+import seedu.simply.model.task.Date;
+import seedu.simply.model.task.End;
+import seedu.simply.model.task.Name;
+import seedu.simply.model.task.ReadOnlyTask;
+import seedu.simply.model.task.Start;
+import seedu.simply.model.task.Task;
+
+/**
+ * A {@link TaskBookStorage} that keeps a full snapshot of the task book in the file of another
+ * storage, and appends each save to a journal next to it as only the tasks that changed since the
+ * previous save.
+ *
+ * Each save is one frame in the journal: its length, a checksum and the records in it. A record
+ * either puts a whole task by id, removes a task by id, or replaces the list of tags. Replaying a
+ * record twice gives the same result, so it does not matter if a journal is replayed over a
+ * snapshot that already contains it. A frame that was only partly written is dropped on reading.
+ * When consecutive saves are snapshots of the model, the tasks to write are taken from the changes
+ * the model made between them rather than found by comparing every task.
+ *
+ * Once the journal has too many records or bytes it is rolled over to a second file and folded
+ * into a fresh snapshot on a background thread. Reading loads the snapshot and replays the rolled
+ * over journal, if any, and then the current journal.
+ */
+public class JournaledTaskBookStorage implements TaskBookStorage {
+
+    public static final int DEFAULT_MAX_JOURNAL_RECORDS = 1000;
+    public static final long DEFAULT_MAX_JOURNAL_BYTES = 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledTaskBookStorage.class);
+
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String COMPACTING_SUFFIX = ".journal.compacting";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private static final byte PUT_TASK = 1;
+    private static final byte REMOVE_TASK = 2;
+    private static final byte SET_TAGS = 3;
+
+    /** Bytes before the records of a frame: the length of the records and their checksum. */
+    private static final int FRAME_HEADER_BYTES = Integer.BYTES + Long.BYTES;
+
+    private final TaskBookStorage snapshotStorage;
+    private final int maxJournalRecords;
+    private final long maxJournalBytes;
+    private final ExecutorService compactor;
+
+    /** Tasks by id as last written, or null if nothing has been read or written yet. */
+    private Map<Long, ReadOnlyTask> persistedTasks;
+    private List<Tag> persistedTags;
+    /** The snapshot of the model last written, if it was one, so later ones can write only what changed since. */
+    private TaskBookSnapshot persistedSnapshot;
+    private FileOutputStream journal;
+    private int journalRecords;
+    private long journalBytes;
+    private boolean isCompactionQueued;
+
+    /**
+     * @param snapshotStorage reads and writes the snapshot; its file path is used for this storage too.
+     */
+    public JournaledTaskBookStorage(TaskBookStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_MAX_JOURNAL_RECORDS, DEFAULT_MAX_JOURNAL_BYTES);
+    }
+
+    /**
+     * @param snapshotStorage reads and writes the snapshot; its file path is used for this storage too.
+     * @param maxJournalRecords number of records after which the journal is folded into the snapshot.
+     * @param maxJournalBytes size after which the journal is folded into the snapshot.
+     */
+    public JournaledTaskBookStorage(TaskBookStorage snapshotStorage, int maxJournalRecords, long maxJournalBytes) {
+        this.snapshotStorage = snapshotStorage;
+        this.maxJournalRecords = maxJournalRecords;
+        this.maxJournalBytes = maxJournalBytes;
+        this.compactor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "taskbook-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public String getTaskBookFilePath() {
+        return snapshotStorage.getTaskBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook() throws DataConversionException, IOException {
+        return readTaskBook(getTaskBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readTaskBook()}
+     * @param filePath location of the snapshot; its journals are next to it. Cannot be null
+     * @throws DataConversionException if the snapshot is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook(String filePath) throws DataConversionException, IOException {
+        assert filePath != null;
+
+        File compacting = new File(filePath + COMPACTING_SUFFIX);
+        File current = new File(filePath + JOURNAL_SUFFIX);
+        Optional<ReadOnlyTaskBook> snapshot = snapshotStorage.readTaskBook(filePath);
+        if (!snapshot.isPresent() && !compacting.exists() && !current.exists()) {
+            return Optional.empty();
+        }
+
+        Map<Long, ReadOnlyTask> tasks = new LinkedHashMap<>();
+        List<Tag> tags = new ArrayList<>();
+        if (snapshot.isPresent()) {
+            putAll(tasks, snapshot.get());
+            tags.addAll(snapshot.get().getTagList());
+        }
+        tags = replay(compacting, tasks, tags);
+        tags = replay(current, tasks, tags);
+        TaskBook taskBook = toTaskBook(tasks.values(), tags);
+
+        if (filePath.equals(getTaskBookFilePath())) {
+            synchronized (this) {
+                closeJournal();
+                persistedTasks = tasks;
+                persistedTags = tags;
+                persistedSnapshot = null;
+                journalRecords = 0;
+                journalBytes = current.length();
+            }
+        }
+        return Optional.of(taskBook);
+    }
+
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        saveTaskBook(taskBook, getTaskBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveTaskBook(ReadOnlyTaskBook)}.
+     * Only saves to this storage's own file are journaled; a save to any other file writes a full snapshot there.
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook, String filePath) throws IOException {
+        assert taskBook != null;
+        assert filePath != null;
+
+        if (!filePath.equals(getTaskBookFilePath())) {
+            snapshotStorage.saveTaskBook(taskBook, filePath);
+            return;
+        }
+
+        synchronized (this) {
+            if (persistedTasks == null) {
+                writeFullSnapshot(taskBook);
+                return;
+            }
+            appendChanges(taskBook);
+            if (!isCompactionQueued
+                    && (journalRecords >= maxJournalRecords || journalBytes >= maxJournalBytes)) {
+                isCompactionQueued = true;
+                compactor.submit(this::compactQuietly);
+            }
+        }
+    }
+
+    /**
+     * Folds every journal into the snapshot and waits until it is done, so that the snapshot file alone
+     * holds the whole task book.
+     */
+    public void compact() throws IOException {
+        try {
+            compactor.submit(() -> {
+                compactJournal();
+                return null;
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    //================ Writing ======================================================================
+
+    /** Writes the whole task book as the snapshot and starts an empty journal. */
+    private void writeFullSnapshot(ReadOnlyTaskBook taskBook) throws IOException {
+        closeJournal();
+        writeSnapshot(taskBook);
+        Files.deleteIfExists(compactingFile().toPath());
+        Files.deleteIfExists(journalFile().toPath());
+        persistedTasks = new LinkedHashMap<>();
+        putAll(persistedTasks, taskBook);
+        persistedTags = new ArrayList<>(taskBook.getTagList());
+        persistedSnapshot = snapshotOrNull(taskBook);
+        journalRecords = 0;
+        journalBytes = 0;
+    }
+
+    /**
+     * Appends the differences between the last written task book and the given one as one frame.
+     * If both are snapshots of the model, the differences are taken from the changes the model made between
+     * them; otherwise the two task books are compared task by task.
+     */
+    private void appendChanges(ReadOnlyTaskBook taskBook) throws IOException {
+        // the tasks that may have changed by id, with null for those removed
+        Map<Long, ReadOnlyTask> changedTasks = new LinkedHashMap<>();
+        List<Tag> tags = persistedTags;
+        Optional<List<TaskBookChange>> changes = taskBook instanceof TaskBookSnapshot && persistedSnapshot != null
+                ? ((TaskBookSnapshot) taskBook).changesSince(persistedSnapshot)
+                : Optional.empty();
+        if (changes.isPresent()) {
+            for (TaskBookChange change : changes.get()) {
+                if (change instanceof TaskAdded) {
+                    changedTasks.put(((TaskAdded) change).task.getId(), ((TaskAdded) change).task);
+                } else if (change instanceof TaskRemoved) {
+                    changedTasks.put(((TaskRemoved) change).task.getId(), null);
+                } else if (change instanceof TaskUpdated) {
+                    changedTasks.put(((TaskUpdated) change).after.getId(), ((TaskUpdated) change).after);
+                } else if (change instanceof TagsChanged) {
+                    tags = ((TagsChanged) change).after;
+                }
+            }
+        } else {
+            Map<Long, ReadOnlyTask> tasks = new LinkedHashMap<>();
+            putAll(tasks, taskBook);
+            changedTasks.putAll(tasks);
+            for (Long id : persistedTasks.keySet()) {
+                if (!tasks.containsKey(id)) {
+                    changedTasks.put(id, null);
+                }
+            }
+            tags = taskBook.getTagList();
+        }
+        tags = new ArrayList<>(tags);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream records = new DataOutputStream(bytes);
+        int recordCount = 0;
+        for (Map.Entry<Long, ReadOnlyTask> changed : changedTasks.entrySet()) {
+            ReadOnlyTask task = changed.getValue();
+            if (task == null && persistedTasks.containsKey(changed.getKey())) {
+                records.writeByte(REMOVE_TASK);
+                records.writeLong(changed.getKey());
+                recordCount++;
+            } else if (task != null && !isSameRecord(persistedTasks.get(task.getId()), task)) {
+                writePutTask(records, task);
+                recordCount++;
+            }
+        }
+        if (!tags.equals(persistedTags)) {
+            writeSetTags(records, tags);
+            recordCount++;
+        }
+        if (recordCount == 0) {
+            persistedSnapshot = snapshotOrNull(taskBook);
+            return;
+        }
+
+        byte[] payload = bytes.toByteArray();
+        CRC32 checksum = new CRC32();
+        checksum.update(payload);
+        ByteArrayOutputStream frame = new ByteArrayOutputStream(FRAME_HEADER_BYTES + payload.length);
+        DataOutputStream frameOut = new DataOutputStream(frame);
+        frameOut.writeInt(payload.length);
+        frameOut.writeLong(checksum.getValue());
+        frameOut.write(payload);
+
+        openJournal().write(frame.toByteArray());
+        journal.flush();
+        for (Map.Entry<Long, ReadOnlyTask> changed : changedTasks.entrySet()) {
+            if (changed.getValue() == null) {
+                persistedTasks.remove(changed.getKey());
+            } else {
+                persistedTasks.put(changed.getKey(), changed.getValue());
+            }
+        }
+        persistedTags = tags;
+        persistedSnapshot = snapshotOrNull(taskBook);
+        journalRecords += recordCount;
+        journalBytes += frame.size();
+    }
+
+    private static TaskBookSnapshot snapshotOrNull(ReadOnlyTaskBook taskBook) {
+        return taskBook instanceof TaskBookSnapshot ? (TaskBookSnapshot) taskBook : null;
+    }
+
+    private static boolean isSameRecord(ReadOnlyTask persisted, ReadOnlyTask task) {
+        return persisted != null
+                && persisted.getName().taskDetails.equals(task.getName().taskDetails)
+                && persisted.getDate().value.equals(task.getDate().value)
+                && persisted.getStart().value.equals(task.getStart().value)
+                && persisted.getEnd().value.equals(task.getEnd().value)
+                && persisted.getTaskCategory() == task.getTaskCategory()
+                && persisted.getOverdue() == task.getOverdue()
+                && persisted.getIsCompleted() == task.getIsCompleted()
+                && persisted.getTags().toSet().equals(task.getTags().toSet());
+    }
+
+    private static void writePutTask(DataOutputStream out, ReadOnlyTask task) throws IOException {
+        out.writeByte(PUT_TASK);
+        out.writeLong(task.getId());
+        out.writeUTF(task.getName().taskDetails);
+        out.writeUTF(task.getDate().value);
+        out.writeUTF(task.getStart().value);
+        out.writeUTF(task.getEnd().value);
+        out.writeByte(task.getTaskCategory());
+        out.writeByte(task.getOverdue());
+        out.writeBoolean(task.getIsCompleted());
+        Set<Tag> tags = task.getTags().toSet();
+        out.writeShort(tags.size());
+        for (Tag tag : tags) {
+            out.writeUTF(tag.tagName);
+        }
+    }
+
+    private static void writeSetTags(DataOutputStream out, List<Tag> tags) throws IOException {
+        out.writeByte(SET_TAGS);
+        out.writeShort(tags.size());
+        for (Tag tag : tags) {
+            out.writeUTF(tag.tagName);
+        }
+    }
+
+    private FileOutputStream openJournal() throws IOException {
+        if (journal == null) {
+            File file = journalFile();
+            FileUtil.createParentDirsOfFile(file);
+            journal = new FileOutputStream(file, true);
+        }
+        return journal;
+    }
+
+    private void closeJournal() throws IOException {
+        if (journal != null) {
+            journal.close();
+            journal = null;
+        }
+    }
+
+    //================ Compaction ===================================================================
+
+    private void compactQuietly() {
+        try {
+            compactJournal();
+        } catch (IOException e) {
+            logger.warning("Failed to fold the journal into the task book: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Rolls the current journal over to the compacting file, writes the task book as it stood at that
+     * point as the new snapshot and deletes the rolled over journal. Runs on the compactor thread only;
+     * saves go on to the new journal while the snapshot is written.
+     */
+    private void compactJournal() throws IOException {
+        TaskBook snapshot;
+        synchronized (this) {
+            isCompactionQueued = false;
+            File compacting = compactingFile();
+            File current = journalFile();
+            if (persistedTasks == null || (!current.exists() && !compacting.exists())) {
+                return;
+            }
+            closeJournal();
+            if (current.exists()) {
+                if (compacting.exists()) {
+                    // left over from a compaction that failed; it is still needed until a snapshot is written
+                    appendTo(compacting, current);
+                    Files.delete(current.toPath());
+                } else {
+                    Files.move(current.toPath(), compacting.toPath());
+                }
+            }
+            journalRecords = 0;
+            journalBytes = 0;
+            snapshot = toTaskBook(persistedTasks.values(), persistedTags);
+        }
+        writeSnapshot(snapshot);
+        Files.deleteIfExists(compactingFile().toPath());
+        logger.fine("Folded the journal into " + getTaskBookFilePath());
+    }
+
+    /** Writes the snapshot to a temporary file first and moves it in place, so a crash leaves the old one intact. */
+    private void writeSnapshot(ReadOnlyTaskBook taskBook) throws IOException {
+        File temp = new File(getTaskBookFilePath() + TEMP_SUFFIX);
+        snapshotStorage.saveTaskBook(taskBook, temp.getPath());
+        Path target = new File(getTaskBookFilePath()).toPath();
+        try {
+            Files.move(temp.toPath(), target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp.toPath(), target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void appendTo(File target, File source) throws IOException {
+        try (FileOutputStream out = new FileOutputStream(target, true)) {
+            Files.copy(source.toPath(), out);
+        }
+    }
+
+    /** Returns the journal files kept next to the task book file at the given path, whether they exist or not. */
+    public static List<Path> journalPathsOf(Path taskBookFilePath) {
+        return Arrays.asList(Paths.get(taskBookFilePath + JOURNAL_SUFFIX),
+                Paths.get(taskBookFilePath + COMPACTING_SUFFIX));
+    }
+
+    private File journalFile() {
+        return new File(getTaskBookFilePath() + JOURNAL_SUFFIX);
+    }
+
+    private File compactingFile() {
+        return new File(getTaskBookFilePath() + COMPACTING_SUFFIX);
+    }
+
+    //================ Reading ======================================================================
+
+    /**
+     * Applies the frames of the given journal to {@code tasks} and returns the resulting list of tags.
+     * Reading stops at the first frame that is incomplete or does not match its checksum; the file is
+     * cut back to the end of the last good frame so that later frames are appended after it.
+     */
+    private List<Tag> replay(File file, Map<Long, ReadOnlyTask> tasks, List<Tag> tags) throws IOException {
+        if (!file.exists()) {
+            return tags;
+        }
+        long validLength = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            while (true) {
+                int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+                byte[] payload;
+                try {
+                    long expectedChecksum = in.readLong();
+                    if (length < 0 || length > file.length()) {
+                        throw new EOFException();
+                    }
+                    payload = new byte[length];
+                    in.readFully(payload);
+                    CRC32 checksum = new CRC32();
+                    checksum.update(payload);
+                    if (checksum.getValue() != expectedChecksum) {
+                        throw new EOFException();
+                    }
+                } catch (EOFException e) {
+                    logger.warning("Dropping an incomplete entry at the end of " + file);
+                    break;
+                }
+                tags = applyFrame(payload, tasks, tags);
+                validLength += FRAME_HEADER_BYTES + length;
+            }
+        }
+        if (validLength < file.length()) {
+            try (RandomAccessFile truncated = new RandomAccessFile(file, "rw")) {
+                truncated.setLength(validLength);
+            }
+        }
+        return tags;
+    }
+
+    private List<Tag> applyFrame(byte[] payload, Map<Long, ReadOnlyTask> tasks, List<Tag> tags)
+            throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        while (in.available() > 0) {
+            byte type = in.readByte();
+            switch (type) {
+            case PUT_TASK:
+                Task task = readTask(in);
+                if (task != null) {
+                    tasks.put(task.getId(), task);
+                }
+                break;
+            case REMOVE_TASK:
+                tasks.remove(in.readLong());
+                break;
+            case SET_TAGS:
+                tags = readTags(in);
+                break;
+            default:
+                throw new IOException("Unknown journal record type " + type);
+            }
+        }
+        return tags;
+    }
+
+    /** Reads a task record, or returns null, after logging, if it has invalid values. */
+    private static Task readTask(DataInputStream in) throws IOException {
+        long id = in.readLong();
+        String name = in.readUTF();
+        String date = in.readUTF();
+        String start = in.readUTF();
+        String end = in.readUTF();
+        int taskCategory = in.readByte();
+        int overdue = in.readByte();
+        boolean isCompleted = in.readBoolean();
+        int tagCount = in.readUnsignedShort();
+        List<String> tagNames = new ArrayList<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            tagNames.add(in.readUTF());
+        }
+        try {
+            List<Tag> tags = new ArrayList<>();
+            for (String tagName : tagNames) {
+                tags.add(new Tag(tagName));
+            }
+            return new Task(id, new Name(name), new Date(date), new Start(start), new End(end), taskCategory,
+                    overdue, isCompleted, new UniqueTagList(tags));
+        } catch (IllegalValueException e) {
+            logger.warning("Skipping invalid journal record " + name + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static List<Tag> readTags(DataInputStream in) throws IOException {
+        int count = in.readUnsignedShort();
+        List<Tag> tags = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String tagName = in.readUTF();
+            try {
+                tags.add(new Tag(tagName));
+            } catch (IllegalValueException e) {
+                logger.warning("Skipping invalid tag " + tagName);
+            }
+        }
+        return tags;
+    }
+
+    //================ Conversion ===================================================================
+
+    private static void putAll(Map<Long, ReadOnlyTask> tasks, ReadOnlyTaskBook taskBook) {
+        for (ReadOnlyTask task : taskBook.getEventList()) {
+            tasks.put(task.getId(), task);
+        }
+        for (ReadOnlyTask task : taskBook.getDeadlineList()) {
+            tasks.put(task.getId(), task);
+        }
+        for (ReadOnlyTask task : taskBook.getTodoList()) {
+            tasks.put(task.getId(), task);
+        }
+    }
+
+    private static TaskBook toTaskBook(Iterable<ReadOnlyTask> tasks, List<Tag> tags) {
+        final List<Task> events = new ArrayList<>();
+        final List<Task> deadlines = new ArrayList<>();
+        final List<Task> todos = new ArrayList<>();
+        for (ReadOnlyTask task : tasks) {
+            Task copy = new Task(task);
+            if (task.getTaskCategory() == 1) {
+                events.add(copy);
+            } else if (task.getTaskCategory() == 2) {
+                deadlines.add(copy);
+            } else {
+                todos.add(copy);
+            }
+        }
+        TaskBook taskBook = new TaskBook();
+        taskBook.setEvents(events);
+        taskBook.setDeadlines(deadlines);
+        taskBook.setTodo(todos);
+        taskBook.setTags(new LinkedHashSet<>(tags));
+        return taskBook;
+    }
+}
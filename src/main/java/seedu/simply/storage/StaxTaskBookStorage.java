@@ -0,0 +1,365 @@
+package seedu.simply.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import seedu.simply.commons.core.LogsCenter;
+import seedu.simply.commons.exceptions.DataConversionException;
+import seedu.simply.commons.exceptions.IllegalValueException;
+import seedu.simply.commons.util.FileUtil;
+import seedu.simply.model.ReadOnlyTaskBook;
+import seedu.simply.model.TaskBook;
+import seedu.simply.model.tag.Tag;
+import seedu.simply.model.tag.UniqueTagList;
+import seedu.simply.model.task.Date;
+import seedu.simply.model.task.End;
+import seedu.simply.model.task.Name;
+import seedu.simply.model.task.ReadOnlyTask;
+import seedu.simply.model.task.Start;
+import seedu.simply.model.task.Task;
+
+/**
+ * A class to access TaskBook data stored as an xml file on the hard disk, using the same format as
+ * {@link XmlTaskBookStorage}.
+ *
+ * The file is read and written with StAX one record at a time: tasks are read straight into model
+ * {@link Task}s and written straight from them, without building a JAXB object for the whole book.
+ */
+public class StaxTaskBookStorage implements TaskBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(StaxTaskBookStorage.class);
+
+    private static final String ROOT = "taskbook";
+    private static final String EVENTS = "events";
+    private static final String DEADLINES = "deadlines";
+    private static final String TODOS = "todos";
+    private static final String TAGS = "tags";
+    private static final String TAG_NAME = "tagName";
+    private static final String ID = "id";
+    private static final String NAME = "name";
+    private static final String DATE = "date";
+    private static final String START = "start";
+    private static final String END = "end";
+    private static final String TASK_CATEGORY = "taskCat";
+    private static final String OVERDUE = "overdue";
+    private static final String IS_COMPLETED = "isCompleted";
+    private static final String TAGGED = "tagged";
+
+    /** Line breaks followed by the indentation for each nesting depth. */
+    private static final String[] NEW_LINE_AND_INDENT = {"\n", "\n    ", "\n        "};
+
+    private static final XMLInputFactory inputFactory = XMLInputFactory.newInstance();
+    private static final XMLOutputFactory outputFactory = XMLOutputFactory.newInstance();
+
+    static {
+        inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    private String filePath;
+
+    public StaxTaskBookStorage(String filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public String getTaskBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook() throws DataConversionException, IOException {
+        return readTaskBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTaskBook()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook(String filePath) throws DataConversionException, IOException {
+        assert filePath != null;
+
+        File taskBookFile = new File(filePath);
+        if (!taskBookFile.exists()) {
+            logger.info("TaskBook file " + taskBookFile + " not found");
+            return Optional.empty();
+        }
+
+        try (InputStream in = new BufferedInputStream(new FileInputStream(taskBookFile))) {
+            XMLStreamReader reader = inputFactory.createXMLStreamReader(in);
+            try {
+                return Optional.of(readTaskBook(reader));
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        saveTaskBook(taskBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTaskBook(ReadOnlyTaskBook)}
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook, String filePath) throws IOException {
+        assert taskBook != null;
+        assert filePath != null;
+
+        File file = new File(filePath);
+        FileUtil.createIfMissing(file);
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file),
+                StandardCharsets.UTF_8))) {
+            XMLStreamWriter writer = outputFactory.createXMLStreamWriter(out);
+            try {
+                writeTaskBook(writer, taskBook);
+            } finally {
+                writer.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    //================ Reading ======================================================================
+
+    private TaskBook readTaskBook(XMLStreamReader reader) throws XMLStreamException {
+        reader.nextTag();
+        reader.require(XMLStreamConstants.START_ELEMENT, null, ROOT);
+
+        final List<Task> events = new ArrayList<>();
+        final List<Task> deadlines = new ArrayList<>();
+        final List<Task> todos = new ArrayList<>();
+        final Set<Tag> tags = new LinkedHashSet<>();
+        final Set<Long> usedIds = new HashSet<>();
+
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case EVENTS:
+                addIfValid(events, readTask(reader, usedIds));
+                break;
+            case DEADLINES:
+                addIfValid(deadlines, readTask(reader, usedIds));
+                break;
+            case TODOS:
+                addIfValid(todos, readTask(reader, usedIds));
+                break;
+            case TAGS:
+                Tag tag = readTag(reader);
+                if (tag != null) {
+                    tags.add(tag);
+                }
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+
+        TaskBook taskBook = new TaskBook();
+        taskBook.setEvents(events);
+        taskBook.setDeadlines(deadlines);
+        taskBook.setTodo(todos);
+        taskBook.setTags(tags);
+        return taskBook;
+    }
+
+    private static void addIfValid(List<Task> tasks, Task task) {
+        if (task != null) {
+            tasks.add(task);
+        }
+    }
+
+    /**
+     * Reads one task record. Returns null, after logging, if the record has invalid values.
+     * Ids already in {@code usedIds} are replaced by fresh ones.
+     */
+    private Task readTask(XMLStreamReader reader, Set<Long> usedIds) throws XMLStreamException {
+        long id = Task.NO_ID;
+        String name = null;
+        String date = null;
+        String start = null;
+        String end = null;
+        int taskCategory = 0;
+        int overdue = 0;
+        boolean isCompleted = false;
+        final List<String> tagNames = new ArrayList<>();
+
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            String element = reader.getLocalName();
+            String text = reader.getElementText().trim();
+            try {
+                switch (element) {
+                case ID:
+                    id = Long.parseLong(text);
+                    break;
+                case NAME:
+                    name = text;
+                    break;
+                case DATE:
+                    date = text;
+                    break;
+                case START:
+                    start = text;
+                    break;
+                case END:
+                    end = text;
+                    break;
+                case TASK_CATEGORY:
+                    taskCategory = Integer.parseInt(text);
+                    break;
+                case OVERDUE:
+                    overdue = Integer.parseInt(text);
+                    break;
+                case IS_COMPLETED:
+                    isCompleted = Boolean.parseBoolean(text);
+                    break;
+                case TAGGED:
+                    tagNames.add(text);
+                    break;
+                default:
+                    break;
+                }
+            } catch (NumberFormatException e) {
+                throw new XMLStreamException("Invalid number in <" + element + ">: " + text, reader.getLocation());
+            }
+        }
+
+        if (name == null || date == null || start == null || end == null) {
+            logger.warning("Skipping incomplete task record " + name);
+            return null;
+        }
+        if (id != Task.NO_ID && !usedIds.add(id)) {
+            id = Task.NO_ID;
+        }
+        try {
+            final List<Tag> tags = new ArrayList<>();
+            for (String tagName : tagNames) {
+                tags.add(new Tag(tagName));
+            }
+            Task task = new Task(id, new Name(name), new Date(date), new Start(start), new End(end),
+                    taskCategory, overdue, isCompleted, new UniqueTagList(tags));
+            usedIds.add(task.getId());
+            return task;
+        } catch (IllegalValueException e) {
+            logger.warning("Skipping invalid task record " + name + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private Tag readTag(XMLStreamReader reader) throws XMLStreamException {
+        String tagName = null;
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            if (TAG_NAME.equals(reader.getLocalName())) {
+                tagName = reader.getElementText().trim();
+            } else {
+                skipElement(reader);
+            }
+        }
+        try {
+            return tagName == null ? null : new Tag(tagName);
+        } catch (IllegalValueException e) {
+            logger.warning("Skipping invalid tag " + tagName);
+            return null;
+        }
+    }
+
+    /** Skips the element the reader is at, including everything in it. */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    //================ Writing ======================================================================
+
+    private void writeTaskBook(XMLStreamWriter writer, ReadOnlyTaskBook taskBook) throws XMLStreamException {
+        writer.writeStartDocument("UTF-8", "1.0");
+        writer.writeCharacters("\n");
+        writer.writeStartElement(ROOT);
+        for (ReadOnlyTask task : taskBook.getEventList()) {
+            writeTask(writer, EVENTS, task);
+        }
+        for (ReadOnlyTask task : taskBook.getDeadlineList()) {
+            writeTask(writer, DEADLINES, task);
+        }
+        for (ReadOnlyTask task : taskBook.getTodoList()) {
+            writeTask(writer, TODOS, task);
+        }
+        for (Tag tag : taskBook.getTagList()) {
+            writeIndent(writer, 1);
+            writer.writeStartElement(TAGS);
+            writeValue(writer, 2, TAG_NAME, tag.tagName);
+            writeIndent(writer, 1);
+            writer.writeEndElement();
+        }
+        writer.writeCharacters("\n");
+        writer.writeEndElement();
+        writer.writeCharacters("\n");
+        writer.writeEndDocument();
+    }
+
+    private void writeTask(XMLStreamWriter writer, String section, ReadOnlyTask task) throws XMLStreamException {
+        writeIndent(writer, 1);
+        writer.writeStartElement(section);
+        writeValue(writer, 2, ID, String.valueOf(task.getId()));
+        writeValue(writer, 2, NAME, task.getName().taskDetails);
+        writeValue(writer, 2, DATE, task.getDate().value);
+        writeValue(writer, 2, START, task.getStart().value);
+        writeValue(writer, 2, END, task.getEnd().value);
+        writeValue(writer, 2, TASK_CATEGORY, String.valueOf(task.getTaskCategory()));
+        writeValue(writer, 2, OVERDUE, String.valueOf(task.getOverdue()));
+        writeValue(writer, 2, IS_COMPLETED, String.valueOf(task.getIsCompleted()));
+        for (Tag tag : task.getTags()) {
+            writeValue(writer, 2, TAGGED, tag.tagName);
+        }
+        writeIndent(writer, 1);
+        writer.writeEndElement();
+    }
+
+    private static void writeValue(XMLStreamWriter writer, int depth, String element, String value)
+            throws XMLStreamException {
+        writeIndent(writer, depth);
+        writer.writeStartElement(element);
+        writer.writeCharacters(value);
+        writer.writeEndElement();
+    }
+
+    private static void writeIndent(XMLStreamWriter writer, int depth) throws XMLStreamException {
+        writer.writeCharacters(NEW_LINE_AND_INDENT[depth]);
+    }
+}
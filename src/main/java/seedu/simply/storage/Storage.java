@@ -31,9 +31,25 @@ public interface Storage extends TaskBookStorage, UserPrefsStorage {
     void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException;
 
     /**
-     * Saves the current version of the Task Book to the hard disk.
+     * Queues the current version of the Task Book to be saved to the hard disk in the background.
      *   Creates the data file if it is missing.
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleTaskBookChangedEvent(TaskBookChangedEvent abce);
+
+    /**
+     * Saves any queued version of the Task Book now and waits until it is written.
+     * If changes are journaled, the journal is also folded into the data file.
+     */
+    void flush();
+
+    /** Starts saving the changes handed to {@link #handleTaskBookChangedEvent} in the background. */
+    void start();
+
+    /**
+     * Saves and flushes any queued version of the Task Book, then stops saving in the background.
+     * @throws IOException if the latest version could not be saved or the journal could not be folded into
+     *             the data file, so the data file alone does not hold it.
+     */
+    void stop() throws IOException;
 }
@@ -3,6 +3,9 @@ package seedu.simply.storage;
 import com.google.common.eventbus.Subscribe;
 
 import seedu.simply.commons.core.ComponentManager;
+import seedu.simply.commons.core.Config;
+import seedu.simply.commons.core.DispatchOn;
+import seedu.simply.commons.core.DispatchOn.Policy;
 import seedu.simply.commons.core.LogsCenter;
 import seedu.simply.commons.events.model.TaskBookChangedEvent;
 import seedu.simply.commons.events.storage.DataSavingExceptionEvent;
@@ -17,22 +20,45 @@ import java.util.logging.Logger;
 
 /**
  * Manages storage of TaskBook data in local storage.
+ * Changes to the task book are saved in the background by a {@link WriteBehindSaver}, which runs from
+ * {@link #start()} until {@link #stop()}.
  */
 public class StorageManager extends ComponentManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
+
     private TaskBookStorage taskBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private final WriteBehindSaver saver;
 
 
-    public StorageManager(TaskBookStorage taskBookStorage, UserPrefsStorage userPrefsStorage) {
+    public StorageManager(TaskBookStorage taskBookStorage, UserPrefsStorage userPrefsStorage,
+            long saveDebounceMillis, long saveMaxLatencyMillis) {
         super();
         this.taskBookStorage = taskBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.saver = new WriteBehindSaver(this::saveTaskBook, e -> raise(new DataSavingExceptionEvent(e)),
+                saveDebounceMillis, saveMaxLatencyMillis);
+    }
+
+    public StorageManager(TaskBookStorage taskBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(taskBookStorage, userPrefsStorage, Config.DEFAULT_SAVE_DEBOUNCE_MILLIS, Config.DEFAULT_SAVE_MAX_LATENCY_MILLIS);
     }
 
     public StorageManager(String taskBookFilePath, String userPrefsFilePath) {
-        this(new XmlTaskBookStorage(taskBookFilePath), new JsonUserPrefsStorage(userPrefsFilePath));
+        this(detectTaskBookStorage(taskBookFilePath), new JsonUserPrefsStorage(userPrefsFilePath));
+    }
+
+    /**
+     * Returns a storage for the task book file at the given path, in the format the file is already in:
+     * binary if it starts with {@link BinaryTaskBookStorage#MAGIC}, xml otherwise or if there is no file yet.
+     */
+    public static TaskBookStorage detectTaskBookStorage(String taskBookFilePath) {
+        if (BinaryTaskBookStorage.isBinaryFile(taskBookFilePath)) {
+            logger.info("Task book file " + taskBookFilePath + " is in binary format");
+            return new BinaryTaskBookStorage(taskBookFilePath);
+        }
+        return new StaxTaskBookStorage(taskBookFilePath);
     }
 
     // ================ UserPrefs methods ==============================
@@ -78,15 +104,38 @@ public class StorageManager extends ComponentManager implements Storage {
     }
 
 
+    @Override
+    public void start() {
+        saver.start();
+    }
+
+    @Override
+    public void stop() throws IOException {
+        saver.stop();
+        if (taskBookStorage instanceof JournaledTaskBookStorage) {
+            ((JournaledTaskBookStorage) taskBookStorage).compact();
+        }
+    }
+
+    @Override
+    public void flush() {
+        saver.flush();
+        if (taskBookStorage instanceof JournaledTaskBookStorage) {
+            try {
+                ((JournaledTaskBookStorage) taskBookStorage).compact();
+            } catch (IOException e) {
+                logger.warning("Failed to fold the journal into the data file: " + e.getMessage());
+                raise(new DataSavingExceptionEvent(e));
+            }
+        }
+    }
+
     @Override
     @Subscribe
+    @DispatchOn(Policy.BACKGROUND)
     public void handleTaskBookChangedEvent(TaskBookChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-        try {
-            saveTaskBook(event.data);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
-        }
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event, "Local data changed, queueing save to file"));
+        saver.submit(event.data);
     }
 
 }
@@ -0,0 +1,60 @@
+package seedu.simply.storage;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import seedu.simply.commons.exceptions.DataConversionException;
+import seedu.simply.model.ReadOnlyTaskBook;
+
+/**
+ * Converts a task book file between the xml and the binary format.
+ *
+ * Usage: {@code TaskBookConverter xml|binary SOURCE TARGET}. The format of the source file is detected
+ * from its first bytes; the target file is written in the given format.
+ */
+public class TaskBookConverter {
+
+    public static final String MESSAGE_USAGE = "Usage: TaskBookConverter xml|binary SOURCE TARGET";
+
+    public static void main(String[] args) {
+        if (args.length != 3) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+        try {
+            convert(args[1], args[2], args[0]);
+            System.out.println("Converted " + args[1] + " to " + args[0] + " format in " + args[2]);
+        } catch (IllegalArgumentException | DataConversionException | IOException e) {
+            System.err.println("Conversion failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Reads the task book at {@code sourcePath}, in whichever format it is in, and writes it to
+     * {@code targetPath} in the given format.
+     * @param format "xml" or "binary".
+     * @throws IllegalArgumentException if the format is unknown.
+     * @throws IOException if the source file does not exist or either file cannot be accessed.
+     */
+    public static void convert(String sourcePath, String targetPath, String format)
+            throws DataConversionException, IOException {
+        TaskBookStorage target = storageFor(format, targetPath);
+        Optional<ReadOnlyTaskBook> taskBook = StorageManager.detectTaskBookStorage(sourcePath).readTaskBook();
+        if (!taskBook.isPresent()) {
+            throw new IOException("No task book file at " + sourcePath);
+        }
+        target.saveTaskBook(taskBook.get());
+    }
+
+    private static TaskBookStorage storageFor(String format, String filePath) {
+        switch (format) {
+        case "xml":
+            return new StaxTaskBookStorage(filePath);
+        case "binary":
+            return new BinaryTaskBookStorage(filePath);
+        default:
+            throw new IllegalArgumentException("Unknown format " + format + ". " + MESSAGE_USAGE);
+        }
+    }
+}
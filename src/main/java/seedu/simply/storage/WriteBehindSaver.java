@@ -0,0 +1,245 @@
+package seedu.simply.storage;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.simply.commons.core.LogsCenter;
+import seedu.simply.model.ReadOnlyTaskBook;
+
+/**
+ * Saves the task book on a background writer thread, off the command path.
+ *
+ * Each submitted snapshot marks the task book dirty. The writer waits until no new snapshot has
+ * arrived for the debounce window, or until the oldest unsaved change has waited for the maximum
+ * latency, and then writes only the latest snapshot, so a burst of changes becomes one write.
+ * {@link #flush()} writes any pending snapshot immediately and waits for it.
+ *
+ * The writer thread runs from {@link #start()} until {@link #stop()}. Until it is started, snapshots are only
+ * written when flushed, on the flushing thread.
+ */
+public class WriteBehindSaver {
+
+    /** Writes one snapshot to disk. */
+    @FunctionalInterface
+    public interface Writer {
+        void write(ReadOnlyTaskBook snapshot) throws IOException;
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private final Writer writer;
+    private final Consumer<IOException> onFailure;
+    private final long debounceNanos;
+    private final long maxLatencyNanos;
+
+    private ReadOnlyTaskBook pending;
+    private boolean isDirty;
+    private long firstChangeAt;
+    private long lastChangeAt;
+    private boolean isFlushRequested;
+    /** Number of snapshots submitted so far. */
+    private long submitted;
+    /** Number of submitted snapshots that have been written, or superseded by a written one. */
+    private long written;
+    private Thread writerThread;
+    private boolean isStopping;
+    /** Why the last write failed, or null if it succeeded. */
+    private IOException lastFailure;
+
+    /**
+     * @param writer writes a snapshot to disk; only ever called from the writer thread.
+     * @param onFailure called on the writing thread when a write fails, except once stopping, when
+     *                  {@link #stop()} throws instead.
+     * @param debounceMillis how long to wait for further changes before writing.
+     * @param maxLatencyMillis the longest a change may wait to be written while changes keep coming.
+     */
+    public WriteBehindSaver(Writer writer, Consumer<IOException> onFailure, long debounceMillis,
+            long maxLatencyMillis) {
+        assert debounceMillis >= 0 && maxLatencyMillis >= debounceMillis;
+        this.writer = writer;
+        this.onFailure = onFailure;
+        this.debounceNanos = TimeUnit.MILLISECONDS.toNanos(debounceMillis);
+        this.maxLatencyNanos = TimeUnit.MILLISECONDS.toNanos(maxLatencyMillis);
+    }
+
+    /** Starts the writer thread. Does nothing if it is already running. */
+    public synchronized void start() {
+        if (writerThread != null) {
+            return;
+        }
+        isStopping = false;
+        writerThread = new Thread(this::runWriter, "taskbook-saver");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Writes the latest snapshot if it has not been written yet, and stops the writer thread once it has.
+     * @throws IOException if the last write failed, so the latest snapshot is not on disk.
+     */
+    public void stop() throws IOException {
+        Thread stopping;
+        synchronized (this) {
+            stopping = writerThread;
+            isStopping = true;
+            notifyAll();
+        }
+        if (stopping != null) {
+            joinWriter(stopping);
+        }
+        flush();
+        synchronized (this) {
+            if (lastFailure != null) {
+                throw lastFailure;
+            }
+        }
+    }
+
+    private void joinWriter(Thread stopping) {
+        boolean isInterrupted = false;
+        while (stopping.isAlive()) {
+            try {
+                stopping.join();
+            } catch (InterruptedException e) {
+                isInterrupted = true;
+            }
+        }
+        synchronized (this) {
+            writerThread = null;
+        }
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Marks the task book dirty with {@code snapshot} as the latest state to save.
+     * The snapshot must not be changed afterwards.
+     */
+    public synchronized void submit(ReadOnlyTaskBook snapshot) {
+        long now = System.nanoTime();
+        if (!isDirty) {
+            firstChangeAt = now;
+        }
+        lastChangeAt = now;
+        pending = snapshot;
+        isDirty = true;
+        submitted++;
+        notifyAll();
+    }
+
+    /**
+     * Writes the latest snapshot now if it has not been written yet, and waits until it has.
+     */
+    public void flush() {
+        ReadOnlyTaskBook snapshot;
+        long version;
+        synchronized (this) {
+            if (writerThread != null && !isStopping) {
+                awaitWritten(submitted);
+                return;
+            }
+            if (!isDirty) {
+                return;
+            }
+            snapshot = takePending();
+            version = submitted;
+        }
+        write(snapshot, version);
+    }
+
+    /** Asks the writer thread to write now, and waits, holding the lock, until it has written {@code target}. */
+    private void awaitWritten(long target) {
+        isFlushRequested = true;
+        notifyAll();
+        boolean isInterrupted = false;
+        while (written < target) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                isInterrupted = true;
+            }
+        }
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private ReadOnlyTaskBook takePending() {
+        ReadOnlyTaskBook snapshot = pending;
+        pending = null;
+        isDirty = false;
+        isFlushRequested = false;
+        return snapshot;
+    }
+
+    private void runWriter() {
+        while (true) {
+            ReadOnlyTaskBook snapshot;
+            long version;
+            synchronized (this) {
+                try {
+                    if (!waitUntilDue()) {
+                        return;
+                    }
+                } catch (InterruptedException e) {
+                    return;
+                }
+                snapshot = takePending();
+                version = submitted;
+            }
+            write(snapshot, version);
+        }
+    }
+
+    /** Writes a snapshot, then marks every snapshot submitted up to {@code version} as written. */
+    private void write(ReadOnlyTaskBook snapshot, long version) {
+        IOException failure = null;
+        try {
+            writer.write(snapshot);
+        } catch (IOException e) {
+            logger.warning("Failed to save task book: " + e.getMessage());
+            failure = e;
+            if (!isStopping()) {
+                onFailure.accept(e);
+            }
+        }
+        synchronized (this) {
+            lastFailure = failure;
+            written = Math.max(written, version);
+            notifyAll();
+        }
+    }
+
+    private synchronized boolean isStopping() {
+        return isStopping;
+    }
+
+    /**
+     * Waits, holding the lock, until the pending snapshot should be written.
+     * @return false if the saver is stopping and nothing is left to write.
+     */
+    private boolean waitUntilDue() throws InterruptedException {
+        while (true) {
+            if (!isDirty) {
+                isFlushRequested = false;
+                if (isStopping) {
+                    return false;
+                }
+                wait();
+                continue;
+            }
+            if (isFlushRequested || isStopping) {
+                return true;
+            }
+            long dueAt = Math.min(lastChangeAt + debounceNanos, firstChangeAt + maxLatencyNanos);
+            long remaining = dueAt - System.nanoTime();
+            if (remaining <= 0) {
+                return true;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+    }
+}
@@ -14,6 +14,9 @@ import java.util.List;
  */
 public class XmlAdaptedTask {
 
+    /** Missing from files written before tasks had ids; such tasks get a fresh id when loaded. */
+    @XmlElement
+    private long id;
     @XmlElement(required = true)
     private String name;
     @XmlElement(required = true)
@@ -43,6 +46,7 @@ public class XmlAdaptedTask {
      * @param source future changes to this will not affect the created XmlAdaptedTask
      */
     public XmlAdaptedTask(ReadOnlyTask source) {
+        id = source.getId();
         name = source.getName().taskDetails;
         date = source.getDate().value;
         start = source.getStart().value;
@@ -75,6 +79,6 @@ public class XmlAdaptedTask {
         final int overdue = this.overdue;
         final boolean isCompleted = this.isCompleted;
         final UniqueTagList tags = new UniqueTagList(taskTags);
-        return new Task(name, date, start, end, taskCat, overdue, isCompleted, tags);
+        return new Task(id, name, date, start, end, taskCat, overdue, isCompleted, tags);
     }
 }
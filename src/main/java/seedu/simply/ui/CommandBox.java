@@ -1,6 +1,8 @@
 package seedu.simply.ui;
 
 import com.google.common.eventbus.Subscribe;
+
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.Node;
 import javafx.scene.control.SplitPane;
@@ -8,8 +10,10 @@ import javafx.scene.control.TextField;
 import javafx.scene.layout.AnchorPane;
 import javafx.stage.Stage;
 import seedu.simply.commons.core.LogsCenter;
+import seedu.simply.commons.core.Messages;
 import seedu.simply.commons.events.ui.IncorrectCommandAttemptedEvent;
 import seedu.simply.commons.util.FxViewUtil;
+import seedu.simply.logic.CommandExecutor;
 import seedu.simply.logic.Logic;
 import seedu.simply.logic.commands.*;
 
@@ -18,13 +22,15 @@ import java.util.logging.Logger;
 public class CommandBox extends UiPart {
     private final Logger logger = LogsCenter.getLogger(CommandBox.class);
     private static final String FXML = "CommandBox.fxml";
+    /** How long closing the app waits for the commands already entered to be run. */
+    private static final long STOP_TIMEOUT_MILLIS = 10000;
 
     private AnchorPane placeHolderPane;
     private AnchorPane commandPane;
     private ResultDisplay resultDisplay;
     String previousCommandTest;
 
-    private Logic logic;
+    private CommandExecutor commandExecutor;
 
     @FXML
     private TextField commandTextField;
@@ -40,10 +46,19 @@ public class CommandBox extends UiPart {
 
     public void configure(ResultDisplay resultDisplay, Logic logic) {
         this.resultDisplay = resultDisplay;
-        this.logic = logic;
+        this.commandExecutor = new CommandExecutor(logic, Platform::runLater);
         registerAsAnEventHandler(this);
     }
 
+    /**
+     * Stops taking commands, waiting a while for those already entered to be run.
+     */
+    public void stop() {
+        if (!commandExecutor.stop(STOP_TIMEOUT_MILLIS)) {
+            logger.warning("Closing before all the commands entered were run");
+        }
+    }
+
     private void addToPlaceholder() {
         SplitPane.setResizableWithParent(placeHolderPane, false);
         placeHolderPane.getChildren().add(commandTextField);
@@ -67,6 +82,11 @@ public class CommandBox extends UiPart {
     }
 
 
+    /**
+     * Hands the command entered to the command executor, which runs it off the JavaFX application thread
+     * and posts the result back to it. If earlier commands are still queued up, the command is left in the
+     * box to be entered again.
+     */
     @FXML
     private void handleCommandInputChanged() {
         //Take a copy of the command text
@@ -75,13 +95,19 @@ public class CommandBox extends UiPart {
         /* We assume the command is correct. If it is incorrect, the command box will be changed accordingly
          * in the event handling code {@link #handleIncorrectCommandAttempted}
          */
+        if (!commandExecutor.submit(previousCommandTest, this::showResult)) {
+            resultDisplay.postMessage(Messages.MESSAGE_COMMANDS_BUSY);
+            return;
+        }
         setStyleToIndicateCorrectCommand();
-        mostRecentResult = logic.execute(previousCommandTest);
+    }
+
+    private void showResult(CommandResult result) {
+        mostRecentResult = result;
         resultDisplay.postMessage(mostRecentResult.feedbackToUser);
         logger.info("Result: " + mostRecentResult.feedbackToUser);
     }
 
-
     /**
      * Sets the command box style to indicate a correct command.
      */
@@ -90,18 +116,27 @@ public class CommandBox extends UiPart {
         commandTextField.setText("");
     }
 
+    /**
+     * Raised while the command executor runs the incorrect command, so the command it is running is the one
+     * to show again.
+     */
     @Subscribe
     private void handleIncorrectCommandAttempted(IncorrectCommandAttemptedEvent event){
-        logger.info(LogsCenter.getEventHandlingLogMessage(event,"Invalid command: " + previousCommandTest));
-        setStyleToIndicateIncorrectCommand();
-        restoreCommandText();
+        String commandText = commandExecutor.getRunningCommand();
+        logger.info(LogsCenter.getEventHandlingLogMessage(event,"Invalid command: " + commandText));
+        Platform.runLater(() -> {
+            setStyleToIndicateIncorrectCommand();
+            restoreCommandText(commandText);
+        });
     }
 
     /**
-     * Restores the command box text to the previously entered command
+     * Restores the command box text to the given command, unless something new has been typed since
      */
-    private void restoreCommandText() {
-        commandTextField.setText(previousCommandTest);
+    private void restoreCommandText(String commandText) {
+        if (commandText != null && commandTextField.getText().isEmpty()) {
+            commandTextField.setText(commandText);
+        }
     }
 
     /**
@@ -2,11 +2,12 @@ package seedu.simply.ui;
 
 import com.google.common.eventbus.Subscribe;
 
-import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
+import seedu.simply.commons.core.DispatchOn;
+import seedu.simply.commons.core.DispatchOn.Policy;
 import seedu.simply.commons.events.ui.OverdueChangedEvent;
 import seedu.simply.model.task.ReadOnlyTask;
 
@@ -35,63 +36,81 @@ public class DeadlineCard extends UiPart {
         
     }
     
-    public static DeadlineCard load(ReadOnlyTask deadline, int displayedIndex) {
-        DeadlineCard card = new DeadlineCard();
-        card.deadline = deadline;
-        card.displayedIndex = displayedIndex;
-        return UiPartLoader.loadUiPart(card);
+    /**
+     * Loads a card showing no deadline yet. A list cell loads one card and gives it each deadline it shows
+     * with {@link #bind}, rather than loading a card for every deadline.
+     */
+    public static DeadlineCard load() {
+        DeadlineCard card = UiPartLoader.loadUiPart(new DeadlineCard());
+        card.registerAsAnEventHandler(card);
+        return card;
     }
     
-    @FXML
-    public void initialize() {
-        String endTime = deadline.getEnd().value;
+    /**
+     * Shows the given deadline as the deadline numbered {@code displayedIndex}, in place of whatever was shown.
+     */
+    public void bind(ReadOnlyTask deadline, int displayedIndex) {
+        this.deadline = deadline;
+        this.displayedIndex = displayedIndex;
         
-        name.setText(deadline.getName().taskDetails);
-        id.setText("D" + displayedIndex + ". ");
-        date.setText("Date:" + "            " + deadline.getDate().value);
-        end.setText("End time:" + "     " + endTime);
-        tags.setText(deadline.tagsString());
+        setText(name, deadline.getName().taskDetails);
+        setText(id, "D" + displayedIndex + ". ");
+        setText(date, "Date:" + "            " + deadline.getDate().value);
+        setText(end, "End time:" + "     " + deadline.getEnd().value);
+        setText(tags, deadline.tagsString());
         
-        registerAsAnEventHandler(this);
+        changeColor();
     }
     
+    /**
+     * Follows overdue changes while the card's cell is in a scene. The list view drops the cells it no longer
+     * needs from the scene, and the event bus must not keep their cards.
+     */
+    public void setShown(boolean isShown) {
+        if (isShown) {
+            registerAsAnEventHandler(this);
+            changeColor();
+        } else {
+            unregisterAsAnEventHandler(this);
+        }
+    }
+
     @Subscribe
+    @DispatchOn(Policy.FX_THREAD)
     private void handleTaskOverdueChanged(OverdueChangedEvent change) {
         changeColor();
     }
-
+    
     private void changeColor() {
+        if (deadline == null) {
+            return;
+        }
         int overdueState = overdueChangeBorderColor(deadline, this.cardPane);
         setTextColor(overdueState);
     }
-
+    
     private void setTextColor(int overdueState) {
         if (overdueState == 1) {
-            setFxStyle("red");
+            setFxStyle("-fx-text-fill: red");
         }
         
         if(overdueState == 2) {
-            setFxStyle("#004402");
+            setFxStyle("-fx-text-fill: #004402");
         }
         
         if (overdueState == 0) {
-            name.setStyle(null);
-            id.setStyle(null);
-            date.setStyle(null);
-            end.setStyle(null);
-            tags.setStyle(null);
+            setFxStyle(null);
         }
     }
     
-    private void setFxStyle(String color) {
-        name.setStyle("-fx-text-fill: " + color);
-        id.setStyle("-fx-text-fill: " + color);
-        date.setStyle("-fx-text-fill: " + color);
-        end.setStyle("-fx-text-fill: " + color);
-        tags.setStyle("-fx-text-fill: " + color);
+    private void setFxStyle(String style) {
+        setStyle(name, style);
+        setStyle(id, style);
+        setStyle(date, style);
+        setStyle(end, style);
+        setStyle(tags, style);
     }
 
-
     public HBox getLayout() {
         return cardPane;
     }
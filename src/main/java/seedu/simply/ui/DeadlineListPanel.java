@@ -92,9 +92,20 @@ public class DeadlineListPanel extends UiPart {
     }
 
 
+    /**
+     * Shows a task with a card of its own, loaded the first time the cell shows a task and given each task
+     * the cell shows after that. The card follows overdue changes only while the cell is in the scene.
+     */
     class DeadlineListViewCell extends ListCell<ReadOnlyTask> {
 
+        private DeadlineCard card;
+
         public DeadlineListViewCell() {
+            sceneProperty().addListener((observable, oldScene, newScene) -> {
+                if (card != null) {
+                    card.setShown(newScene != null);
+                }
+            });
         }
 
         @Override
@@ -105,7 +116,13 @@ public class DeadlineListPanel extends UiPart {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(DeadlineCard.load(deadline, getIndex() + 1).getLayout());
+                if (card == null) {
+                    card = DeadlineCard.load();
+                }
+                card.bind(deadline, getIndex() + 1);
+                if (getGraphic() != card.getLayout()) {
+                    setGraphic(card.getLayout());
+                }
             }
         }
     }
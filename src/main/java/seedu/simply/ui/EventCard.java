@@ -2,11 +2,12 @@ package seedu.simply.ui;
 
 import com.google.common.eventbus.Subscribe;
 
-import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
+import seedu.simply.commons.core.DispatchOn;
+import seedu.simply.commons.core.DispatchOn.Policy;
 import seedu.simply.commons.events.ui.OverdueChangedEvent;
 import seedu.simply.model.task.ReadOnlyTask;
 
@@ -37,64 +38,81 @@ public class EventCard extends UiPart {
 
     }
 
-    public static EventCard load(ReadOnlyTask event, int displayedIndex) {
-        EventCard card = new EventCard();
-        card.event = event;
-        card.displayedIndex = displayedIndex;
-        return UiPartLoader.loadUiPart(card);
+    /**
+     * Loads a card showing no event yet. A list cell loads one card and gives it each event it shows
+     * with {@link #bind}, rather than loading a card for every event.
+     */
+    public static EventCard load() {
+        EventCard card = UiPartLoader.loadUiPart(new EventCard());
+        card.registerAsAnEventHandler(card);
+        return card;
     }
 
-    @FXML
-    public void initialize() {
-        String startTime = event.getStart().value;
-        String endTime = event.getEnd().value;
-
-        name.setText(event.getName().taskDetails);
-        id.setText("E" + displayedIndex + ". ");
-        date.setText("Date:" + "            " + event.getDate().value);
-        start.setText("Start time:" + "    " + startTime);
-        end.setText("End time:" + "     " + endTime);
-        tags.setText(event.tagsString());
-
-        registerAsAnEventHandler(this);
+    /**
+     * Shows the given event as the event numbered {@code displayedIndex}, in place of whatever was shown.
+     */
+    public void bind(ReadOnlyTask event, int displayedIndex) {
+        this.event = event;
+        this.displayedIndex = displayedIndex;
+
+        setText(name, event.getName().taskDetails);
+        setText(id, "E" + displayedIndex + ". ");
+        setText(date, "Date:" + "            " + event.getDate().value);
+        setText(start, "Start time:" + "    " + event.getStart().value);
+        setText(end, "End time:" + "     " + event.getEnd().value);
+        setText(tags, event.tagsString());
+
+        changeColor();
+    }
+
+    /**
+     * Follows overdue changes while the card's cell is in a scene. The list view drops the cells it no longer
+     * needs from the scene, and the event bus must not keep their cards.
+     */
+    public void setShown(boolean isShown) {
+        if (isShown) {
+            registerAsAnEventHandler(this);
+            changeColor();
+        } else {
+            unregisterAsAnEventHandler(this);
+        }
     }
 
     @Subscribe
+    @DispatchOn(Policy.FX_THREAD)
     private void handleTaskOverdueChanged(OverdueChangedEvent change) {
         changeColor();
     }
 
     private void changeColor() {
+        if (event == null) {
+            return;
+        }
         int overdueState = overdueChangeBorderColor(event, this.cardPane);
         setTextColor(overdueState);
     }
 
     private void setTextColor(int overdueState) {
         if (overdueState == 1) {
-            setFxStyle("red");
+            setFxStyle("-fx-text-fill: red");
         }
 
         if (overdueState == 2) {
-            setFxStyle("#004402");
+            setFxStyle("-fx-text-fill: #004402");
         }
 
         if (overdueState == 0) {
-            name.setStyle(null);
-            id.setStyle(null);
-            date.setStyle(null);
-            start.setStyle(null);
-            end.setStyle(null);
-            tags.setStyle(null);
+            setFxStyle(null);
         }
     }
 
-    private void setFxStyle(String color) {
-        name.setStyle("-fx-text-fill: " + color);
-        id.setStyle("-fx-text-fill: " + color);
-        date.setStyle("-fx-text-fill: " + color);
-        start.setStyle("-fx-text-fill: " + color);
-        end.setStyle("-fx-text-fill: " + color);
-        tags.setStyle("-fx-text-fill: " + color);
+    private void setFxStyle(String style) {
+        setStyle(name, style);
+        setStyle(id, style);
+        setStyle(date, style);
+        setStyle(start, style);
+        setStyle(end, style);
+        setStyle(tags, style);
     }
 
     public HBox getLayout() {
@@ -93,9 +93,20 @@ public class EventListPanel extends UiPart {
         });
     }
 
+    /**
+     * Shows a task with a card of its own, loaded the first time the cell shows a task and given each task
+     * the cell shows after that. The card follows overdue changes only while the cell is in the scene.
+     */
     class EventListViewCell extends ListCell<ReadOnlyTask> {
 
+        private EventCard card;
+
         public EventListViewCell() {
+            sceneProperty().addListener((observable, oldScene, newScene) -> {
+                if (card != null) {
+                    card.setShown(newScene != null);
+                }
+            });
         }
 
         @Override
@@ -106,7 +117,13 @@ public class EventListPanel extends UiPart {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(EventCard.load(event, getIndex() + 1).getLayout());
+                if (card == null) {
+                    card = EventCard.load();
+                }
+                card.bind(event, getIndex() + 1);
+                if (getGraphic() != card.getLayout()) {
+                    setGraphic(card.getLayout());
+                }
             }
         }
     }
@@ -1,5 +1,6 @@
 package seedu.simply.ui;
 
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.Node;
 import javafx.scene.Scene;
@@ -10,6 +11,7 @@ import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 import seedu.simply.commons.core.Config;
 import seedu.simply.commons.core.GuiSettings;
+import seedu.simply.commons.core.ListMirror;
 import seedu.simply.commons.events.ui.ExitAppRequestEvent;
 import seedu.simply.logic.Logic;
 import seedu.simply.model.UserPrefs;
@@ -111,11 +113,15 @@ public class MainWindow extends UiPart {
     }
 
     void fillInnerParts() {
-        eventListPanel = EventListPanel.load(primaryStage, getEventListPlaceholder(), logic.getFilteredEventList());
+        // commands change the lists on the command executor's thread, so the panels show copies kept here
+        eventListPanel = EventListPanel.load(primaryStage, getEventListPlaceholder(),
+                new ListMirror<>(logic.getFilteredEventList(), Platform::runLater));
         resultDisplay = ResultDisplay.load(primaryStage, getResultDisplayPlaceholder());
         commandBox = CommandBox.load(primaryStage, getCommandBoxPlaceholder(), resultDisplay, logic);       
-        deadlineListPanel = DeadlineListPanel.load(primaryStage, getDeadlineListPlaceHolder(), logic.getFilteredDeadlineList());
-        todoListPanel = TodoListPanel.load(primaryStage, getTodoListPlaceholder(), logic.getFilteredTodoList());
+        deadlineListPanel = DeadlineListPanel.load(primaryStage, getDeadlineListPlaceHolder(),
+                new ListMirror<>(logic.getFilteredDeadlineList(), Platform::runLater));
+        todoListPanel = TodoListPanel.load(primaryStage, getTodoListPlaceholder(),
+                new ListMirror<>(logic.getFilteredTodoList(), Platform::runLater));
     }
 
     private AnchorPane getDeadlineListPlaceHolder() {
@@ -189,6 +195,10 @@ public class MainWindow extends UiPart {
         raise(new ExitAppRequestEvent());
     }
 
+    public CommandBox getCommandBox() {
+        return commandBox;
+    }
+
     public EventListPanel getEventListPanel() {
         return this.eventListPanel;
     }
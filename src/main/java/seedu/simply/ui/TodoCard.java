@@ -27,18 +27,23 @@ public class TodoCard extends UiPart {
         
     }
     
-    public static TodoCard load(ReadOnlyTask todo, int displayedIndex) {
-        TodoCard card = new TodoCard();
-        card.todo = todo;
-        card.displayedIndex = displayedIndex;
-        return UiPartLoader.loadUiPart(card);
+    /**
+     * Loads a card showing no to-do yet. A list cell loads one card and gives it each to-do it shows
+     * with {@link #bind}, rather than loading a card for every to-do.
+     */
+    public static TodoCard load() {
+        return UiPartLoader.loadUiPart(new TodoCard());
     }
     
-    @FXML
-    public void initialize() {
-        name.setText(todo.getName().taskDetails);
-        id.setText("T" + displayedIndex + ". ");
-        tags.setText(todo.tagsString());
+    /**
+     * Shows the given to-do as the to-do numbered {@code displayedIndex}, in place of whatever was shown.
+     */
+    public void bind(ReadOnlyTask todo, int displayedIndex) {
+        this.todo = todo;
+        this.displayedIndex = displayedIndex;
+        setText(name, todo.getName().taskDetails);
+        setText(id, "T" + displayedIndex + ". ");
+        setText(tags, todo.tagsString());
     }
 
     public HBox getLayout() {
@@ -92,8 +92,14 @@ public class TodoListPanel extends UiPart {
     }
 
 
+    /**
+     * Shows a task with a card of its own, loaded the first time the cell shows a task and given each task
+     * the cell shows after that.
+     */
     class TodoListViewCell extends ListCell<ReadOnlyTask> {
 
+        private TodoCard card;
+
         public TodoListViewCell() {
         }
 
@@ -105,7 +111,13 @@ public class TodoListPanel extends UiPart {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(TodoCard.load(todo, getIndex() + 1).getLayout());
+                if (card == null) {
+                    card = TodoCard.load();
+                }
+                card.bind(todo, getIndex() + 1);
+                if (getGraphic() != card.getLayout()) {
+                    setGraphic(card.getLayout());
+                }
             }
         }
     }
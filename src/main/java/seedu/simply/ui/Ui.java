@@ -13,4 +13,10 @@ public interface Ui {
     /** Stops the UI. */
     void stop();
 
+    /**
+     * Tells the user the task book could not be saved before exiting, and waits until they close the
+     * message. Must be called on the FX thread.
+     */
+    void showExitSavingFailureAndWait(Throwable cause);
+
 }
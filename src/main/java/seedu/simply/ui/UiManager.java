@@ -12,6 +12,8 @@ import javafx.stage.Stage;
 import seedu.simply.MainApp;
 import seedu.simply.commons.core.ComponentManager;
 import seedu.simply.commons.core.Config;
+import seedu.simply.commons.core.DispatchOn;
+import seedu.simply.commons.core.DispatchOn.Policy;
 import seedu.simply.commons.core.LogsCenter;
 import seedu.simply.commons.events.storage.DataSavingExceptionEvent;
 import seedu.simply.commons.events.ui.JumpToListRequestEvent;
@@ -61,10 +63,18 @@ public class UiManager extends ComponentManager implements Ui {
 
     @Override
     public void stop() {
+        mainWindow.getCommandBox().stop();
         prefs.updateLastUsedGuiSetting(mainWindow.getCurrentGuiSetting());
         mainWindow.hide();
     }
 
+    @Override
+    public void showExitSavingFailureAndWait(Throwable cause) {
+        // the main window is already hidden, so the alert has no owner
+        showAlertDialogAndWait(null, AlertType.ERROR, "File Op Error", "Could not save data before exiting",
+                "The latest changes could not be saved to file:\n" + cause.toString());
+    }
+
     private void showFileOperationAlertAndWait(String description, String details, Throwable cause) {
         final String content = details + ":\n" + cause.toString();
         showAlertDialogAndWait(AlertType.ERROR, "File Op Error", description, content);
@@ -100,18 +110,21 @@ public class UiManager extends ComponentManager implements Ui {
     //==================== Event Handling Code =================================================================
 
     @Subscribe
+    @DispatchOn(Policy.FX_THREAD)
     private void handleDataSavingExceptionEvent(DataSavingExceptionEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
         showFileOperationAlertAndWait("Could not save data", "Could not save data to file", event.exception);
     }
 
     @Subscribe
+    @DispatchOn(Policy.FX_THREAD)
     private void handleShowHelpEvent(ShowHelpRequestEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
         mainWindow.handleHelp();
     }
 
     @Subscribe
+    @DispatchOn(Policy.FX_THREAD)
     private void handleJumpToListRequestEvent(JumpToListRequestEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
         if (event.category == 'E'){
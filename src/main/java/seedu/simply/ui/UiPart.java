@@ -1,7 +1,10 @@
 package seedu.simply.ui;
 
+import java.util.Objects;
+
 import javafx.scene.Node;
 import javafx.scene.Scene;
+import javafx.scene.control.Label;
 import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.HBox;
 import javafx.stage.Modality;
@@ -41,6 +44,14 @@ public abstract class UiPart {
     protected void registerAsAnEventHandler(Object handler) {
         EventsCenter.getInstance().registerHandler(handler);
     }
+
+    /**
+     * Unregisters the object as an event handler, once it is no longer shown.
+     * @param handler usually {@code this}
+     */
+    protected void unregisterAsAnEventHandler(Object handler) {
+        EventsCenter.getInstance().unregisterHandler(handler);
+    }
     
     //@@author A0147890U
     /**
@@ -48,20 +59,41 @@ public abstract class UiPart {
      */
     protected int overdueChangeBorderColor(ReadOnlyTask task, HBox cardPane) {
         if (task.getOverdue() == 2) {
-            cardPane.setStyle("-fx-border-color: #02f21e");
+            setStyle(cardPane, "-fx-border-color: #02f21e");
             return 2;
         }
         
         else if (task.getOverdue() == 1) {
-            cardPane.setStyle("-fx-border-color: red");
+            setStyle(cardPane, "-fx-border-color: red");
             return 1;
         }
         
         else {
-            cardPane.setStyle(null);
+            setStyle(cardPane, null);
             return 0;
         }
     }
+
+    //@@author
+    /**
+     * Shows the text in the label, leaving the label alone if it already shows it,
+     * so that a card given the same task again is not laid out again.
+     */
+    protected static void setText(Label label, String text) {
+        if (!text.equals(label.getText())) {
+            label.setText(text);
+        }
+    }
+
+    /**
+     * Sets the inline style of the node, leaving the node alone if it already has it,
+     * so that its CSS is not applied again.
+     */
+    protected static void setStyle(Node node, String style) {
+        if (!Objects.equals(style, node.getStyle())) {
+            node.setStyle(style);
+        }
+    }
     
     //@@author A0147890U-unused
     //unused because find cannot search by 12hr formats
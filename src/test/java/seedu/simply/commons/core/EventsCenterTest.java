@@ -0,0 +1,136 @@
+package seedu.simply.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.simply.commons.core.DispatchOn.Policy;
+import seedu.simply.commons.events.BaseEvent;
+import seedu.simply.commons.events.model.TaskBookChangedEvent;
+import seedu.simply.commons.events.ui.JumpToListRequestEvent;
+import seedu.simply.commons.events.ui.OverdueChangedEvent;
+import seedu.simply.model.TaskBook;
+
+public class EventsCenterTest {
+
+    private final List<Runnable> background = new ArrayList<>();
+    private final List<Runnable> fxThread = new ArrayList<>();
+    private final EventsCenter eventsCenter = new EventsCenter(background::add, fxThread::add);
+
+    private static void runAll(List<Runnable> queued) {
+        List<Runnable> toRun = new ArrayList<>(queued);
+        queued.clear();
+        toRun.forEach(Runnable::run);
+    }
+
+    private class InlineHandler {
+        final List<BaseEvent> handled = new ArrayList<>();
+
+        @Subscribe
+        private void handle(BaseEvent event) {
+            handled.add(event);
+            if (event instanceof OverdueChangedEvent) {
+                eventsCenter.post(new JumpToListRequestEvent(0, 'E'));
+            }
+        }
+
+        @Subscribe
+        private void handleJump(JumpToListRequestEvent event) {
+            handled.add(event);
+        }
+    }
+
+    private static class QueuedHandler {
+        final List<BaseEvent> handled = new ArrayList<>();
+
+        @Subscribe
+        @DispatchOn(Policy.BACKGROUND)
+        private void handleTaskBookChanged(TaskBookChangedEvent event) {
+            handled.add(event);
+        }
+
+        @Subscribe
+        @DispatchOn(Policy.FX_THREAD)
+        private void handleOverdueChanged(OverdueChangedEvent event) {
+            handled.add(event);
+        }
+
+        @Subscribe
+        @DispatchOn(Policy.FX_THREAD)
+        private void handleJump(JumpToListRequestEvent event) {
+            handled.add(event);
+            throw new IllegalStateException("handler failure");
+        }
+    }
+
+    @Test
+    public void unregisterHandler_noMoreEventsGiven() {
+        QueuedHandler unregistered = new QueuedHandler();
+        QueuedHandler kept = new QueuedHandler();
+        eventsCenter.registerHandler(unregistered);
+        eventsCenter.registerHandler(kept);
+        eventsCenter.unregisterHandler(unregistered);
+        eventsCenter.post(new OverdueChangedEvent());
+        runAll(fxThread);
+
+        assertEquals(0, unregistered.handled.size());
+        assertEquals(1, kept.handled.size());
+    }
+
+    @Test
+    public void post_inlineHandlers_runBeforePostReturnsInPostedOrder() {
+        InlineHandler handler = new InlineHandler();
+        eventsCenter.registerHandler(handler);
+        eventsCenter.registerHandler(handler);
+        OverdueChangedEvent overdue = new OverdueChangedEvent();
+        eventsCenter.post(overdue);
+
+        // the event posted by the handler waits until the first has been given to every handler
+        assertEquals(3, handler.handled.size());
+        assertSame(overdue, handler.handled.get(0));
+        assertEquals(JumpToListRequestEvent.class, handler.handled.get(1).getClass());
+        assertSame(handler.handled.get(1), handler.handled.get(2));
+        assertEquals(0, background.size() + fxThread.size());
+    }
+
+    @Test
+    public void post_coalescibleEvents_onlyLatestHandledOffThread() {
+        QueuedHandler handler = new QueuedHandler();
+        eventsCenter.registerHandler(handler);
+        TaskBookChangedEvent first = new TaskBookChangedEvent(new TaskBook().snapshot());
+        TaskBookChangedEvent latest = new TaskBookChangedEvent(new TaskBook().snapshot());
+        OverdueChangedEvent overdue = new OverdueChangedEvent();
+        eventsCenter.post(first).post(overdue).post(latest).post(new OverdueChangedEvent());
+        assertEquals(0, handler.handled.size());
+        assertEquals(1, background.size());
+        assertEquals(1, fxThread.size());
+
+        runAll(background);
+        assertEquals(Arrays.asList(latest), handler.handled);
+        runAll(fxThread);
+        assertEquals(2, handler.handled.size());
+        assertEquals(OverdueChangedEvent.class, handler.handled.get(1).getClass());
+
+        eventsCenter.post(first);
+        runAll(background);
+        assertSame(first, handler.handled.get(2));
+    }
+
+    @Test
+    public void post_otherEvents_eachHandledDespiteFailures() {
+        QueuedHandler handler = new QueuedHandler();
+        eventsCenter.registerHandler(handler);
+        eventsCenter.post(new JumpToListRequestEvent(1, 'D')).post(new JumpToListRequestEvent(2, 'T'));
+        assertEquals(2, fxThread.size());
+
+        runAll(fxThread);
+        assertEquals(2, handler.handled.size());
+    }
+}
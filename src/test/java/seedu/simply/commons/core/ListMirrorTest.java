@@ -0,0 +1,71 @@
+package seedu.simply.commons.core;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class ListMirrorTest {
+
+    private final ObservableList<Integer> source = FXCollections.observableArrayList(1, 2, 3);
+    private final List<Runnable> published = new ArrayList<>();
+    private final ListMirror<Integer> mirror = new ListMirror<>(source, published::add);
+
+    private void runPublished() {
+        List<Runnable> toRun = new ArrayList<>(published);
+        published.clear();
+        toRun.forEach(Runnable::run);
+    }
+
+    @Test
+    public void sourceChanged_unchangedUntilPublished() {
+        source.add(4);
+        source.remove(Integer.valueOf(1));
+        assertEquals(Arrays.asList(1, 2, 3), mirror);
+        assertEquals(1, published.size());
+
+        runPublished();
+        assertEquals(Arrays.asList(2, 3, 4), mirror);
+    }
+
+    @Test
+    public void sourceChanged_manyChanges_listenersHearOnce() {
+        List<ListChangeListener.Change<? extends Integer>> changes = new ArrayList<>();
+        mirror.addListener((ListChangeListener<Integer>) changes::add);
+        source.add(0, 0);
+        source.set(2, 20);
+        source.sort((a, b) -> b - a);
+        source.remove(1);
+        runPublished();
+
+        assertEquals(1, changes.size());
+        assertEquals(Arrays.asList(20, 1, 0), mirror);
+    }
+
+    @Test
+    public void sourceChanged_randomChanges_sameAsSource() {
+        Random random = new Random(3);
+        for (int round = 0; round < 50; round++) {
+            for (int i = 0; i < 20; i++) {
+                int operation = random.nextInt(3);
+                if (operation == 0 || source.isEmpty()) {
+                    source.add(random.nextInt(source.size() + 1), random.nextInt(100));
+                } else if (operation == 1) {
+                    source.remove(random.nextInt(source.size()));
+                } else {
+                    source.setAll(new ArrayList<>(source.subList(0, random.nextInt(source.size() + 1))));
+                }
+            }
+            runPublished();
+            assertEquals(source, mirror);
+        }
+    }
+}
@@ -38,6 +38,15 @@ public class StringUtilTest {
         assertTrue(StringUtil.isUnsignedInteger("10"));
     }
 
+    @Test
+    public void containsIgnoreCase() {
+        assertTrue(StringUtil.containsIgnoreCase("Team Meeting", "meeting"));
+        assertTrue(StringUtil.containsIgnoreCase("Team Meeting", "M M"));
+        assertTrue(StringUtil.containsIgnoreCase("Team", ""));
+        assertFalse(StringUtil.containsIgnoreCase("Team", "teams"));
+        assertFalse(StringUtil.containsIgnoreCase("Team Meeting", "meetings"));
+    }
+
     @Test
     public void getDetails_exceptionGiven(){
         assertThat(StringUtil.getDetails(new FileNotFoundException("file not found")),
@@ -95,4 +95,26 @@ public class XmlUtilTest {
         dataFromFile = XmlUtil.getDataFromFile(TEMP_FILE, XmlSerializableTaskBook.class);
         assertEquals((new TaskBook(dataToWrite)).toString(),(new TaskBook(dataFromFile)).toString());
     }
+
+    @Test
+    public void saveDataToFile_fromSeveralThreads_dataSaved() throws Exception {
+        TEMP_FILE.createNewFile();
+        XmlSerializableTaskBook dataToWrite = new XmlSerializableTaskBook(new TaskBookBuilder(new TaskBook())
+                .withPerson(TestUtil.generateSamplePersonData().get(0)).withTag("Friends").build());
+        XmlUtil.saveDataToFile(TEMP_FILE, dataToWrite);
+
+        Thread otherThread = new Thread(() -> {
+            try {
+                XmlUtil.saveDataToFile(TEMP_FILE, new XmlSerializableTaskBook(new TaskBook()));
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        otherThread.start();
+        otherThread.join();
+
+        XmlSerializableTaskBook dataFromFile = XmlUtil.getDataFromFile(TEMP_FILE, XmlSerializableTaskBook.class);
+        assertEquals(0, dataFromFile.getEventList().size());
+        assertEquals(0, dataFromFile.getTagList().size());
+    }
 }
@@ -0,0 +1,95 @@
+package seedu.simply.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.After;
+import org.junit.Test;
+
+import javafx.collections.ObservableList;
+import seedu.simply.commons.core.Messages;
+import seedu.simply.logic.commands.CommandResult;
+import seedu.simply.model.task.ReadOnlyTask;
+
+public class CommandExecutorTest {
+
+    /** Holds every command until released, and records the threads they run on. */
+    private static class StubLogic implements Logic {
+        final CountDownLatch released = new CountDownLatch(1);
+        final List<String> threadNames = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public CommandResult execute(String commandText) {
+            try {
+                released.await();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+            threadNames.add(Thread.currentThread().getName());
+            if (commandText.equals("fail")) {
+                throw new IllegalStateException("broken");
+            }
+            return new CommandResult("ran " + commandText);
+        }
+
+        @Override
+        public ObservableList<ReadOnlyTask> getFilteredEventList() {
+            return null;
+        }
+
+        @Override
+        public ObservableList<ReadOnlyTask> getFilteredDeadlineList() {
+            return null;
+        }
+
+        @Override
+        public ObservableList<ReadOnlyTask> getFilteredTodoList() {
+            return null;
+        }
+    }
+
+    private final StubLogic logic = new StubLogic();
+    private final List<Runnable> published = Collections.synchronizedList(new ArrayList<>());
+    private final CommandExecutor executor = new CommandExecutor(logic, published::add, 2);
+
+    @After
+    public void tearDown() {
+        logic.released.countDown();
+        executor.stop(1000);
+    }
+
+    @Test
+    public void submit_queueFull_turnedAway() {
+        // one command runs while two wait, filling the queue
+        assertTrue(executor.submit("a", result -> { }));
+        while (executor.getRunningCommand() == null) {
+            Thread.yield();
+        }
+        assertTrue(executor.submit("b", result -> { }));
+        assertTrue(executor.submit("c", result -> { }));
+        assertFalse(executor.submit("d", result -> { }));
+    }
+
+    @Test
+    public void submit_resultsPublishedInOrder() {
+        List<String> results = new ArrayList<>();
+        executor.submit("a", result -> results.add(result.feedbackToUser));
+        executor.submit("fail", result -> results.add(result.feedbackToUser));
+        logic.released.countDown();
+        assertTrue(executor.stop(1000));
+
+        published.forEach(Runnable::run);
+        assertEquals("ran a", results.get(0));
+        assertEquals(String.format(Messages.MESSAGE_COMMAND_FAILED, "broken"), results.get(1));
+        assertEquals(Collections.nCopies(2, "command-executor"), logic.threadNames);
+        assertNull(executor.getRunningCommand());
+        assertFalse(executor.submit("late", result -> { }));
+    }
+}
@@ -21,11 +21,13 @@ import seedu.simply.model.Model;
 import seedu.simply.model.ModelManager;
 import seedu.simply.model.ReadOnlyTaskBook;
 import seedu.simply.model.TaskBook;
+import seedu.simply.model.query.QueryParser;
 import seedu.simply.model.tag.Tag;
 import seedu.simply.model.tag.UniqueTagList;
 import seedu.simply.model.task.*;
 import seedu.simply.model.task.UniqueTaskList.TaskNotFoundException;
 import seedu.simply.storage.StorageManager;
+import seedu.simply.testutil.EventsCollector;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -142,6 +144,38 @@ public class LogicManagerTest {
         assertTrue(helpShown);
     }
 
+    @Test
+    public void execute_tag_invalidArgsFormat() throws Exception {
+        assertCommandBehavior("tag", String.format(MESSAGE_INVALID_COMMAND_FORMAT, TagCommand.MESSAGE_USAGE));
+        assertCommandBehavior("tag #a > ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, TagCommand.MESSAGE_USAGE));
+        assertCommandBehavior("untag #a > #b",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, UntagCommand.MESSAGE_USAGE));
+        assertCommandBehavior("tag #a > #b_c", Tag.MESSAGE_TAG_CONSTRAINTS);
+    }
+
+    @Test
+    public void execute_list_invalidRange() throws Exception {
+        assertCommandBehavior("list from 010117", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+        assertCommandBehavior("list from 310117 to 010117",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+        assertCommandBehavior("list from 010117 to 3101", Date.MESSAGE_DATE_CONSTRAINTS);
+    }
+
+    @Test
+    public void execute_free_invalidArgs() throws Exception {
+        assertCommandBehavior("free", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeCommand.MESSAGE_USAGE));
+        assertCommandBehavior("free 0", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeCommand.MESSAGE_USAGE));
+        assertCommandBehavior("free 60 from 310117 to 010117",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeCommand.MESSAGE_USAGE));
+        assertCommandBehavior("free 60 from 010117 to 3101", Date.MESSAGE_DATE_CONSTRAINTS);
+    }
+
+    @Test
+    public void execute_free_wholeDaysWhenNoEvents() throws Exception {
+        assertCommandBehavior("free 60 from 010117 to 020117", String.format(FreeCommand.MESSAGE_SUCCESS, 1, 60,
+                "\n01-01-17 0000 to 03-01-17 0000"));
+    }
+
     @Test
     public void execute_exit() throws Exception {
         assertCommandBehavior("exit", ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT);
@@ -638,6 +672,21 @@ public class LogicManagerTest {
                 unmarkedList);
     }
 
+    @Test
+    public void execute_done_unknownCategory_nothingMarked() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        List<Task> eventList = helper.generateEventList(helper.adam());
+        TaskBook expectedAB = helper.generateTaskBook(eventList, Collections.emptyList(), Collections.emptyList());
+        helper.addToModel(model, eventList, Collections.emptyList(), Collections.emptyList());
+
+        assertCommandBehavior("done E1, X1",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, DoneCommand.MESSAGE_USAGE),
+                expectedAB,
+                eventList,
+                Collections.emptyList(),
+                Collections.emptyList());
+    }
+
     //@@author A0138993L
     @Test
     public void execute_done_noEventIndex() throws Exception {
@@ -1121,6 +1170,21 @@ public class LogicManagerTest {
          
     }
     
+    @Test
+    public void execute_edit_categoryChanged_savedOnceInNewList() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Task p1 = helper.generateEventWithName("lala");
+        helper.addToModel(model, helper.generateEventList(p1), Collections.emptyList(), Collections.emptyList());
+        EventsCollector collector = new EventsCollector();
+
+        logic.execute("edit E1 date no date");
+
+        assertEquals(1, collector.count(TaskBookChangedEvent.class));
+        assertEquals(0, latestSavedTaskBook.getEventList().size());
+        assertEquals(1, latestSavedTaskBook.getTodoList().size());
+        assertEquals(1, model.getUndoStackSize());
+    }
+
     //@@author A0138993L
     @Test
     public void execute_edit_deadlineToTodo() throws Exception {
@@ -1358,6 +1422,12 @@ public class LogicManagerTest {
         String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
         assertCommandBehavior("find ", expectedMessage);
     }
+
+    @Test
+    public void execute_find_invalidQuery() throws Exception {
+        assertCommandBehavior("find (KEY OR", String.format(QueryParser.MESSAGE_QUERY_CONSTRAINTS, "it ends too early"));
+        assertCommandBehavior("find date<3101", Date.MESSAGE_DATE_CONSTRAINTS);
+    }
     //@@author A0138993L
     @Test
     public void execute_find_onlyMatchesPartialWordsInNames() throws Exception {
@@ -0,0 +1,66 @@
+package seedu.simply.model;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import seedu.simply.model.tag.UniqueTagList;
+import seedu.simply.model.task.Name;
+import seedu.simply.model.task.ReadOnlyTask;
+import seedu.simply.model.task.Task;
+
+public class FilterEvaluatorTest {
+
+    private final Predicate<ReadOnlyTask> pending = task -> !task.getIsCompleted();
+
+    private List<Task> todos(int count) throws Exception {
+        List<Task> todos = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            todos.add(new Task(new Name("todo " + i), 3, i % 3 == 0, new UniqueTagList()));
+        }
+        return todos;
+    }
+
+    private Set<Long> expectedIds(List<Task> tasks) {
+        Set<Long> ids = new HashSet<>();
+        for (Task task : tasks) {
+            if (pending.test(task)) {
+                ids.add(task.getId());
+            }
+        }
+        return ids;
+    }
+
+    @Test
+    public void matchingIds_inParallel_sameAsSerially() throws Exception {
+        List<Task> events = todos(5000);
+        List<Task> deadlines = todos(3);
+        List<Task> todos = Collections.emptyList();
+        FilterEvaluator parallel = new FilterEvaluator(new ForkJoinPool(4), 0);
+
+        List<Set<Long>> ids = parallel.matchingIds(Arrays.asList(events, deadlines, todos), pending);
+        assertEquals(Arrays.asList(expectedIds(events), expectedIds(deadlines), expectedIds(todos)), ids);
+    }
+
+    @Test
+    public void matchingIds_belowThreshold_testedOnCallingThread() throws Exception {
+        List<Task> events = todos(10);
+        Thread caller = Thread.currentThread();
+        FilterEvaluator evaluator = new FilterEvaluator(new ForkJoinPool(4), 11);
+
+        List<Set<Long>> ids = evaluator.matchingIds(Collections.singletonList(events), task -> {
+            assertEquals(caller, Thread.currentThread());
+            return pending.test(task);
+        });
+        assertEquals(Collections.singletonList(expectedIds(events)), ids);
+    }
+}
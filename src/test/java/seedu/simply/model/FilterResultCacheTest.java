@@ -0,0 +1,44 @@
+package seedu.simply.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class FilterResultCacheTest {
+
+    private final FilterResultCache cache = new FilterResultCache(2);
+
+    @Test
+    public void getIfPresent_sameKey_putIdsReturned() {
+        Set<Long> ids = new HashSet<>(Collections.singleton(1L));
+        assertNull(cache.getIfPresent("is:pending", 'E', 3));
+        cache.put("is:pending", 'E', 3, ids);
+        assertSame(ids, cache.getIfPresent("is:pending", 'E', 3));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        assertNull(cache.getIfPresent("is:pending", 'D', 3));
+        assertNull(cache.getIfPresent("is:pending", 'E', 4));
+        assertEquals(3, cache.getMisses());
+    }
+
+    @Test
+    public void put_pastCapacity_leastRecentlyUsedForgotten() {
+        cache.put("a", 'E', 1, new HashSet<>());
+        cache.put("b", 'E', 1, new HashSet<>());
+        cache.getIfPresent("a", 'E', 1);
+        cache.put("c", 'E', 1, new HashSet<>());
+        assertEquals(2, cache.size());
+
+        cache.getIfPresent("a", 'E', 1);
+        assertEquals(2, cache.getHits());
+        assertNull(cache.getIfPresent("b", 'E', 1));
+        assertEquals(1, cache.getMisses());
+    }
+}
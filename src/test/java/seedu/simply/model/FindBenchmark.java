@@ -0,0 +1,85 @@
+package seedu.simply.model;
+
+import static seedu.simply.storage.XmlTaskBookStorageBenchmark.report;
+import static seedu.simply.storage.XmlTaskBookStorageBenchmark.sampleTaskBook;
+import static seedu.simply.storage.XmlTaskBookStorageBenchmark.time;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.simply.commons.core.Config;
+import seedu.simply.model.task.ReadOnlyTask;
+
+/**
+ * Times finding tasks in a large task book through the search index, against scanning every task's fields
+ * serially and in parallel, and finding misspelt words through the fuzzy index.
+ *
+ * Not a unit test; run it with {@code main}, optionally passing the number of tasks and the number of runs.
+ */
+public class FindBenchmark {
+
+    private static final int DEFAULT_TASKS = 100000;
+    private static final int DEFAULT_RUNS = 200;
+
+    public static void main(String[] args) throws Exception {
+        int tasks = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_TASKS;
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_RUNS;
+
+        TaskBook taskBook = sampleTaskBook(tasks);
+        ModelManager model = new ModelManager(taskBook, new UserPrefs(), new Config());
+        System.out.println(tasks + " tasks, " + runs + " runs");
+        FilterEvaluator parallel = new FilterEvaluator();
+        List<List<ReadOnlyTask>> lists =
+                Arrays.asList(taskBook.getEventList(), taskBook.getDeadlineList(), taskBook.getTodoList());
+        for (Set<String> keywords : Arrays.asList(set("4242"), set("report"), set("meeting", "tag3"), set("zzz"))) {
+            report("index lookup " + keywords, time(() -> taskBook.findTaskIds(keywords), runs));
+            report("scan " + keywords, time(() -> scan(taskBook, keywords), runs));
+            report("parallel scan " + keywords,
+                    time(() -> parallel.matchingIds(lists, task -> matchesByScan(task, keywords)), runs));
+            report("find command " + keywords, time(() -> {
+                model.updateFilteredEventList(keywords);
+                model.updateFilteredDeadlineList(keywords);
+                model.updateFilteredTodoList(keywords);
+            }, runs));
+        }
+        for (String word : Arrays.asList("meetng", "reprot", "grocerys", "projetc1", "zzzzzz")) {
+            report("fuzzy lookup ~" + word, time(() -> taskBook.findTaskIdsFuzzy(word), runs));
+        }
+    }
+
+    private static Set<String> set(String... keywords) {
+        return new HashSet<>(Arrays.asList(keywords));
+    }
+
+    /** Counts the matching tasks the way finding did before the search index. */
+    private static int scan(TaskBook taskBook, Set<String> keywords) {
+        int matches = 0;
+        for (ReadOnlyTask task : taskBook.getEventList()) {
+            matches += matchesByScan(task, keywords) ? 1 : 0;
+        }
+        for (ReadOnlyTask task : taskBook.getDeadlineList()) {
+            matches += matchesByScan(task, keywords) ? 1 : 0;
+        }
+        for (ReadOnlyTask task : taskBook.getTodoList()) {
+            matches += matchesByScan(task, keywords) ? 1 : 0;
+        }
+        return matches;
+    }
+
+    private static boolean matchesByScan(ReadOnlyTask task, Set<String> keywords) {
+        for (String keyword : keywords) {
+            String query = keyword.toLowerCase();
+            if ((task.getName().taskDetails.toLowerCase().contains(query)
+                    || task.getDate().value.contains(query)
+                    || task.getStart().value.contains(query)
+                    || task.getEnd().value.contains(query)
+                    || task.getTags().toString().contains(query))
+                    && !task.getIsCompleted()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
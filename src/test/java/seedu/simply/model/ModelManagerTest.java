@@ -0,0 +1,358 @@
+package seedu.simply.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.simply.commons.core.Config;
+import seedu.simply.commons.core.EventsCenter;
+import seedu.simply.commons.events.model.TaskBookChangedEvent;
+import seedu.simply.model.query.QueryParser;
+import seedu.simply.model.tag.Tag;
+import seedu.simply.model.task.EventIntervalTree.Interval;
+import seedu.simply.model.task.ReadOnlyTask;
+import seedu.simply.model.task.Task;
+import seedu.simply.model.task.TaskDateIndex;
+import seedu.simply.testutil.EventsCollector;
+import seedu.simply.testutil.TaskBuilder;
+import seedu.simply.testutil.TestTask;
+import seedu.simply.testutil.TypicalTestTasks;
+
+public class ModelManagerTest {
+
+    private ModelManager model;
+    private EventsCollector eventsCollector;
+
+    @Before
+    public void setup() {
+        EventsCenter.clearSubscribers();
+        model = new ModelManager(new TypicalTestTasks().getTypicalTaskBook(), new UserPrefs(), new Config());
+        eventsCollector = new EventsCollector();
+    }
+
+    @Test
+    public void updateFilteredListToShowAllUncompleted_shownAgain_skippedButUpToDate() throws Exception {
+        model.updateFilteredListToShowAllUncompleted();
+        long misses = model.getFilterCacheMisses();
+        long hits = model.getFilterCacheHits();
+        model.updateFilteredListToShowAllUncompleted();
+        assertEquals(misses, model.getFilterCacheMisses());
+        assertEquals(hits + 3, model.getFilterCacheHits());
+
+        long version = model.getVersion();
+        ReadOnlyTask done = model.getFilteredTodoList().get(0);
+        int todos = model.getFilteredTodoList().size();
+        model.markDone(done);
+        assertTrue(model.getVersion() > version);
+        model.updateFilteredListToShowAllUncompleted();
+        assertEquals(todos - 1, model.getFilteredTodoList().size());
+
+        model.updateFilteredListToShowAllCompleted();
+        assertEquals(1, model.getFilteredTodoList().size());
+        assertEquals(done.getId(), model.getFilteredTodoList().get(0).getId());
+        model.updateFilteredListToShowAllUncompleted();
+        misses = model.getFilterCacheMisses();
+        model.updateFilteredListToShowAllCompleted();
+        assertEquals(misses, model.getFilterCacheMisses());
+    }
+
+    @Test
+    public void commitTransaction_manyDeletes_oneEventAndOneUndoState() {
+        List<ReadOnlyTask> toDelete = new ArrayList<>(model.getFilteredEventList());
+        int deadlines = model.getFilteredDeadlineList().size();
+
+        model.beginTransaction();
+        for (ReadOnlyTask task : toDelete) {
+            model.deleteTask(task);
+        }
+        assertEquals(0, eventsCollector.count(TaskBookChangedEvent.class));
+        model.commitTransaction();
+
+        assertEquals(1, eventsCollector.count(TaskBookChangedEvent.class));
+        assertEquals(1, model.getUndoStackSize());
+        assertEquals(0, model.getTaskBook().getEventList().size());
+        assertEquals(deadlines, model.getFilteredDeadlineList().size());
+    }
+
+    @Test
+    public void commitTransaction_markDone_filterRefreshedOnce() throws Exception {
+        List<ReadOnlyTask> toComplete = new ArrayList<>(model.getFilteredTodoList());
+
+        model.beginTransaction();
+        for (ReadOnlyTask task : toComplete) {
+            model.markDone(task);
+        }
+        model.commitTransaction();
+
+        assertEquals(0, model.getFilteredTodoList().size());
+        for (ReadOnlyTask task : model.getTaskBook().getTodoList()) {
+            assertTrue(task.getIsCompleted());
+        }
+    }
+
+    @Test
+    public void rollbackTransaction_changesUndone() {
+        TaskBook original = new TaskBook(model.getTaskBook());
+
+        model.beginTransaction();
+        model.deleteTask(model.getFilteredEventList().get(0));
+        model.rollbackTransaction();
+
+        assertEquals(original, new TaskBook(model.getTaskBook()));
+        assertEquals(0, model.getUndoStackSize());
+        assertEquals(0, eventsCollector.count(TaskBookChangedEvent.class));
+    }
+
+    @Test
+    public void beginTransaction_nested_onlyOutermostCounts() {
+        model.beginTransaction();
+        model.beginTransaction();
+        model.deleteTask(model.getFilteredEventList().get(0));
+        model.commitTransaction();
+        assertEquals(0, eventsCollector.count(TaskBookChangedEvent.class));
+        model.commitTransaction();
+
+        assertEquals(1, eventsCollector.count(TaskBookChangedEvent.class));
+        assertEquals(1, model.getUndoStackSize());
+    }
+
+    @Test
+    public void undo_severalSteps_restoredWithOneEvent() throws Exception {
+        TaskBook original = new TaskBook(model.getTaskBook());
+
+        model.addToUndoStack();
+        model.deleteTask(model.getFilteredEventList().get(0));
+        model.addToUndoStack();
+        model.markDone(model.getFilteredTodoList().get(0));
+        model.addToUndoStack();
+        model.resetData(new TaskBook());
+        TaskBook cleared = new TaskBook(model.getTaskBook());
+        eventsCollector.reset();
+
+        model.undo(3);
+
+        assertEquals(original, new TaskBook(model.getTaskBook()));
+        assertEquals(1, eventsCollector.count(TaskBookChangedEvent.class));
+        assertEquals(0, model.getUndoStackSize());
+        assertEquals(3, model.getRedoStackSize());
+
+        model.redo(3);
+        assertEquals(cleared, new TaskBook(model.getTaskBook()));
+        assertEquals(3, model.getUndoStackSize());
+    }
+
+    @Test
+    public void undo_keepsTaskIds() {
+        ReadOnlyTask deleted = model.getFilteredEventList().get(0);
+        model.addToUndoStack();
+        model.deleteTask(deleted);
+        model.undo(1);
+        assertEquals(deleted, ((TaskBook) model.getTaskBook()).getTask(deleted.getId()));
+    }
+
+    @Test
+    public void undo_taskDeletedAndAddedAgain_bothUndoneAndRedone() throws Exception {
+        TaskBook original = new TaskBook(model.getTaskBook());
+        ReadOnlyTask deleted = model.getFilteredEventList().get(0);
+
+        model.addToUndoStack();
+        model.deleteTask(deleted);
+        Task readded = new Task(Task.NO_ID, deleted.getName(), deleted.getDate(), deleted.getStart(),
+                deleted.getEnd(), deleted.getTaskCategory(), deleted.getOverdue(), deleted.getIsCompleted(),
+                deleted.getTags());
+        model.addTask(readded);
+
+        model.undo(1);
+        assertEquals(original, new TaskBook(model.getTaskBook()));
+        assertEquals(deleted, ((TaskBook) model.getTaskBook()).getTask(deleted.getId()));
+        model.redo(1);
+        assertEquals(null, ((TaskBook) model.getTaskBook()).getTask(deleted.getId()));
+        assertEquals(readded, ((TaskBook) model.getTaskBook()).getTask(readded.getId()));
+    }
+
+    @Test
+    public void commitTransaction_laterChanges_notUndoneWithStep() throws Exception {
+        ReadOnlyTask deleted = model.getFilteredEventList().get(0);
+        model.beginTransaction();
+        model.deleteTask(deleted);
+        model.commitTransaction();
+
+        ReadOnlyTask done = model.getFilteredTodoList().get(0);
+        model.markDone(done);
+        model.undo(1);
+        assertEquals(deleted, ((TaskBook) model.getTaskBook()).getTask(deleted.getId()));
+        assertTrue(((TaskBook) model.getTaskBook()).getTask(done.getId()).getIsCompleted());
+    }
+
+    @Test
+    public void endUndoStep_laterChanges_notUndoneWithStep() throws Exception {
+        model.addToUndoStack();
+        model.deleteTask(model.getFilteredEventList().get(0));
+        model.endUndoStep();
+
+        ReadOnlyTask done = model.getFilteredTodoList().get(0);
+        model.markDone(done);
+        model.undo(1);
+        assertTrue(((TaskBook) model.getTaskBook()).getTask(done.getId()).getIsCompleted());
+    }
+
+    @Test
+    public void endUndoStep_nothingChanged_stepDropped() throws Exception {
+        model.addToUndoStack();
+        model.deleteTask(model.getFilteredEventList().get(0));
+        model.endUndoStep();
+        model.addToUndoStack();
+        model.endUndoStep();
+        assertEquals(1, model.getUndoStackSize());
+    }
+
+    @Test
+    public void undo_configChanged_configRestored() {
+        model.addToUndoStack();
+        model.getConfig().setTaskBookFilePath("elsewhere.xml");
+        model.undo(1);
+        assertEquals(new Config().getTaskBookFilePath(), model.getConfig().getTaskBookFilePath());
+        model.redo(1);
+        assertEquals("elsewhere.xml", model.getConfig().getTaskBookFilePath());
+    }
+
+    @Test
+    public void addToUndoStack_pastUndoLimit_oldestStepsForgotten() {
+        model.getConfig().setUndoLimit(2);
+        for (int i = 0; i < 3; i++) {
+            model.addToUndoStack();
+            model.deleteTask(model.getFilteredEventList().get(0));
+        }
+        assertEquals(2, model.getUndoStackSize());
+    }
+
+    @Test
+    public void renameTag_inTransaction_oneEventAndOneUndoStep() throws Exception {
+        TaskBook original = new TaskBook(model.getTaskBook());
+
+        model.beginTransaction();
+        int renamed = model.renameTag(new Tag("friends"), new Tag("pals"));
+        model.commitTransaction();
+
+        assertTrue(renamed > 1);
+        assertEquals(1, eventsCollector.count(TaskBookChangedEvent.class));
+        model.updateFilteredListToShowTag(new Tag("friends"));
+        assertEquals(0, model.getFilteredEventList().size() + model.getFilteredDeadlineList().size()
+                + model.getFilteredTodoList().size());
+
+        model.undo(1);
+        assertEquals(original, new TaskBook(model.getTaskBook()));
+        assertEquals(original.getTagList(), model.getTaskBook().getTagList());
+        model.updateFilteredListToShowTag(new Tag("friends"));
+        assertEquals(renamed, model.getFilteredEventList().size() + model.getFilteredDeadlineList().size()
+                + model.getFilteredTodoList().size());
+    }
+
+    @Test
+    public void commitTransaction_unusedTag_noUndoStep() throws Exception {
+        model.beginTransaction();
+        assertEquals(0, model.renameTag(new Tag("unused"), new Tag("other")));
+        model.commitTransaction();
+        model.beginTransaction();
+        assertEquals(0, model.removeTag(new Tag("unused")));
+        model.commitTransaction();
+        assertEquals(0, model.getUndoStackSize());
+
+        model.beginTransaction();
+        model.removeTag(new Tag("friends"));
+        model.commitTransaction();
+        assertEquals(1, model.getUndoStackSize());
+    }
+
+    @Test
+    public void updateFilteredListToShowDueBetween_onlyTasksInRange() {
+        model.updateFilteredListToShowDueBetween(LocalDate.of(2023, 12, 15), LocalDate.of(2023, 12, 16));
+        for (ReadOnlyTask task : model.getFilteredEventList()) {
+            assertTrue(task.getDate().value.equals("15-12-23") || task.getDate().value.equals("16-12-23"));
+        }
+        assertEquals(2, model.getFilteredEventList().size());
+        assertEquals(2, model.getFilteredDeadlineList().size());
+        assertEquals(0, model.getFilteredTodoList().size());
+    }
+
+    @Test
+    public void updateFilteredListToShowDueBetween_tasksChangedAfterwards_viewKeptUpToDate() throws Exception {
+        LocalDate from = LocalDate.of(2023, 12, 15);
+        LocalDate to = LocalDate.of(2023, 12, 16);
+        model.updateFilteredListToShowDueBetween(from, to);
+        long version = model.getVersion();
+        model.deleteTask(model.getFilteredDeadlineList().get(0));
+        assertTrue(model.getVersion() > version);
+        assertEquals(1, model.getFilteredDeadlineList().size());
+
+        model.updateFilteredListToShowDueBetween(from, to);
+        assertEquals(1, model.getFilteredDeadlineList().size());
+        model.updateFilteredListToShowAllUncompleted();
+        model.updateFilteredListToShowDueBetween(from, to);
+        assertEquals(2, model.getFilteredEventList().size());
+        assertEquals(1, model.getFilteredDeadlineList().size());
+    }
+
+    @Test
+    public void updateFilteredListToShowQuery_fuzzyTerm_closestFirst() throws Exception {
+        TestTask lunch = new TaskBuilder().withName("Meyer lunch").withDate("011223").withStart("1200")
+                .withEnd("1300").withTaskCat(1).withIsCompleted(false).build();
+        model.addTask(new Task(lunch));
+        model.updateFilteredListToShowQuery(QueryParser.parse("~meier"));
+
+        List<String> names = new ArrayList<>();
+        model.getFilteredEventList().forEach(task -> names.add(task.getName().taskDetails));
+        assertEquals(Arrays.asList("Benson Meier", "Daniel Meier"), names.subList(0, 2));
+        assertTrue(names.subList(2, names.size()).containsAll(Arrays.asList("Meyer lunch", "Elle Meyer")));
+        assertEquals(4, names.size());
+    }
+
+    @Test
+    public void getClashingEventsAndFreeSlots_aroundTypicalEvent() throws Exception {
+        ReadOnlyTask fiona = model.getFilteredEventList().stream()
+                .filter(task -> task.getName().taskDetails.equals("Fiona Kunz")).findFirst().get();
+        assertTrue(model.getClashingEvents(fiona).isEmpty());
+
+        LocalDate day = LocalDate.of(2023, 12, 17);
+        long dayStart = TaskDateIndex.epochMinuteOf(day);
+        List<Interval> slots = model.getFreeSlots(day, day, 60);
+        assertEquals(2, slots.size());
+        assertEquals(new Interval(dayStart, dayStart + 10 * 60), slots.get(0));
+        assertEquals(new Interval(dayStart + 13 * 60, dayStart + 24 * 60), slots.get(1));
+
+        TestTask lunch = new TaskBuilder().withName("Lunch").withDate("171223").withStart("1200").withEnd("1400")
+                .withTaskCat(1).withIsCompleted(false).build();
+        assertEquals(Collections.singletonList(fiona), model.getClashingEvents(lunch));
+        Task added = new Task(lunch);
+        model.addTask(added);
+        assertEquals(Collections.singletonList(fiona), model.getClashingEvents(added));
+        assertEquals(Collections.singletonList(added), model.getClashingEvents(fiona));
+    }
+
+    @Test
+    public void getSnapshot_publishedWithEachReportedChange() throws Exception {
+        TaskBookSnapshot before = model.getSnapshot();
+        int events = before.getEventList().size();
+        ReadOnlyTask deleted = model.getFilteredEventList().get(0);
+
+        model.beginTransaction();
+        model.deleteTask(deleted);
+        assertSame(before, model.getSnapshot());
+        model.commitTransaction();
+
+        TaskBookSnapshot after = model.getSnapshot();
+        assertSame(after, ((TaskBookChangedEvent) eventsCollector.get(0)).data);
+        assertEquals(events - 1, after.getEventList().size());
+        assertEquals(events, before.getEventList().size());
+        assertTrue(before.getEventList().contains(deleted));
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.simply.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.time.LocalDateTime;
+
+import org.junit.Test;
+
+import seedu.simply.model.task.Task;
+import seedu.simply.testutil.ModelTaskBuilder;
+
+public class OverdueSchedulerTest {
+
+    private Task task(String date, String end) throws Exception {
+        return new ModelTaskBuilder().withDate(date).withEnd(end).withTaskCat(2).build();
+    }
+
+    @Test
+    public void nextTransition_beforeDate_becomesToday() throws Exception {
+        assertEquals(LocalDateTime.of(2030, 1, 15, 0, 0),
+                OverdueScheduler.nextTransition(task("150130", "1400"), LocalDateTime.of(2030, 1, 10, 9, 30)));
+    }
+
+    @Test
+    public void nextTransition_onDateBeforeEnd_becomesOverdueAfterEnd() throws Exception {
+        assertEquals(LocalDateTime.of(2030, 1, 15, 14, 1),
+                OverdueScheduler.nextTransition(task("150130", "1400"), LocalDateTime.of(2030, 1, 15, 0, 0)));
+    }
+
+    @Test
+    public void nextTransition_endOfDay_becomesOverdueNextDay() throws Exception {
+        assertEquals(LocalDateTime.of(2030, 1, 16, 0, 0),
+                OverdueScheduler.nextTransition(task("150130", "2359"), LocalDateTime.of(2030, 1, 15, 12, 0)));
+    }
+
+    @Test
+    public void nextTransition_alreadyOverdue_null() throws Exception {
+        assertNull(OverdueScheduler.nextTransition(task("150130", "1400"), LocalDateTime.of(2030, 1, 15, 14, 1)));
+    }
+
+    @Test
+    public void nextTransition_noDate_null() throws Exception {
+        Task todo = new ModelTaskBuilder().withName("todo").build();
+        assertNull(OverdueScheduler.nextTransition(todo, LocalDateTime.of(2030, 1, 15, 14, 1)));
+    }
+}
@@ -4,6 +4,7 @@ import static org.junit.Assert.*;
 
 import org.junit.Test;
 
+import seedu.simply.model.tag.Tag;
 import seedu.simply.model.tag.UniqueTagList;
 import seedu.simply.model.task.Date;
 import seedu.simply.model.task.End;
@@ -148,4 +149,20 @@ public class ReadOnlyTaskTest {
     	assertEquals(expected, todo.getIsCompleted());
     }
 
+    @Test
+    public void getSearchText_fieldChanged_rebuilt() throws Exception {
+        Task task = new Task(events);
+        assertEquals("event\n12-12-16\n1212\n1234\n[]", task.getSearchText());
+        assertSame(task.getSearchText(), task.getSearchText());
+
+        task.setName(new Name("Team Meeting"));
+        task.addTags(new UniqueTagList(new Tag("work")));
+        assertEquals("team meeting\n12-12-16\n1212\n1234\n[[work]]", task.getSearchText());
+    }
+
+    @Test
+    public void todo_getSearchText_missingFieldsEmpty() {
+        assertEquals("todo\n\n\n\n[]", todo.getSearchText());
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,106 @@
+package seedu.simply.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.simply.model.task.SortedTaskList;
+import seedu.simply.model.task.Task;
+import seedu.simply.testutil.ModelTaskBuilder;
+
+public class SortedTaskListTest {
+
+    private SortedTaskList list;
+    private List<ListChangeListener.Change<? extends Task>> changes;
+
+    @Before
+    public void setup() {
+        list = new SortedTaskList();
+        changes = new ArrayList<>();
+        list.addListener((ListChangeListener<Task>) change -> changes.add(change));
+    }
+
+    private Task event(String name, String date, String start, String end) throws Exception {
+        return new ModelTaskBuilder().withName(name).withDate(date).withStart(start).withEnd(end).withTaskCat(1)
+                .build();
+    }
+
+    @Test
+    public void insert_randomOrder_keptSorted() throws Exception {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            tasks.add(event("task" + i, String.format("%02d0117", i % 28 + 1), String.format("%02d00", i % 23),
+                    "2359"));
+        }
+        List<Task> shuffled = new ArrayList<>(tasks);
+        Collections.shuffle(shuffled, new Random(1));
+        for (Task task : shuffled) {
+            list.insert(task);
+        }
+
+        List<Task> expected = new ArrayList<>(shuffled);
+        Collections.sort(expected);
+        assertEquals(expected, list);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(i, list.indexOf(expected.get(i)));
+        }
+    }
+
+    @Test
+    public void insert_equalTasks_keepInsertionOrder() throws Exception {
+        Task first = event("first", "010117", "1000", "1100");
+        Task second = event("second", "010117", "1000", "1100");
+        list.insert(first);
+        list.insert(second);
+        assertEquals(first, list.get(0));
+        assertEquals(second, list.get(1));
+    }
+
+    @Test
+    public void insert_firesSingleAddChange() throws Exception {
+        list.insert(event("b", "020117", "1000", "1100"));
+        list.insert(event("a", "010117", "1000", "1100"));
+
+        ListChangeListener.Change<? extends Task> change = changes.get(1);
+        assertTrue(change.next());
+        assertTrue(change.wasAdded());
+        assertFalse(change.wasPermutated());
+        assertEquals(0, change.getFrom());
+        assertEquals(1, change.getAddedSize());
+    }
+
+    @Test
+    public void set_laterDate_repositioned() throws Exception {
+        Task early = event("early", "010117", "1000", "1100");
+        Task middle = event("middle", "020117", "1000", "1100");
+        list.insert(early);
+        list.insert(middle);
+
+        Task moved = event("early", "030117", "1000", "1100");
+        list.set(0, moved);
+
+        assertEquals(middle, list.get(0));
+        assertEquals(moved, list.get(1));
+        assertEquals(1, list.indexOf(moved));
+    }
+
+    @Test
+    public void remove_equalCopy_removed() throws Exception {
+        Task task = event("task", "010117", "1000", "1100");
+        list.insert(task);
+        list.insert(event("other", "020117", "1000", "1100"));
+
+        assertTrue(list.remove(new Task(task)));
+        assertEquals(1, list.size());
+        assertEquals(-1, list.indexOf(task));
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.simply.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.simply.model.TaskBookChange.CategoryMoved;
+import seedu.simply.model.TaskBookChange.TagsChanged;
+import seedu.simply.model.TaskBookChange.TaskAdded;
+import seedu.simply.model.TaskBookChange.TaskRemoved;
+import seedu.simply.model.TaskBookChange.TaskUpdated;
+import seedu.simply.model.tag.Tag;
+import seedu.simply.model.task.Task;
+import seedu.simply.testutil.ModelTaskBuilder;
+
+public class TaskBookChangeLogTest {
+
+    private Task deadline(String name) throws Exception {
+        return new ModelTaskBuilder().withName(name).withDate("010130").withEnd("1100").withTaskCat(2).build();
+    }
+
+    @Test
+    public void snapshot_changesSinceLast_oneNumberedChangePerTask() throws Exception {
+        TaskBook taskBook = new TaskBook();
+        Task kept = deadline("kept");
+        Task moved = deadline("moved");
+        taskBook.addTask(kept);
+        taskBook.addTask(moved);
+        TaskBookSnapshot first = taskBook.snapshot();
+        assertEquals(2, first.getVersion());
+
+        Task temporary = deadline("transient");
+        taskBook.addTask(temporary);
+        taskBook.removeTask(temporary);
+        taskBook.completeTask(kept);
+        taskBook.changeTask(moved, "date no date", 'D');
+        taskBook.changeTaskCategory();
+        taskBook.addTag(new Tag("work"));
+        TaskBookSnapshot second = taskBook.snapshot();
+
+        List<TaskBookChange> changes = second.changesSince(first).get();
+        assertEquals(3, changes.size());
+        assertEquals(Arrays.asList(3L, 4L, 5L),
+                Arrays.asList(changes.get(0).getVersion(), changes.get(1).getVersion(), changes.get(2).getVersion()));
+        assertTrue(changes.get(0) instanceof TaskUpdated && !(changes.get(0) instanceof CategoryMoved));
+        assertSame(kept, ((TaskUpdated) changes.get(0)).before);
+        assertTrue(((TaskUpdated) changes.get(0)).after.getIsCompleted());
+        assertTrue(changes.get(1) instanceof CategoryMoved);
+        assertEquals(3, ((CategoryMoved) changes.get(1)).after.getTaskCategory());
+        assertEquals(Collections.singletonList(new Tag("work")), ((TagsChanged) changes.get(2)).after);
+
+        assertEquals(5, second.changesSince(0).get().size());
+        assertTrue(second.changesSince(second).get().isEmpty());
+        assertFalse(second.changesSince(new TaskBook().snapshot()).isPresent());
+    }
+
+    @Test
+    public void changesBetween_forgottenChanges_nothing() throws Exception {
+        TaskBook taskBook = new TaskBook();
+        TaskBookChangeLog log = new TaskBookChangeLog(2);
+        Task task = deadline("task");
+        log.recordAdded(task);
+        log.commit(Collections.emptyList());
+        for (int i = 0; i < 5; i++) {
+            log.recordRemoved(task);
+            log.commit(Collections.emptyList());
+            log.recordAdded(task);
+            log.commit(Collections.emptyList());
+        }
+        assertEquals(11, log.getVersion());
+        assertFalse(log.changesBetween(0, 11).isPresent());
+        List<TaskBookChange> latest = log.changesBetween(9, 11).get();
+        assertTrue(latest.get(0) instanceof TaskRemoved);
+        assertTrue(latest.get(1) instanceof TaskAdded);
+        assertTrue(taskBook.getChangeLog().changesBetween(0, 0).get().isEmpty());
+    }
+}
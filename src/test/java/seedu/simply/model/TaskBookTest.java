@@ -0,0 +1,168 @@
+package seedu.simply.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.simply.model.tag.Tag;
+import seedu.simply.model.tag.UniqueTagList;
+import seedu.simply.model.task.Name;
+import seedu.simply.model.task.Task;
+import seedu.simply.testutil.ModelTaskBuilder;
+
+public class TaskBookTest {
+
+    private Task event(String name) throws Exception {
+        return new ModelTaskBuilder().withName(name).withDate("010130").withStart("1000").withEnd("1100")
+                .withTaskCat(1).build();
+    }
+
+    @Test
+    public void newTasks_distinctIds() throws Exception {
+        assertNotEquals(event("first").getId(), event("first").getId());
+    }
+
+    @Test
+    public void copy_keepsId() throws Exception {
+        Task task = event("task");
+        assertEquals(task.getId(), new Task(task).getId());
+    }
+
+    @Test
+    public void getTask_followsAddEditAndRemove() throws Exception {
+        TaskBook taskBook = new TaskBook();
+        Task task = event("meeting");
+        taskBook.addTask(task);
+        assertSame(task, taskBook.getTask(task.getId()));
+
+        Task edited = taskBook.changeTask(task, "des standup", 'E');
+        assertEquals(task.getId(), edited.getId());
+        assertSame(edited, taskBook.getTask(task.getId()));
+
+        taskBook.removeTask(task);
+        assertNull(taskBook.getTask(task.getId()));
+        assertTrue(taskBook.getEventList().isEmpty());
+    }
+
+    @Test
+    public void completeTask_equalTasks_completesTheRightOne() throws Exception {
+        TaskBook taskBook = new TaskBook();
+        Task first = event("same");
+        Task second = event("same");
+        taskBook.addTask(first);
+        second.setName(new Name("other"));
+        taskBook.addTask(second);
+        second.setName(new Name("same"));
+
+        taskBook.completeTask(second);
+        assertFalse(taskBook.getTask(first.getId()).getIsCompleted());
+        assertTrue(taskBook.getTask(second.getId()).getIsCompleted());
+    }
+
+    @Test
+    public void copyOfTaskBook_keepsIds() throws Exception {
+        TaskBook taskBook = new TaskBook();
+        Task task = event("task");
+        taskBook.addTask(task);
+        assertEquals(task, new TaskBook(taskBook).getTask(task.getId()));
+    }
+
+    @Test
+    public void renameTag_onlyTasksWithTag_renamedEverywhere() throws Exception {
+        TaskBook taskBook = new TaskBook();
+        Task tagged = event("tagged");
+        tagged.setTags(new UniqueTagList(new Tag("work"), new Tag("urgent")));
+        Task other = event("other");
+        other.setTags(new UniqueTagList(new Tag("home")));
+        taskBook.addTask(tagged);
+        taskBook.addTask(other);
+
+        assertEquals(1, taskBook.renameTag(new Tag("work"), new Tag("office")));
+        assertTrue(taskBook.getTask(tagged.getId()).getTags().contains(new Tag("office")));
+        assertFalse(taskBook.getTask(tagged.getId()).getTags().contains(new Tag("work")));
+        assertFalse(tagged.getTags().contains(new Tag("office")));
+        assertSame(other, taskBook.getTask(other.getId()));
+        assertEquals(Collections.singleton(tagged.getId()), taskBook.getTaskIdsWithTag(new Tag("office")));
+        assertTrue(taskBook.getTaskIdsWithTag(new Tag("work")).isEmpty());
+        assertTrue(taskBook.getTagList().contains(new Tag("office")));
+        assertFalse(taskBook.getTagList().contains(new Tag("work")));
+
+        assertEquals(1, taskBook.renameTag(new Tag("office"), new Tag("urgent")));
+        assertEquals(1, taskBook.getTask(tagged.getId()).getTags().getInternalList().size());
+    }
+
+    @Test
+    public void removeTag_removedFromTasksAndTagList() throws Exception {
+        TaskBook taskBook = new TaskBook();
+        Task first = event("first");
+        first.setTags(new UniqueTagList(new Tag("work")));
+        Task second = event("second");
+        second.setTags(new UniqueTagList(new Tag("work"), new Tag("home")));
+        taskBook.addTask(first);
+        taskBook.addTask(second);
+
+        assertEquals(2, taskBook.removeTag(new Tag("work")));
+        assertTrue(taskBook.getTask(first.getId()).getTags().getInternalList().isEmpty());
+        assertEquals(new UniqueTagList(new Tag("home")), taskBook.getTask(second.getId()).getTags());
+        assertEquals(Collections.singletonList(new Tag("home")), taskBook.getTagList());
+        assertTrue(taskBook.getTaskIdsWithTag(new Tag("work")).isEmpty());
+    }
+
+    @Test
+    public void editTag_onlyEditedTaskRenamed() throws Exception {
+        TaskBook taskBook = new TaskBook();
+        Task first = event("first");
+        first.setTags(new UniqueTagList(new Tag("work")));
+        Task second = event("second");
+        second.setTags(new UniqueTagList(new Tag("work")));
+        taskBook.addTask(first);
+        taskBook.addTask(second);
+
+        taskBook.changeTask(first, "tag work>office", 'E');
+        assertEquals(new UniqueTagList(new Tag("work")), taskBook.getTask(second.getId()).getTags());
+        assertEquals(Collections.singleton(second.getId()), taskBook.getTaskIdsWithTag(new Tag("work")));
+        assertEquals(Collections.singleton(first.getId()), taskBook.getTaskIdsWithTag(new Tag("office")));
+    }
+
+    @Test
+    public void snapshot_laterChanges_notSeen() throws Exception {
+        TaskBook taskBook = new TaskBook();
+        Task first = event("first");
+        first.setTags(new UniqueTagList(new Tag("work")));
+        taskBook.addTask(first);
+        TaskBookSnapshot snapshot = taskBook.snapshot();
+
+        taskBook.addTask(event("second"));
+        taskBook.changeTask(first, "des renamed", 'E');
+        taskBook.removeTag(new Tag("work"));
+
+        assertEquals(Collections.singletonList(first), snapshot.getEventList());
+        assertEquals("first", snapshot.getEventList().get(0).getName().taskDetails);
+        assertEquals(Collections.singletonList(new Tag("work")), snapshot.getTagList());
+        assertEquals(2, taskBook.getEventList().size());
+        assertEquals(1, new TaskBook(snapshot).getEventList().size());
+    }
+
+    @Test
+    public void updateOverdue_outdatedStatus_replacedByCopy() throws Exception {
+        TaskBook taskBook = new TaskBook();
+        Task past = new ModelTaskBuilder().withName("past").withDate("010120").withStart("1000").withEnd("1100")
+                .withTaskCat(1).build();
+        past.setOverdue(0);
+        taskBook.addTask(past);
+        TaskBookSnapshot snapshot = taskBook.snapshot();
+
+        assertTrue(taskBook.updateOverdue(past.getId()));
+        assertEquals(0, past.getOverdue());
+        assertSame(past, snapshot.getEventList().get(0));
+        assertEquals(1, taskBook.getTask(past.getId()).getOverdue());
+        assertFalse(taskBook.updateOverdue(past.getId()));
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.simply.model.query;
+
+import static seedu.simply.storage.XmlTaskBookStorageBenchmark.sampleTaskBook;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.simply.model.TaskBook;
+import seedu.simply.model.task.ReadOnlyTask;
+
+/**
+ * Measures the bytes allocated per task tested by keyword and name terms, against testing the fields the
+ * way they were before tasks kept their search text.
+ *
+ * Allocation is read from the JVM's per-thread counter, after a warm-up long enough for the JIT to compile
+ * the code being measured. Not a unit test; run it with {@code main}, optionally passing the number of
+ * tasks and the number of passes over them.
+ */
+public class KeywordQueryBenchmark {
+
+    private static final int DEFAULT_TASKS = 10000;
+    private static final int DEFAULT_PASSES = 200;
+
+    private static final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public static void main(String[] args) throws Exception {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_TASKS;
+        int passes = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_PASSES;
+
+        TaskBook taskBook = sampleTaskBook(size);
+        List<ReadOnlyTask> tasks = new ArrayList<>();
+        tasks.addAll(taskBook.getEventList());
+        tasks.addAll(taskBook.getDeadlineList());
+        tasks.addAll(taskBook.getTodoList());
+
+        System.out.println(tasks.size() + " tasks, " + passes + " passes");
+        String keyword = "report";
+        report("fields each time " + keyword, tasks, passes, task -> matchesByFields(task, keyword));
+        report("keyword " + keyword, tasks, passes, new KeywordQuery(keyword)::matches);
+        report("name lower-cased " + keyword, tasks, passes,
+            task -> task.getName().taskDetails.toLowerCase().contains(keyword));
+        report("name:" + keyword, tasks, passes, new NameQuery(keyword)::matches);
+    }
+
+    /** Tests the fields the way keyword terms did before tasks kept their search text. */
+    private static boolean matchesByFields(ReadOnlyTask task, String keyword) {
+        return task.getName().taskDetails.toLowerCase().contains(keyword)
+                || task.getDate().value.contains(keyword)
+                || task.getStart().value.contains(keyword)
+                || task.getEnd().value.contains(keyword)
+                || task.getTags().toString().contains(keyword);
+    }
+
+    private static void report(String name, List<ReadOnlyTask> tasks, int passes, Predicate<ReadOnlyTask> test) {
+        int matches = 0;
+        for (int i = 0; i < passes; i++) {
+            matches += count(tasks, test);
+        }
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < passes; i++) {
+            matches += count(tasks, test);
+        }
+        long nanos = System.nanoTime() - start;
+        long bytes = threads.getThreadAllocatedBytes(threadId) - before;
+        long evaluations = (long) passes * tasks.size();
+        System.out.println(String.format("%-40s %10.1f bytes %8.1f ns per task (%d matches)", name,
+                (double) bytes / evaluations, (double) nanos / evaluations, matches));
+    }
+
+    private static int count(List<ReadOnlyTask> tasks, Predicate<ReadOnlyTask> test) {
+        int matches = 0;
+        for (ReadOnlyTask task : tasks) {
+            if (test.test(task)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
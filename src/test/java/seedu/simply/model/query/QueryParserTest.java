@@ -0,0 +1,103 @@
+package seedu.simply.model.query;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.simply.commons.exceptions.IllegalValueException;
+import seedu.simply.model.TaskBook;
+import seedu.simply.model.tag.Tag;
+import seedu.simply.model.task.ReadOnlyTask;
+import seedu.simply.testutil.TypicalTestTasks;
+
+public class QueryParserTest {
+
+    private TaskBook taskBook;
+
+    @Before
+    public void setup() throws Exception {
+        taskBook = new TypicalTestTasks().getTypicalTaskBook();
+        taskBook.completeTask(taskBook.getEventList().get(1));
+    }
+
+    @Test
+    public void findIds_sameAsTestingEveryTask() throws Exception {
+        for (String text : Arrays.asList("meier", "MEIER kurz", "meier OR kurz", "meier AND NOT name:ben",
+                "tag:friends", "tag:#owesMoney meier", "date:13-12-23", "date<14.12.23", "date<=141223",
+                "date>171223 OR tag:owesmoney", "date>=171223", "is:done", "is:pending OR is:done",
+                "(alice OR benson) AND tag:friends", "NOT (meier OR date<171223)", "NOT NOT 2359", "~meir", "~frends NOT ~kunz")) {
+            Query query = QueryParser.parse(text);
+            assertEquals(text, scan(query), query.findIds(taskBook));
+        }
+    }
+
+    @Test
+    public void findIds_fuzzyTerm_closestFirst() throws Exception {
+        Query query = QueryParser.parse("~meiyer tag:friends OR ~meiyer");
+        assertTrue(query.isRanked());
+        List<String> names = new ArrayList<>();
+        for (long id : query.findIds(taskBook)) {
+            names.add(taskBook.getTask(id).getName().taskDetails.toLowerCase());
+        }
+        int firstMeyer = names.indexOf(names.stream().filter(name -> name.contains("meyer")).findFirst().get());
+        assertTrue(names.subList(0, firstMeyer).stream().allMatch(name -> name.contains("meier")));
+        assertTrue(names.subList(firstMeyer, names.size()).stream().allMatch(name -> name.contains("meyer")));
+    }
+
+    @Test
+    public void parse_defaultsToTasksNotDone() throws Exception {
+        ReadOnlyTask done = taskBook.getEventList().stream().filter(ReadOnlyTask::getIsCompleted).findFirst().get();
+        String name = done.getName().taskDetails.split(" ")[0];
+        assertTrue(!QueryParser.parse(name).findIds(taskBook).contains(done.getId()));
+        assertTrue(QueryParser.parse(name + " is:done").findIds(taskBook).contains(done.getId()));
+    }
+
+    @Test
+    public void candidateIds_usesIndexesWherePossible() throws Exception {
+        assertNotNull(QueryParser.parse("tag:friends").candidateIds(taskBook));
+        assertNotNull(QueryParser.parse("date<141223 NOT meier").candidateIds(taskBook));
+        assertNull(QueryParser.parse("NOT meier").candidateIds(taskBook));
+        assertNull(QueryParser.parse("meier OR NOT kurz").candidateIds(taskBook));
+
+        Set<Long> candidates = QueryParser.parse("tag:owesmoney date:131223").candidateIds(taskBook);
+        assertTrue(candidates.size() <= taskBook.getTaskIdsWithTag(new Tag("owesmoney")).size());
+    }
+
+    @Test
+    public void parse_invalidQuery_throws() {
+        for (String text : Arrays.asList("", "(meier", "meier)", "meier OR", "AND meier", "NOT", "name:",
+                "tag:#", "tag:no-tag", "~", "date:notadate", "date<", "is:maybe", "name<meier")) {
+            try {
+                QueryParser.parse(text);
+                fail(text);
+            } catch (IllegalValueException expected) {
+                // expected
+            }
+        }
+    }
+
+    /** Finds the tasks by testing every task against the query. */
+    private Set<Long> scan(Query query) {
+        List<ReadOnlyTask> tasks = new ArrayList<>(taskBook.getEventList());
+        tasks.addAll(taskBook.getDeadlineList());
+        tasks.addAll(taskBook.getTodoList());
+        Set<Long> ids = new HashSet<>();
+        for (ReadOnlyTask task : tasks) {
+            if (query.matches(task)) {
+                ids.add(task.getId());
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.simply.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import seedu.simply.testutil.ModelTaskBuilder;
+
+public class EventIntervalTreeTest {
+
+    private final EventIntervalTree tree = new EventIntervalTree();
+
+    private Task event(String date, String start, String end) throws Exception {
+        return event(date, start, end, false);
+    }
+
+    private Task event(String date, String start, String end, boolean isCompleted) throws Exception {
+        return new ModelTaskBuilder().withName("event " + date + " " + start).withDate(date).withStart(start)
+                .withEnd(end).withTaskCat(1).withIsCompleted(isCompleted).build();
+    }
+
+    private long minuteOf(String date, int hour, int minute) throws Exception {
+        return TaskDateIndex.epochMinuteOf(new Date(date).toLocalDate()) + hour * 60 + minute;
+    }
+
+    @Test
+    public void overlapping_touchingEventsDoNotClash() throws Exception {
+        Task morning = event("020130", "0900", "1000");
+        Task noon = event("020130", "1000", "1300");
+        Task done = event("020130", "0930", "1100", true);
+        for (Task task : Arrays.asList(noon, morning, done)) {
+            tree.add(task);
+        }
+
+        assertNull(EventIntervalTree.intervalOf(done));
+        assertEquals(2, tree.size());
+        assertEquals(Collections.singletonList(morning.getId()),
+                tree.overlapping(minuteOf("020130", 9, 0), minuteOf("020130", 10, 0)));
+        assertEquals(Arrays.asList(morning.getId(), noon.getId()),
+                tree.overlapping(minuteOf("020130", 9, 59), minuteOf("020130", 10, 1)));
+        assertTrue(tree.overlapping(minuteOf("020130", 13, 0), minuteOf("020130", 14, 0)).isEmpty());
+    }
+
+    @Test
+    public void freeSlots_gapsBetweenEvents() throws Exception {
+        tree.add(event("020130", "0900", "1000"));
+        tree.add(event("020130", "0930", "1200"));
+        tree.add(event("020130", "1230", "1300"));
+        long dayStart = minuteOf("020130", 0, 0);
+        long dayEnd = minuteOf("030130", 0, 0);
+
+        assertEquals(Arrays.asList(new EventIntervalTree.Interval(dayStart, minuteOf("020130", 9, 0)),
+                new EventIntervalTree.Interval(minuteOf("020130", 13, 0), dayEnd)),
+                tree.freeSlots(dayStart, dayEnd, 60));
+        assertEquals(3, tree.freeSlots(dayStart, dayEnd, 30).size());
+    }
+
+    @Test
+    public void overlappingAndFreeSlots_sameAsScanning() throws Exception {
+        Random random = new Random(42);
+        Map<Long, EventIntervalTree.Interval> intervals = new HashMap<>();
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            int startHour = random.nextInt(20);
+            String date = String.format("%02d0130", 1 + random.nextInt(5));
+            Task task = event(date, String.format("%02d00", startHour),
+                    String.format("%02d%02d", startHour + 1 + random.nextInt(3), random.nextInt(60)));
+            tasks.add(task);
+            tree.add(task);
+            intervals.put(task.getId(), EventIntervalTree.intervalOf(task));
+        }
+        for (int i = 0; i < 50; i++) {
+            Task removed = tasks.get(random.nextInt(tasks.size()));
+            tree.remove(removed.getId());
+            intervals.remove(removed.getId());
+        }
+        assertEquals(intervals.size(), tree.size());
+
+        long first = minuteOf("010130", 0, 0);
+        for (int i = 0; i < 100; i++) {
+            long start = first + random.nextInt(6 * 24 * 60);
+            long end = start + random.nextInt(600);
+            List<Long> expected = new ArrayList<>();
+            for (Map.Entry<Long, EventIntervalTree.Interval> entry : intervals.entrySet()) {
+                if (entry.getValue().start < end && entry.getValue().end > start) {
+                    expected.add(entry.getKey());
+                }
+            }
+            List<Long> actual = tree.overlapping(start, end);
+            Collections.sort(expected);
+            Collections.sort(actual);
+            assertEquals(expected, actual);
+
+            for (EventIntervalTree.Interval slot : tree.freeSlots(start, end, 15)) {
+                assertTrue(slot.end - slot.start >= 15);
+                assertTrue(tree.overlapping(slot.start, slot.end).isEmpty());
+            }
+        }
+    }
+}
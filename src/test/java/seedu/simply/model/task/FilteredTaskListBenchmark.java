@@ -0,0 +1,57 @@
+package seedu.simply.model.task;
+
+import static seedu.simply.storage.XmlTaskBookStorageBenchmark.report;
+import static seedu.simply.storage.XmlTaskBookStorageBenchmark.time;
+
+import java.util.function.Predicate;
+
+import javafx.collections.transformation.FilteredList;
+import seedu.simply.model.tag.UniqueTagList;
+
+/**
+ * Times adding and removing one task under a filter in a large list, for {@link FilteredTaskList} against
+ * the {@link FilteredList} it replaced.
+ *
+ * Not a unit test; run it with {@code main}, optionally passing the number of tasks and the number of runs.
+ */
+public class FilteredTaskListBenchmark {
+
+    private static final int DEFAULT_TASKS = 100000;
+    private static final int DEFAULT_RUNS = 2000;
+    private static final Predicate<Task> PENDING = task -> !task.getIsCompleted();
+
+    public static void main(String[] args) throws Exception {
+        int tasks = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_TASKS;
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_RUNS;
+        System.out.println(tasks + " tasks, " + runs + " runs of adding and removing one task");
+
+        SortedTaskList filteredListSource = sampleList(tasks);
+        FilteredList<Task> filteredList = new FilteredList<>(filteredListSource, PENDING);
+        Task toAdd = task(tasks / 2);
+        report("FilteredList", time(() -> addAndRemove(filteredListSource, toAdd), runs));
+        assert filteredList.size() > 0;
+
+        SortedTaskList filteredTaskListSource = sampleList(tasks);
+        FilteredTaskList filteredTaskList = new FilteredTaskList(filteredTaskListSource);
+        filteredTaskList.setPredicate(PENDING);
+        report("FilteredTaskList", time(() -> addAndRemove(filteredTaskListSource, toAdd), runs));
+    }
+
+    private static SortedTaskList sampleList(int tasks) throws Exception {
+        SortedTaskList list = new SortedTaskList();
+        for (int i = 0; i < tasks; i++) {
+            list.add(task(i));
+        }
+        return list;
+    }
+
+    private static Task task(int i) throws Exception {
+        return new Task(new Name("Task " + i), new Date(String.format("%02d%02d30", i % 28 + 1, i % 12 + 1)),
+                new Start("no start"), new End("2359"), 2, 0, i % 5 == 0, new UniqueTagList());
+    }
+
+    private static void addAndRemove(SortedTaskList source, Task task) {
+        source.add(task);
+        source.remove(task);
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.simply.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.transformation.FilteredList;
+import seedu.simply.testutil.ModelTaskBuilder;
+
+public class FilteredTaskListTest {
+
+    private final SortedTaskList source = new SortedTaskList();
+    private final FilteredTaskList view = new FilteredTaskList(source);
+    private final FilteredList<Task> expected = new FilteredList<>(source);
+
+    private Task task(int day, boolean isCompleted) throws Exception {
+        return new ModelTaskBuilder().withName("task " + day).withDate(String.format("%02d0130", day))
+                .withEnd("2359").withTaskCat(2).withIsCompleted(isCompleted).build();
+    }
+
+    @Test
+    public void sourceChanges_sameAsFilteredList() throws Exception {
+        Random random = new Random(7);
+        Predicate<Task> pending = task -> !task.getIsCompleted();
+        view.setPredicate(pending);
+        expected.setPredicate(pending);
+        for (int i = 0; i < 500; i++) {
+            int operation = random.nextInt(4);
+            if (operation < 2 || source.isEmpty()) {
+                source.add(task(1 + random.nextInt(5), random.nextInt(3) == 0));
+            } else if (operation == 2) {
+                source.remove(random.nextInt(source.size()));
+            } else {
+                int index = random.nextInt(source.size());
+                Task replacement = new Task(source.get(index));
+                replacement.setCompleted(!replacement.getIsCompleted());
+                source.set(index, replacement);
+            }
+            assertEquals(new ArrayList<>(expected), new ArrayList<>(view));
+        }
+
+        Predicate<Task> done = Task::getIsCompleted;
+        view.setPredicate(done);
+        expected.setPredicate(done);
+        assertEquals(new ArrayList<>(expected), new ArrayList<>(view));
+        view.setPredicate(null);
+        assertEquals(new ArrayList<>(source), new ArrayList<>(view));
+    }
+
+    @Test
+    public void setPredicate_withOrder_shownInThatOrderAsSourceChanges() throws Exception {
+        for (int day = 1; day <= 5; day++) {
+            source.add(task(day, false));
+        }
+        Comparator<Task> latestFirst = Comparator.reverseOrder();
+        view.setPredicate(task -> !task.getIsCompleted(), latestFirst);
+        source.add(task(3, false));
+        source.add(task(6, true));
+        source.remove(0);
+
+        List<Task> sorted = new ArrayList<>(source);
+        sorted.removeIf(Task::getIsCompleted);
+        sorted.sort(latestFirst);
+        assertEquals(sorted, new ArrayList<>(view));
+        assertEquals(0, view.indexOf(new Task(source.get(source.size() - 2))));
+    }
+
+    @Test
+    public void add_listenersHearOfOneTask() throws Exception {
+        for (int day = 1; day <= 9; day++) {
+            source.add(task(day, day % 2 == 0));
+        }
+        view.setPredicate(task -> !task.getIsCompleted());
+        List<String> changes = new ArrayList<>();
+        view.addListener((ListChangeListener<Task>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + "+" + change.getAddedSize() + "-" + change.getRemovedSize());
+            }
+        });
+
+        source.add(task(4, false));
+        source.add(task(5, true));
+        assertEquals(1, changes.size());
+        assertEquals("2+1-0", changes.get(0));
+        assertTrue(view.get(2).getName().taskDetails.equals("task 4"));
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.simply.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.simply.testutil.ModelTaskBuilder;
+
+public class TaskDateIndexTest {
+
+    private final TaskDateIndex index = new TaskDateIndex();
+
+    private Task deadline(String date, String end) throws Exception {
+        return new ModelTaskBuilder().withName("deadline " + date + " " + end).withDate(date).withEnd(end)
+                .withTaskCat(2).build();
+    }
+
+    private Task todo() throws Exception {
+        return new ModelTaskBuilder().withName("todo").build();
+    }
+
+    private long startOf(String date) throws Exception {
+        return TaskDateIndex.epochMinuteOf(new Date(date).toLocalDate());
+    }
+
+    @Test
+    public void idsBetween_inclusiveRangeInOrder() throws Exception {
+        Task early = deadline("020130", "0900");
+        Task late = deadline("020130", "2359");
+        Task nextDay = deadline("030130", "0000");
+        Task before = deadline("010130", "2359");
+        for (Task task : Arrays.asList(late, nextDay, before, early, todo())) {
+            index.add(task);
+        }
+
+        assertEquals(Arrays.asList(early.getId(), late.getId()),
+                index.idsBetween(startOf("020130"), startOf("030130") - 1));
+        assertEquals(Arrays.asList(before.getId(), early.getId(), late.getId(), nextDay.getId()),
+                index.idsBetween(startOf("010130"), startOf("040130")));
+        assertEquals(Collections.singletonList(before.getId()), index.idsBefore(startOf("020130")));
+        assertTrue(index.idsBetween(startOf("030130"), startOf("010130")).isEmpty());
+    }
+
+    @Test
+    public void add_sameIdAgain_reindexed() throws Exception {
+        Task task = deadline("020130", "0900");
+        index.add(task);
+        Task moved = new Task(task);
+        moved.setDate(new Date("050130"));
+        index.add(moved);
+
+        assertTrue(index.idsBetween(startOf("020130"), startOf("030130")).isEmpty());
+        assertEquals(Collections.singletonList(task.getId()), index.idsBefore(startOf("060130")));
+
+        index.remove(task.getId());
+        assertTrue(index.idsBefore(Long.MAX_VALUE).isEmpty());
+    }
+
+    @Test
+    public void date_comparesByDay() throws Exception {
+        assertTrue(new Date("311229").compareTo(new Date("010130")) < 0);
+        assertTrue(new Date("no date").compareTo(new Date("010130")) < 0);
+        assertEquals(0, new Date("01.01.30").compareTo(new Date("010130")));
+        assertEquals(LocalDate.of(2030, 1, 1), new Date("010130").toLocalDate());
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.simply.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.simply.model.TaskBook;
+import seedu.simply.testutil.TypicalTestTasks;
+
+public class TaskFuzzyIndexTest {
+
+    private TaskBook taskBook;
+    private TaskFuzzyIndex index;
+
+    @Before
+    public void setup() {
+        taskBook = new TypicalTestTasks().getTypicalTaskBook();
+        index = new TaskFuzzyIndex();
+        for (ReadOnlyTask task : allTasks()) {
+            index.add(task);
+        }
+    }
+
+    @Test
+    public void editDistance_countsSwapsAsOneEdit() {
+        assertEquals(0, TaskFuzzyIndex.editDistance("meier", "meier", 2));
+        assertEquals(1, TaskFuzzyIndex.editDistance("meier", "meir", 2));
+        assertEquals(1, TaskFuzzyIndex.editDistance("meier", "meeir", 2));
+        assertEquals(2, TaskFuzzyIndex.editDistance("meier", "mayer", 2));
+        assertEquals(3, TaskFuzzyIndex.editDistance("meier", "pauline", 2));
+    }
+
+    @Test
+    public void closestWords_rankedByDistance() {
+        assertEquals(Arrays.asList("meier", "meyer"), index.closestWords("Meiyer"));
+        assertEquals(Arrays.asList("meier"), index.closestWords("Meir"));
+        assertEquals(Arrays.asList("friends"), index.closestWords("freinds"));
+        assertTrue(index.closestWords("zzzzzz").isEmpty());
+    }
+
+    @Test
+    public void find_sameAsTestingEveryTask() {
+        for (String word : Arrays.asList("meir", "Meyer", "kunz", "kurtz", "pualine", "owesmony", "frends", "ben",
+                "be", "george", "xyz")) {
+            assertEquals(word, scan(word), index.find(word));
+        }
+    }
+
+    @Test
+    public void remove_noLongerFound() {
+        for (ReadOnlyTask task : allTasks()) {
+            index.remove(task.getId());
+        }
+        assertTrue(index.find("meier").isEmpty());
+        assertTrue(index.closestWords("friends").isEmpty());
+    }
+
+    private List<ReadOnlyTask> allTasks() {
+        List<ReadOnlyTask> tasks = new ArrayList<>(taskBook.getEventList());
+        tasks.addAll(taskBook.getDeadlineList());
+        tasks.addAll(taskBook.getTodoList());
+        return tasks;
+    }
+
+    private Set<Long> scan(String word) {
+        Set<Long> ids = new HashSet<>();
+        for (ReadOnlyTask task : allTasks()) {
+            if (TaskFuzzyIndex.matches(task, word)) {
+                ids.add(task.getId());
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.simply.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.simply.model.TaskBook;
+import seedu.simply.testutil.TypicalTestTasks;
+
+public class TaskSearchIndexTest {
+
+    private TaskBook taskBook;
+
+    @Before
+    public void setup() {
+        taskBook = new TypicalTestTasks().getTypicalTaskBook();
+    }
+
+    @Test
+    public void findTaskIds_sameAsScanning() {
+        for (String keyword : Arrays.asList("meier", "MEIER", "ei", "e", "1223", "12-23", "no", "end", "no date",
+                "[friends]", "friends", "ends]", "]", "2359", "xyz", "ali pauline", "0000")) {
+            for (String part : keyword.split(" ")) {
+                assertFindsAsScanning(Collections.singleton(part));
+            }
+        }
+        assertFindsAsScanning(new HashSet<>(Arrays.asList("kurz", "best", "owesmoney")));
+    }
+
+    @Test
+    public void findTaskIds_keywordWithSpaces_tasksWithEveryWord() {
+        Set<Long> expected = new HashSet<>(scan(Collections.singleton("alice")));
+        expected.retainAll(scan(Collections.singleton("pauline")));
+        assertTrue(expected.size() > 0);
+        assertEquals(expected, taskBook.findTaskIds(Collections.singleton(" alice  pauline ")));
+        assertEquals(0, taskBook.findTaskIds(Collections.singleton("alice xyz")).size());
+    }
+
+    @Test
+    public void findTaskIds_afterEditAndRemove_upToDate() throws Exception {
+        ReadOnlyTask alice = taskBook.getEventList().get(0);
+        assertTrue(taskBook.findTaskIds(Collections.singleton("alice")).contains(alice.getId()));
+
+        long version = taskBook.getSearchIndexVersion();
+        Task edited = taskBook.changeTask(alice, "des Zebra Crossing 0000", 'E');
+        assertTrue(version != taskBook.getSearchIndexVersion());
+        assertEquals(0, taskBook.findTaskIds(Collections.singleton("alice")).size());
+        assertEquals(Collections.singleton(edited.getId()), taskBook.findTaskIds(Collections.singleton("zebr")));
+        assertFindsAsScanning(Collections.singleton("pauline"));
+
+        taskBook.removeTask(edited);
+        assertEquals(0, taskBook.findTaskIds(Collections.singleton("zebra")).size());
+        assertFindsAsScanning(Collections.singleton("a"));
+    }
+
+    private void assertFindsAsScanning(Set<String> keywords) {
+        assertEquals(keywords.toString(), scan(keywords), taskBook.findTaskIds(keywords));
+    }
+
+    /** Finds the tasks as a full scan of the fields would. */
+    private Set<Long> scan(Set<String> keywords) {
+        List<ReadOnlyTask> tasks = new ArrayList<>(taskBook.getEventList());
+        tasks.addAll(taskBook.getDeadlineList());
+        tasks.addAll(taskBook.getTodoList());
+        Set<Long> ids = new HashSet<>();
+        for (ReadOnlyTask task : tasks) {
+            for (String keyword : keywords) {
+                String query = keyword.toLowerCase();
+                if (task.getName().taskDetails.toLowerCase().contains(query)
+                        || task.getDate().value.contains(query)
+                        || task.getStart().value.contains(query)
+                        || task.getEnd().value.contains(query)
+                        || task.getTags().toString().contains(query)) {
+                    ids.add(task.getId());
+                }
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.simply.model.task;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.simply.commons.exceptions.IllegalValueException;
+
+public class TimeOfTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void of_lastMinuteOfDay_sameAsParsed() throws Exception {
+        assertEquals(new Start("2359").value, Start.of(2359).value);
+        assertEquals(new End("2359").value, End.of(2359).value);
+        assertEquals(new End("0000").value, End.of(0).value);
+    }
+
+    @Test
+    public void startOf_hour24_exceptionThrown() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        Start.of(2400);
+    }
+
+    @Test
+    public void endOf_hour24_exceptionThrown() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        End.of(2459);
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.simply.storage;
+
+import static seedu.simply.storage.XmlTaskBookStorageBenchmark.printSetup;
+import static seedu.simply.storage.XmlTaskBookStorageBenchmark.report;
+import static seedu.simply.storage.XmlTaskBookStorageBenchmark.sampleTaskBook;
+import static seedu.simply.storage.XmlTaskBookStorageBenchmark.time;
+
+import java.io.File;
+import java.io.IOException;
+
+import seedu.simply.model.TaskBook;
+
+/**
+ * Compares saving and loading a large task book with {@link BinaryTaskBookStorage} against
+ * {@link XmlTaskBookStorage} and {@link StaxTaskBookStorage}, and the size of the files they write.
+ *
+ * Not a unit test; run it with {@code main}, optionally passing the number of tasks and the number of runs.
+ */
+public class BinaryTaskBookStorageBenchmark {
+
+    private static final int DEFAULT_TASKS = 100000;
+    private static final int DEFAULT_RUNS = 5;
+
+    public static void main(String[] args) throws Exception {
+        int tasks = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_TASKS;
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_RUNS;
+
+        TaskBook taskBook = sampleTaskBook(tasks);
+        printSetup(tasks + " tasks, " + runs + " runs");
+        benchmark("XmlTaskBookStorage", new XmlTaskBookStorage(tempFile(".xml")), taskBook, runs);
+        benchmark("StaxTaskBookStorage", new StaxTaskBookStorage(tempFile(".xml")), taskBook, runs);
+        benchmark("BinaryTaskBookStorage", new BinaryTaskBookStorage(tempFile(".bin")), taskBook, runs);
+    }
+
+    private static void benchmark(String name, TaskBookStorage storage, TaskBook taskBook, int runs) {
+        report(name + ".saveTaskBook", time(() -> {
+            try {
+                storage.saveTaskBook(taskBook);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }, runs));
+        report(name + ".readTaskBook", time(() -> {
+            try {
+                new TaskBook(storage.readTaskBook().get());
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }, runs));
+        System.out.println(String.format("%-40s %10d KB", name + " file size",
+                new File(storage.getTaskBookFilePath()).length() / 1024));
+    }
+
+    private static String tempFile(String suffix) throws IOException {
+        File file = File.createTempFile("benchmark", suffix);
+        file.deleteOnExit();
+        return file.getPath();
+    }
+}
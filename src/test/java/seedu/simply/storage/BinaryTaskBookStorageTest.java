@@ -0,0 +1,118 @@
+package seedu.simply.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.simply.commons.exceptions.DataConversionException;
+import seedu.simply.commons.util.FileUtil;
+import seedu.simply.model.ReadOnlyTaskBook;
+import seedu.simply.model.TaskBook;
+import seedu.simply.model.task.Task;
+import seedu.simply.testutil.TypicalTestTasks;
+
+public class BinaryTaskBookStorageTest {
+    private static final String TEST_DATA_FOLDER = FileUtil.getPath("./src/test/data/XmlTaskBookStorageTest/");
+    private static final String SAMPLE_DATA_FILE = FileUtil.getPath("./src/test/data/ManualTesting/SampleData.xml");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private String getTempFilePath(String fileName) {
+        return testFolder.getRoot().getPath() + File.separator + fileName;
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryTaskBookStorage("dummy").readTaskBook(TEST_DATA_FOLDER + "NonExistentFile.bin")
+                .isPresent());
+    }
+
+    @Test
+    public void read_xmlFile_exceptionThrown() throws Exception {
+        thrown.expect(DataConversionException.class);
+        new BinaryTaskBookStorage("dummy").readTaskBook(SAMPLE_DATA_FILE);
+    }
+
+    @Test
+    public void readAndSaveTaskBook_allInOrder_success() throws Exception {
+        String filePath = getTempFilePath("TempTaskBook.bin");
+        TaskBook original = new TypicalTestTasks().getTypicalTaskBook();
+        BinaryTaskBookStorage storage = new BinaryTaskBookStorage(filePath);
+
+        storage.saveTaskBook(original);
+        ReadOnlyTaskBook readBack = storage.readTaskBook().get();
+        assertSameTasks(original, readBack);
+        for (int i = 0; i < original.getEventList().size(); i++) {
+            assertEquals(original.getEventList().get(i).getId(), readBack.getEventList().get(i).getId());
+        }
+
+        original.addTask(new Task(TypicalTestTasks.hoon));
+        original.removeTask(original.getEventList().get(0));
+        storage.saveTaskBook(original);
+        assertSameTasks(original, storage.readTaskBook().get());
+    }
+
+    @Test
+    public void read_truncatedFile_exceptionThrown() throws Exception {
+        String filePath = getTempFilePath("Truncated.bin");
+        new BinaryTaskBookStorage(filePath).saveTaskBook(new TypicalTestTasks().getTypicalTaskBook());
+        try (RandomAccessFile file = new RandomAccessFile(filePath, "rw")) {
+            file.setLength(file.length() / 2);
+        }
+        thrown.expect(DataConversionException.class);
+        new BinaryTaskBookStorage(filePath).readTaskBook();
+    }
+
+    @Test
+    public void read_countLargerThanFile_exceptionThrown() throws Exception {
+        String filePath = getTempFilePath("HugeCount.bin");
+        try (RandomAccessFile file = new RandomAccessFile(filePath, "rw")) {
+            file.write(new byte[] {'S', 'M', 'T', 'B', 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07});
+        }
+        thrown.expect(DataConversionException.class);
+        new BinaryTaskBookStorage(filePath).readTaskBook();
+    }
+
+    @Test
+    public void detectTaskBookStorage_byFirstBytes() throws Exception {
+        String filePath = getTempFilePath("Detected.bin");
+        assertTrue(StorageManager.detectTaskBookStorage(filePath) instanceof StaxTaskBookStorage);
+        new BinaryTaskBookStorage(filePath).saveTaskBook(new TaskBook());
+        assertTrue(StorageManager.detectTaskBookStorage(filePath) instanceof BinaryTaskBookStorage);
+        assertTrue(StorageManager.detectTaskBookStorage(SAMPLE_DATA_FILE) instanceof StaxTaskBookStorage);
+    }
+
+    @Test
+    public void convert_xmlToBinaryAndBack_sameTasks() throws Exception {
+        String binaryPath = getTempFilePath("Converted.bin");
+        String xmlPath = getTempFilePath("Converted.xml");
+        ReadOnlyTaskBook expected = new TaskBook(new StaxTaskBookStorage(SAMPLE_DATA_FILE).readTaskBook().get());
+
+        TaskBookConverter.convert(SAMPLE_DATA_FILE, binaryPath, "binary");
+        assertTrue(BinaryTaskBookStorage.isBinaryFile(binaryPath));
+        TaskBookConverter.convert(binaryPath, xmlPath, "xml");
+        assertFalse(BinaryTaskBookStorage.isBinaryFile(xmlPath));
+
+        assertSameTasks(expected, new BinaryTaskBookStorage(binaryPath).readTaskBook().get());
+        assertSameTasks(expected, new StaxTaskBookStorage(xmlPath).readTaskBook().get());
+    }
+
+    private void assertSameTasks(ReadOnlyTaskBook expected, ReadOnlyTaskBook actual) {
+        assertEquals(expected.getEventList(), actual.getEventList());
+        assertEquals(expected.getDeadlineList(), actual.getDeadlineList());
+        assertEquals(expected.getTodoList(), actual.getTodoList());
+        assertEquals(expected.getTagList(), actual.getTagList());
+    }
+}
@@ -0,0 +1,158 @@
+package seedu.simply.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.simply.commons.util.FileUtil;
+import seedu.simply.model.TaskBook;
+import seedu.simply.model.task.Task;
+import seedu.simply.testutil.TypicalTestTasks;
+
+public class JournaledTaskBookStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private String filePath;
+    private File journalFile;
+
+    @Before
+    public void setup() {
+        filePath = testFolder.getRoot().getPath() + File.separator + "TempTaskBook.xml";
+        journalFile = new File(filePath + ".journal");
+    }
+
+    private JournaledTaskBookStorage newStorage() {
+        return new JournaledTaskBookStorage(new StaxTaskBookStorage(filePath));
+    }
+
+    private TaskBook readWithNewStorage() throws Exception {
+        return new TaskBook(newStorage().readTaskBook().get());
+    }
+
+    @Test
+    public void read_missingFiles_emptyResult() throws Exception {
+        assertFalse(newStorage().readTaskBook().isPresent());
+    }
+
+    @Test
+    public void save_changesAfterRead_onlyJournalWritten() throws Exception {
+        TaskBook original = new TypicalTestTasks().getTypicalTaskBook();
+        JournaledTaskBookStorage storage = newStorage();
+        storage.saveTaskBook(original);
+        String snapshot = FileUtil.readFromFile(new File(filePath));
+        assertFalse(journalFile.exists());
+
+        original.addTask(new Task(TypicalTestTasks.hoon));
+        original.removeTask(original.getEventList().get(0));
+        storage.saveTaskBook(original);
+
+        assertEquals(snapshot, FileUtil.readFromFile(new File(filePath)));
+        assertTrue(journalFile.length() > 0);
+        assertEquals(original, readWithNewStorage());
+    }
+
+    @Test
+    public void save_noChanges_nothingAppended() throws Exception {
+        TaskBook original = new TypicalTestTasks().getTypicalTaskBook();
+        JournaledTaskBookStorage storage = newStorage();
+        storage.saveTaskBook(original);
+        storage.saveTaskBook(new TaskBook(original));
+        assertFalse(journalFile.exists());
+    }
+
+    @Test
+    public void save_changedTask_replacedById() throws Exception {
+        TaskBook original = new TypicalTestTasks().getTypicalTaskBook();
+        JournaledTaskBookStorage storage = newStorage();
+        storage.saveTaskBook(original);
+
+        Task completed = original.getEvents().get(0);
+        original.completeTask(completed);
+        storage.saveTaskBook(original);
+
+        TaskBook readBack = readWithNewStorage();
+        assertEquals(original, readBack);
+        assertTrue(readBack.getTask(completed.getId()).getIsCompleted());
+    }
+
+    @Test
+    public void save_modelSnapshots_changesReplayedFromChangeLog() throws Exception {
+        TaskBook original = new TypicalTestTasks().getTypicalTaskBook();
+        JournaledTaskBookStorage storage = newStorage();
+        storage.saveTaskBook(original.snapshot());
+
+        original.addTask(new Task(TypicalTestTasks.hoon));
+        original.removeTask(original.getEventList().get(0));
+        storage.saveTaskBook(original.snapshot());
+        original.completeTask(original.getDeadlines().get(0));
+        original.changeTask(original.getDeadlines().get(1), "date no date", 'D');
+        original.changeTaskCategory();
+        storage.saveTaskBook(original.snapshot());
+        long journalLength = journalFile.length();
+        storage.saveTaskBook(original.snapshot());
+
+        assertEquals(journalLength, journalFile.length());
+        assertEquals(original, readWithNewStorage());
+    }
+
+    @Test
+    public void compact_journalFoldedIntoSnapshot() throws Exception {
+        TaskBook original = new TypicalTestTasks().getTypicalTaskBook();
+        JournaledTaskBookStorage storage = newStorage();
+        storage.saveTaskBook(original);
+        original.addTask(new Task(TypicalTestTasks.hoon));
+        storage.saveTaskBook(original);
+
+        storage.compact();
+
+        assertFalse(journalFile.exists());
+        assertEquals(original, new TaskBook(new StaxTaskBookStorage(filePath).readTaskBook().get()));
+    }
+
+    @Test
+    public void save_journalPastThreshold_compactedInBackground() throws Exception {
+        TaskBook original = new TypicalTestTasks().getTypicalTaskBook();
+        JournaledTaskBookStorage storage = new JournaledTaskBookStorage(new StaxTaskBookStorage(filePath), 1,
+                Long.MAX_VALUE);
+        storage.saveTaskBook(original);
+        original.addTask(new Task(TypicalTestTasks.hoon));
+        storage.saveTaskBook(original);
+        original.addTask(new Task(TypicalTestTasks.ida));
+        storage.saveTaskBook(original);
+
+        // waits for the background compaction queued by the saves
+        storage.compact();
+        assertFalse(journalFile.exists());
+        assertEquals(original, new TaskBook(new StaxTaskBookStorage(filePath).readTaskBook().get()));
+    }
+
+    @Test
+    public void read_incompleteLastEntry_entryDropped() throws Exception {
+        TaskBook original = new TypicalTestTasks().getTypicalTaskBook();
+        JournaledTaskBookStorage storage = newStorage();
+        storage.saveTaskBook(original);
+        original.addTask(new Task(TypicalTestTasks.hoon));
+        storage.saveTaskBook(original);
+        TaskBook expected = new TaskBook(original);
+        long goodLength = journalFile.length();
+
+        original.addTask(new Task(TypicalTestTasks.ida));
+        storage.saveTaskBook(original);
+        try (RandomAccessFile journal = new RandomAccessFile(journalFile, "rw")) {
+            journal.setLength(journal.length() - 3);
+        }
+
+        assertEquals(expected, readWithNewStorage());
+        assertEquals(goodLength, journalFile.length());
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.simply.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.File;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.simply.commons.exceptions.DataConversionException;
+import seedu.simply.commons.util.FileUtil;
+import seedu.simply.model.ReadOnlyTaskBook;
+import seedu.simply.model.TaskBook;
+import seedu.simply.model.task.Task;
+import seedu.simply.testutil.TypicalTestTasks;
+
+public class StaxTaskBookStorageTest {
+    private static final String TEST_DATA_FOLDER = FileUtil.getPath("./src/test/data/XmlTaskBookStorageTest/");
+    private static final String SAMPLE_DATA_FILE = FileUtil.getPath("./src/test/data/ManualTesting/SampleData.xml");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new StaxTaskBookStorage("dummy").readTaskBook(TEST_DATA_FOLDER + "NonExistentFile.xml")
+                .isPresent());
+    }
+
+    @Test
+    public void read_notXmlFormat_exceptionThrown() throws Exception {
+        thrown.expect(DataConversionException.class);
+        new StaxTaskBookStorage("dummy").readTaskBook(TEST_DATA_FOLDER + "NotXmlFormatTaskBook.xml");
+    }
+
+    @Test
+    public void readAndSaveTaskBook_allInOrder_success() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "TempTaskBook.xml";
+        TaskBook original = new TypicalTestTasks().getTypicalTaskBook();
+        StaxTaskBookStorage storage = new StaxTaskBookStorage(filePath);
+
+        storage.saveTaskBook(original);
+        ReadOnlyTaskBook readBack = storage.readTaskBook().get();
+        assertSameTasks(original, readBack);
+        assertSameIds(original, readBack);
+
+        original.addTask(new Task(TypicalTestTasks.hoon));
+        original.removeTask(new Task(TypicalTestTasks.alice));
+        storage.saveTaskBook(original);
+        assertSameTasks(original, storage.readTaskBook().get());
+    }
+
+    @Test
+    public void read_fileWrittenByJaxb_sameAsJaxb() throws Exception {
+        ReadOnlyTaskBook expected = new XmlTaskBookStorage(SAMPLE_DATA_FILE).readTaskBook().get();
+        ReadOnlyTaskBook actual = new StaxTaskBookStorage(SAMPLE_DATA_FILE).readTaskBook().get();
+        assertSameTasks(new TaskBook(expected), actual);
+    }
+
+    @Test
+    public void save_readByJaxb_sameTasks() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "TempTaskBook.xml";
+        TaskBook original = new TypicalTestTasks().getTypicalTaskBook();
+        new StaxTaskBookStorage(filePath).saveTaskBook(original);
+        ReadOnlyTaskBook readBack = new TaskBook(new XmlTaskBookStorage(filePath).readTaskBook().get());
+        assertSameTasks(original, readBack);
+        assertSameIds(original, readBack);
+    }
+
+    private void assertSameTasks(ReadOnlyTaskBook expected, ReadOnlyTaskBook actual) {
+        assertEquals(expected.getEventList(), actual.getEventList());
+        assertEquals(expected.getDeadlineList(), actual.getDeadlineList());
+        assertEquals(expected.getTodoList(), actual.getTodoList());
+        assertEquals(expected.getTagList(), actual.getTagList());
+    }
+
+    private void assertSameIds(ReadOnlyTaskBook expected, ReadOnlyTaskBook actual) {
+        for (int i = 0; i < expected.getEventList().size(); i++) {
+            assertEquals(expected.getEventList().get(i).getId(), actual.getEventList().get(i).getId());
+        }
+        for (int i = 0; i < expected.getTodoList().size(); i++) {
+            assertEquals(expected.getTodoList().get(i).getId(), actual.getTodoList().get(i).getId());
+        }
+    }
+
+    @Test
+    public void save_emptyTaskBook_readBackEmpty() throws Exception {
+        File file = testFolder.newFile("empty.xml");
+        StaxTaskBookStorage storage = new StaxTaskBookStorage(file.getPath());
+        storage.saveTaskBook(new TaskBook());
+        assertEquals(0, storage.readTaskBook().get().getEventList().size());
+    }
+}
@@ -22,7 +22,9 @@ import java.io.IOException;
 
 import static junit.framework.TestCase.assertNotNull;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class StorageManagerTest {
 
@@ -77,10 +79,81 @@ public class StorageManagerTest {
         //Create a StorageManager while injecting a stub that throws an exception when the save method is called
         Storage storage = new StorageManager(new XmlTaskBookStorageExceptionThrowingStub("dummy"), new JsonUserPrefsStorage("dummy"));
         EventsCollector eventCollector = new EventsCollector();
-        storage.handleTaskBookChangedEvent(new TaskBookChangedEvent(new TaskBook()));
+        storage.handleTaskBookChangedEvent(new TaskBookChangedEvent(new TaskBook().snapshot()));
+        storage.flush();
         assertTrue(eventCollector.get(0) instanceof DataSavingExceptionEvent);
     }
 
+    @Test
+    public void handleTaskBookChangedEvent_burstOfChanges_savedOnce() throws Exception {
+        SaveCountingStub stub = new SaveCountingStub(getTempFilePath("burst"));
+        Storage storage = new StorageManager(stub, new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                60000, 60000);
+        storage.start();
+        TaskBook original = new TypicalTestTasks().getTypicalTaskBook();
+        for (int i = 0; i < 50; i++) {
+            storage.handleTaskBookChangedEvent(new TaskBookChangedEvent(original.snapshot()));
+        }
+        assertEquals(0, stub.saveCount);
+
+        storage.flush();
+        assertEquals(1, stub.saveCount);
+        assertEquals(original, new TaskBook(storage.readTaskBook().get()));
+
+        storage.flush();
+        assertEquals(1, stub.saveCount);
+        storage.stop();
+    }
+
+    @Test
+    public void stop_lastSaveFailed_exceptionThrownInsteadOfEvent() throws Exception {
+        Storage storage = new StorageManager(new XmlTaskBookStorageExceptionThrowingStub("dummy"),
+                new JsonUserPrefsStorage("dummy"), 60000, 60000);
+        EventsCollector eventCollector = new EventsCollector();
+        storage.start();
+        storage.handleTaskBookChangedEvent(new TaskBookChangedEvent(new TaskBook().snapshot()));
+        try {
+            storage.stop();
+            fail("the failed save was not reported");
+        } catch (IOException e) {
+            // expected
+        }
+        assertEquals(0, eventCollector.count(DataSavingExceptionEvent.class));
+    }
+
+    @Test
+    public void stop_pendingChange_savedAndSaverThreadEnded() throws Exception {
+        SaveCountingStub stub = new SaveCountingStub(getTempFilePath("stopped"));
+        Storage storage = new StorageManager(stub, new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                60000, 60000);
+        storage.start();
+        storage.handleTaskBookChangedEvent(new TaskBookChangedEvent(new TypicalTestTasks().getTypicalTaskBook()
+                .snapshot()));
+        storage.stop();
+
+        assertEquals(1, stub.saveCount);
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            assertFalse(thread.getName().equals("taskbook-saver"));
+        }
+    }
+
+
+    /**
+     * A Stub class that counts how many times the task book is written
+     */
+    class SaveCountingStub extends XmlTaskBookStorage {
+        int saveCount;
+
+        public SaveCountingStub(String filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveTaskBook(ReadOnlyTaskBook taskBook, String filePath) throws IOException {
+            saveCount++;
+            super.saveTaskBook(taskBook, filePath);
+        }
+    }
 
     /**
      * A Stub class to throw an exception when the save method is called
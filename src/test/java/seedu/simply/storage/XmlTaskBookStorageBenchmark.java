@@ -0,0 +1,146 @@
+package seedu.simply.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.Marshaller;
+
+import seedu.simply.model.TaskBook;
+import seedu.simply.model.tag.Tag;
+import seedu.simply.model.tag.UniqueTagList;
+import seedu.simply.model.task.Date;
+import seedu.simply.model.task.End;
+import seedu.simply.model.task.Name;
+import seedu.simply.model.task.Start;
+import seedu.simply.model.task.Task;
+
+/**
+ * Measures the cost of one {@link XmlTaskBookStorage#saveTaskBook(seedu.simply.model.ReadOnlyTaskBook)}
+ * against the old way of saving, which created a new {@link JAXBContext} for every save, and compares
+ * saving and loading with {@link StaxTaskBookStorage}.
+ *
+ * Not a unit test; run it with {@code main}, optionally passing the number of tasks and the number of saves.
+ */
+public class XmlTaskBookStorageBenchmark {
+
+    private static final int DEFAULT_TASKS = 300;
+    private static final int DEFAULT_SAVES = 200;
+
+    public static void main(String[] args) throws Exception {
+        int tasks = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_TASKS;
+        int saves = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SAVES;
+
+        File file = File.createTempFile("benchmark", ".xml");
+        file.deleteOnExit();
+        TaskBook taskBook = sampleTaskBook(tasks);
+        XmlTaskBookStorage storage = new XmlTaskBookStorage(file.getPath());
+
+        Runnable uncached = () -> saveWithNewContext(taskBook, file);
+        Runnable cached = () -> {
+            try {
+                storage.saveTaskBook(taskBook);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        };
+
+        printSetup(tasks + " tasks, " + saves + " saves");
+        report("new JAXBContext per save", time(uncached, saves));
+        report("XmlTaskBookStorage.saveTaskBook", time(cached, saves));
+
+        StaxTaskBookStorage staxStorage = new StaxTaskBookStorage(file.getPath());
+        report("StaxTaskBookStorage.saveTaskBook", time(() -> {
+            try {
+                staxStorage.saveTaskBook(taskBook);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }, saves));
+        report("XmlTaskBookStorage.readTaskBook", time(() -> load(storage), saves));
+        report("StaxTaskBookStorage.readTaskBook", time(() -> load(staxStorage), saves));
+    }
+
+    /** Loads the task book the way MainApp does, into a model TaskBook. */
+    private static void load(TaskBookStorage storage) {
+        try {
+            new TaskBook(storage.readTaskBook().get());
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns a task book with {@code size} tasks spread over events, deadlines and todos.
+     * The lists are set directly rather than task by task, so that large books are quick to build.
+     */
+    public static TaskBook sampleTaskBook(int size) throws Exception {
+        final List<Task> events = new ArrayList<>();
+        final List<Task> deadlines = new ArrayList<>();
+        final List<Task> todos = new ArrayList<>();
+        final Set<Tag> allTags = new LinkedHashSet<>();
+        for (int i = 0; i < size; i++) {
+            String date = String.format("%02d%02d30", i % 28 + 1, i % 12 + 1);
+            UniqueTagList tags = new UniqueTagList(new Tag("tag" + i % 7), new Tag("project" + i % 3));
+            allTags.addAll(tags.toSet());
+            int category = i % 3 + 1;
+            if (category == 1) {
+                events.add(new Task(new Name("Meeting number " + i), new Date(date),
+                        new Start(String.format("%02d00", i % 12)), new End(String.format("%02d30", i % 12 + 12)),
+                        1, 0, i % 5 == 0, tags));
+            } else if (category == 2) {
+                deadlines.add(new Task(new Name("Submit report " + i), new Date(date), new Start("no start"),
+                        new End("2359"), 2, 0, i % 5 == 0, tags));
+            } else {
+                todos.add(new Task(new Name("Buy groceries " + i), new Date("no date"), new Start("no start"),
+                        new End("no end"), 3, 0, i % 5 == 0, tags));
+            }
+        }
+        TaskBook taskBook = new TaskBook();
+        taskBook.setEvents(events);
+        taskBook.setDeadlines(deadlines);
+        taskBook.setTodo(todos);
+        taskBook.setTags(allTags);
+        return taskBook;
+    }
+
+    private static void saveWithNewContext(TaskBook taskBook, File file) {
+        try {
+            JAXBContext context = JAXBContext.newInstance(XmlSerializableTaskBook.class);
+            Marshaller marshaller = context.createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+            marshaller.marshal(new XmlSerializableTaskBook(taskBook), file);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Prints what is measured and the machine it runs on, as the timings only compare with others taken on
+     * the same machine.
+     */
+    public static void printSetup(String setup) {
+        System.out.println(setup + ", Java " + System.getProperty("java.version") + ", "
+                + Runtime.getRuntime().availableProcessors() + " processors");
+    }
+
+    /** Returns the mean time of one run in nanoseconds, after an equal number of warm-up runs. */
+    public static long time(Runnable action, int runs) {
+        for (int i = 0; i < runs; i++) {
+            action.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < runs; i++) {
+            action.run();
+        }
+        return (System.nanoTime() - start) / runs;
+    }
+
+    public static void report(String name, long nanos) {
+        System.out.println(String.format("%-40s %10.3f ms", name, nanos / 1e6));
+    }
+}
@@ -87,6 +87,23 @@ public class XmlTaskBookStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveTaskBook_taskIds_preserved() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "TempTaskBook.xml";
+        TaskBook original = new TypicalTestTasks().getTypicalTaskBook();
+        XmlTaskBookStorage xmlTaskBookStorage = new XmlTaskBookStorage(filePath);
+
+        xmlTaskBookStorage.saveTaskBook(original, filePath);
+        ReadOnlyTaskBook readBack = xmlTaskBookStorage.readTaskBook(filePath).get();
+
+        for (int i = 0; i < original.getEventList().size(); i++) {
+            assertEquals(original.getEventList().get(i).getId(), readBack.getEventList().get(i).getId());
+        }
+        for (int i = 0; i < original.getTodoList().size(); i++) {
+            assertEquals(original.getTodoList().get(i).getId(), readBack.getTodoList().get(i).getId());
+        }
+    }
+
     @Test
     public void saveTaskBook_nullTaskBook_assertionFailure() throws IOException {
         thrown.expect(AssertionError.class);
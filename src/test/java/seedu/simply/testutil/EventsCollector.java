@@ -39,4 +39,11 @@ public class EventsCollector{
     public BaseEvent get(int index){
         return events.get(index);
     }
+
+    /**
+     * Returns the number of collected events of the given type
+     */
+    public int count(Class<? extends BaseEvent> eventType){
+        return (int) events.stream().filter(eventType::isInstance).count();
+    }
 }
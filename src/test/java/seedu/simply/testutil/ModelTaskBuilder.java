@@ -0,0 +1,80 @@
+package seedu.simply.testutil;
+
+import seedu.simply.commons.exceptions.IllegalValueException;
+import seedu.simply.model.tag.Tag;
+import seedu.simply.model.tag.UniqueTagList;
+import seedu.simply.model.task.Date;
+import seedu.simply.model.task.End;
+import seedu.simply.model.task.Name;
+import seedu.simply.model.task.Start;
+import seedu.simply.model.task.Task;
+
+/**
+ * Builds a model {@link Task}, rather than the {@link TestTask} of {@link TaskBuilder}, for tests of the model
+ * itself. Unless told otherwise it builds an uncompleted to-do named "task".
+ */
+public class ModelTaskBuilder {
+
+    private Name name;
+    private Date date;
+    private Start start;
+    private End end;
+    private int taskCategory = 3;
+    private int overdue = 0;
+    private boolean isCompleted = false;
+    private final UniqueTagList tags = new UniqueTagList();
+
+    public ModelTaskBuilder() throws IllegalValueException {
+        this.name = new Name("task");
+        this.date = new Date("no date");
+        this.start = new Start("no start");
+        this.end = new End("no end");
+    }
+
+    public ModelTaskBuilder withName(String name) throws IllegalValueException {
+        this.name = new Name(name);
+        return this;
+    }
+
+    public ModelTaskBuilder withTags(String ... tags) throws IllegalValueException {
+        for (String tag : tags) {
+            this.tags.add(new Tag(tag));
+        }
+        return this;
+    }
+
+    public ModelTaskBuilder withDate(String date) throws IllegalValueException {
+        this.date = new Date(date);
+        return this;
+    }
+
+    public ModelTaskBuilder withStart(String start) throws IllegalValueException {
+        this.start = new Start(start);
+        return this;
+    }
+
+    public ModelTaskBuilder withEnd(String end) throws IllegalValueException {
+        this.end = new End(end);
+        return this;
+    }
+
+    public ModelTaskBuilder withTaskCat(int taskCategory) {
+        this.taskCategory = taskCategory;
+        return this;
+    }
+
+    public ModelTaskBuilder withOverdue(int overdue) {
+        this.overdue = overdue;
+        return this;
+    }
+
+    public ModelTaskBuilder withIsCompleted(boolean isCompleted) {
+        this.isCompleted = isCompleted;
+        return this;
+    }
+
+    /** Returns a new task, with an id of its own, each time it is called. */
+    public Task build() {
+        return new Task(name, date, start, end, taskCategory, overdue, isCompleted, new UniqueTagList(tags));
+    }
+}
@@ -50,6 +50,11 @@ public class TestTodo implements ReadOnlyTask {
     	this.isCompleted = isCompleted;
     }
 
+    @Override
+    public long getId() {
+        return Task.NO_ID;
+    }
+
     @Override
     public Name getName() {
         return name;
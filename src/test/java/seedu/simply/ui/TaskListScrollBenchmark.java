@@ -0,0 +1,86 @@
+package seedu.simply.ui;
+
+import static seedu.simply.storage.XmlTaskBookStorageBenchmark.report;
+import static seedu.simply.storage.XmlTaskBookStorageBenchmark.sampleTaskBook;
+import static seedu.simply.storage.XmlTaskBookStorageBenchmark.time;
+
+import java.util.function.Supplier;
+
+import org.testfx.api.FxToolkit;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Scene;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.stage.Stage;
+import seedu.simply.model.TaskBook;
+import seedu.simply.model.task.ReadOnlyTask;
+
+/**
+ * Times scrolling through and refreshing a list of events, with the event panel's cells, which keep one
+ * card each, against cells loading a new card from FXML for every update, as they did before.
+ *
+ * Not a unit test, and it needs a display; run it with {@code main}, optionally passing the number of events
+ * and the number of runs.
+ */
+public class TaskListScrollBenchmark {
+
+    private static final int DEFAULT_EVENTS = 10000;
+    private static final int DEFAULT_RUNS = 200;
+    private static final int SCROLL_STEP = 7;
+
+    public static void main(String[] args) throws Exception {
+        int tasks = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_EVENTS;
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_RUNS;
+        TaskBook taskBook = sampleTaskBook(3 * tasks); // a third of the sample tasks are events
+        ObservableList<ReadOnlyTask> events = FXCollections.observableArrayList(taskBook.getEventList());
+
+        FxToolkit.registerPrimaryStage();
+        FxToolkit.setupFixture(() -> {
+            System.out.println(events.size() + " events, " + runs + " runs");
+            EventListPanel panel = new EventListPanel();
+            run("card per cell", events, runs, () -> panel.new EventListViewCell());
+            run("card per update", events, runs, CardPerUpdateCell::new);
+        });
+        FxToolkit.cleanupStages();
+        System.exit(0);
+    }
+
+    private static void run(String name, ObservableList<ReadOnlyTask> events, int runs,
+            Supplier<ListCell<ReadOnlyTask>> cells) {
+        ListView<ReadOnlyTask> listView = new ListView<>(events);
+        listView.setCellFactory(view -> cells.get());
+        Stage stage = new Stage();
+        stage.setScene(new Scene(listView, 400, 800));
+        stage.show();
+        listView.layout();
+
+        int[] position = {0};
+        report(name + ", scroll", time(() -> {
+            position[0] = (position[0] + SCROLL_STEP) % events.size();
+            listView.scrollTo(position[0]);
+            listView.layout();
+        }, runs));
+        report(name + ", refresh", time(() -> {
+            listView.refresh();
+            listView.layout();
+        }, runs));
+        stage.close();
+    }
+
+    /** Shows each event the way the event list's cells did before they kept their card. */
+    private static class CardPerUpdateCell extends ListCell<ReadOnlyTask> {
+        @Override
+        protected void updateItem(ReadOnlyTask event, boolean empty) {
+            super.updateItem(event, empty);
+            if (empty || event == null) {
+                setGraphic(null);
+            } else {
+                EventCard card = EventCard.load();
+                card.bind(event, getIndex() + 1);
+                setGraphic(card.getLayout());
+            }
+        }
+    }
+}